@@ -0,0 +1,78 @@
+package com.ecommerce.adapter.persistence.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Catalog-wide change counter used to validate derived views such as listings and search results.
+ * Every product write bumps the generation; the boot epoch is part of the tag so a restart
+ * can never reuse a generation number a client has already seen.
+ * The counter is per node, just like {@link ProductCache}, so a node never hears about writes made
+ * on another one. To bound how long such a node keeps answering 304, a generation older than the
+ * maximum age rolls over to a new one on the next read.
+ */
+public class CatalogVersion {
+
+    private final Clock clock;
+    private final Duration maxAge;
+    private final long epoch;
+    private final AtomicReference<Stamp> current;
+
+    public CatalogVersion(Duration maxAge) {
+        this(Clock.systemUTC(), maxAge);
+    }
+
+    CatalogVersion(Clock clock, Duration maxAge) {
+        if (maxAge.isNegative() || maxAge.isZero()) {
+            throw new IllegalArgumentException("Catalog version max age must be positive");
+        }
+        this.clock = clock;
+        this.maxAge = maxAge;
+        this.epoch = clock.millis();
+        this.current = new AtomicReference<>(new Stamp(epoch, 0, clock.instant()));
+    }
+
+    public Stamp current() {
+        Stamp stamp = current.get();
+        Instant now = clock.instant();
+        if (now.isBefore(stamp.startedAt.plus(maxAge))) {
+            return stamp;
+        }
+        // Only one reader rolls the generation over; the others see its stamp
+        Stamp next = new Stamp(epoch, stamp.generation + 1, now);
+        return current.compareAndSet(stamp, next) ? next : current.get();
+    }
+
+    public void bump() {
+        Instant now = clock.instant();
+        current.updateAndGet(previous -> new Stamp(epoch, previous.generation + 1, now));
+    }
+
+    /**
+     * Immutable generation/timestamp pair, read once per request so validators stay consistent
+     */
+    public static final class Stamp {
+        private final long epoch;
+        private final long generation;
+        private final Instant startedAt;
+        private final Instant lastModified;
+
+        private Stamp(long epoch, long generation, Instant startedAt) {
+            this.epoch = epoch;
+            this.generation = generation;
+            this.startedAt = startedAt;
+            // HTTP dates carry whole seconds only
+            this.lastModified = startedAt.truncatedTo(ChronoUnit.SECONDS);
+        }
+
+        public long getGeneration() { return generation; }
+        public Instant getLastModified() { return lastModified; }
+
+        public String getETag() {
+            return "W/\"catalog-" + Long.toString(epoch, 36) + "-" + generation + "\"";
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.ecommerce.adapter.persistence.cache;
+
+import com.ecommerce.core.domain.product.entity.Product;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Bounded read-through near-cache for catalog products.
+ * Entries are keyed by id with secondary slug and SKU lookups, evicted least-recently-used
+ * once maxSize is reached and expired after the configured time-to-live.
+ * Callers always receive a copy, so mutating a returned product never leaks into the cache.
+ */
+public class ProductCache implements MeterBinder {
+
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Long, Entry> entries;
+    private final Map<String, Long> idsBySlug = new HashMap<>();
+    private final Map<String, Long> idsBySku = new HashMap<>();
+
+    // Bumped on every invalidation so loads that raced with a write are not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ProductCache(int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Product cache size must be positive");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public Optional<Product> get(Long id, Function<Long, Optional<Product>> loader) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        Product cached = lookup(id);
+        if (cached != null) {
+            return Optional.of(cached.copy());
+        }
+        return load(() -> loader.apply(id));
+    }
+
+    /**
+     * Multi-get: serves cached ids from memory and loads all misses with a single loader call.
+     * The result is keyed by id; ids the loader does not return are absent.
+     */
+    public Map<Long, Product> getAll(Collection<Long> ids, Function<Collection<Long>, List<Product>> loader) {
+        Map<Long, Product> found = new LinkedHashMap<>();
+        LinkedHashSet<Long> missing = new LinkedHashSet<>();
+        lock.lock();
+        try {
+            for (Long id : ids) {
+                if (id == null || found.containsKey(id) || missing.contains(id)) {
+                    continue;
+                }
+                Product cached = liveProduct(id);
+                if (cached != null) {
+                    found.put(id, cached.copy());
+                } else {
+                    missing.add(id);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (!missing.isEmpty()) {
+            misses.add(missing.size());
+            long observedGeneration = generation.get();
+            for (Product product : loader.apply(new ArrayList<>(missing))) {
+                put(product, observedGeneration);
+                found.put(product.getId(), product.copy());
+            }
+        }
+        return found;
+    }
+
+    public Optional<Product> getBySlug(String slug, Function<String, Optional<Product>> loader) {
+        if (slug == null) {
+            return Optional.empty();
+        }
+        Product cached = lookupByKey(idsBySlug, slug);
+        if (cached != null) {
+            return Optional.of(cached.copy());
+        }
+        return load(() -> loader.apply(slug));
+    }
+
+    public Optional<Product> getBySku(String sku, Function<String, Optional<Product>> loader) {
+        if (sku == null) {
+            return Optional.empty();
+        }
+        Product cached = lookupByKey(idsBySku, sku);
+        if (cached != null) {
+            return Optional.of(cached.copy());
+        }
+        return load(() -> loader.apply(sku));
+    }
+
+    public void put(Product product) {
+        put(product, generation.get());
+    }
+
+    public void invalidate(Long id) {
+        if (id == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            Entry removed = entries.remove(id);
+            if (removed != null) {
+                unindex(removed.product);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.clear();
+            idsBySlug.clear();
+            idsBySku.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long hitCount() { return hits.sum(); }
+    public long missCount() { return misses.sum(); }
+    public long evictionCount() { return evictions.sum(); }
+
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("product.cache.gets", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Product cache lookups served from memory")
+                .register(registry);
+        FunctionCounter.builder("product.cache.gets", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Product cache lookups that went to the database")
+                .register(registry);
+        FunctionCounter.builder("product.cache.evictions", evictions, LongAdder::sum)
+                .description("Product cache entries evicted by size or expiry")
+                .register(registry);
+        Gauge.builder("product.cache.size", this, ProductCache::size)
+                .description("Number of products currently cached")
+                .register(registry);
+        Gauge.builder("product.cache.hit.ratio", this, ProductCache::hitRatio)
+                .description("Ratio of product lookups served from the cache")
+                .register(registry);
+    }
+
+    private Optional<Product> load(Supplier<Optional<Product>> loader) {
+        misses.increment();
+        long observedGeneration = generation.get();
+        Optional<Product> loaded = loader.get();
+        loaded.ifPresent(product -> put(product, observedGeneration));
+        return loaded.map(Product::copy);
+    }
+
+    private void put(Product product, long observedGeneration) {
+        if (product == null || product.getId() == null) {
+            return;
+        }
+        Product snapshot = product.copy();
+        lock.lock();
+        try {
+            if (generation.get() != observedGeneration) {
+                // A write happened while this value was being loaded, so it may be stale
+                return;
+            }
+            Entry previous = entries.put(snapshot.getId(), new Entry(snapshot, System.nanoTime() + ttlNanos));
+            if (previous != null) {
+                unindex(previous.product);
+            }
+            index(snapshot);
+            evictOverflow();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Product lookup(Long id) {
+        lock.lock();
+        try {
+            return liveProduct(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Product lookupByKey(Map<String, Long> index, String key) {
+        lock.lock();
+        try {
+            Long id = index.get(key);
+            if (id == null) {
+                return null;
+            }
+            return liveProduct(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Must be called with the lock held
+    private Product liveProduct(Long id) {
+        Entry entry = entries.get(id);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(id);
+            unindex(entry.product);
+            evictions.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.product;
+    }
+
+    // Must be called with the lock held
+    private void evictOverflow() {
+        if (entries.size() <= maxSize) {
+            return;
+        }
+        long now = System.nanoTime();
+        List<Long> expired = new ArrayList<>();
+        for (Map.Entry<Long, Entry> e : entries.entrySet()) {
+            if (e.getValue().isExpired(now)) {
+                expired.add(e.getKey());
+            }
+        }
+        for (Long id : expired) {
+            unindex(entries.remove(id).product);
+            evictions.increment();
+        }
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            Entry entry = eldest.next().getValue();
+            eldest.remove();
+            unindex(entry.product);
+            evictions.increment();
+        }
+    }
+
+    private void index(Product product) {
+        if (product.getSlug() != null) {
+            idsBySlug.put(product.getSlug(), product.getId());
+        }
+        if (product.getSku() != null) {
+            idsBySku.put(product.getSku(), product.getId());
+        }
+    }
+
+    private void unindex(Product product) {
+        if (product.getSlug() != null) {
+            idsBySlug.remove(product.getSlug(), product.getId());
+        }
+        if (product.getSku() != null) {
+            idsBySku.remove(product.getSku(), product.getId());
+        }
+    }
+
+    private static final class Entry {
+        private final Product product;
+        private final long expiresAtNanos;
+
+        private Entry(Product product, long expiresAtNanos) {
+            this.product = product;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
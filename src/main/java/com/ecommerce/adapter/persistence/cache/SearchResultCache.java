@@ -0,0 +1,325 @@
+package com.ecommerce.adapter.persistence.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.data.domain.Pageable;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded cache of search result pages keyed by the normalized request (query, filters, sort and page).
+ * Entries keep only the matching ids, their scores and the total hit count; callers re-read the
+ * documents by id on a hit, so a cached page never serves stale product data.
+ * Every entry is tagged with the catalog generation it was computed at and is ignored once any
+ * product write has bumped it. Like {@link CatalogVersion} the cache is per node, so the time-to-live
+ * bounds how long a write made on another node can go unseen.
+ */
+public class SearchResultCache implements MeterBinder {
+
+    private final CatalogVersion catalogVersion;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<Key, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SearchResultCache(CatalogVersion catalogVersion, int maxSize, Duration ttl) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Search result cache size must be positive");
+        }
+        this.catalogVersion = catalogVersion;
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Serves the page for key from its cached hits when they are still current; otherwise runs the
+     * search, returns its result as is and caches its compact form for the next caller
+     *
+     * @param search  runs the query against the search backend
+     * @param compact reduces a search result to its ids, scores and total
+     * @param hydrate rebuilds a result from cached hits
+     */
+    public <T> T get(Key key, Supplier<T> search, Function<T, Hits> compact, Function<Hits, T> hydrate) {
+        long generation = catalogVersion.current().getGeneration();
+        Hits cached = lookup(key, generation);
+        if (cached != null) {
+            return hydrate.apply(cached);
+        }
+        misses.increment();
+        T result = search.get();
+        Hits loaded = compact.apply(result);
+        if (loaded != null) {
+            // Tagged with the generation observed before searching, so a write that raced with the
+            // search leaves an entry that is already out of date
+            put(key, new Entry(loaded, generation, System.nanoTime() + ttlNanos));
+        }
+        return result;
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long hitCount() { return hits.sum(); }
+    public long missCount() { return misses.sum(); }
+    public long evictionCount() { return evictions.sum(); }
+
+    public double hitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("search.result.cache.gets", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Searches served from cached result ids")
+                .register(registry);
+        FunctionCounter.builder("search.result.cache.gets", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Searches that went to the search backend")
+                .register(registry);
+        FunctionCounter.builder("search.result.cache.evictions", evictions, LongAdder::sum)
+                .description("Search result entries evicted by size, expiry or catalog change")
+                .register(registry);
+        Gauge.builder("search.result.cache.size", this, SearchResultCache::size)
+                .description("Number of search result pages currently cached")
+                .register(registry);
+    }
+
+    private Hits lookup(Key key, long generation) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.generation != generation || entry.isExpired(System.nanoTime())) {
+                entries.remove(key);
+                evictions.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.hits;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(Key key, Entry entry) {
+        lock.lock();
+        try {
+            entries.put(key, entry);
+            if (entries.size() <= maxSize) {
+                return;
+            }
+            long current = catalogVersion.current().getGeneration();
+            long now = System.nanoTime();
+            entries.values().removeIf(e -> {
+                boolean stale = e.generation != current || e.isExpired(now);
+                if (stale) {
+                    evictions.increment();
+                }
+                return stale;
+            });
+            Iterator<Entry> eldest = entries.values().iterator();
+            while (entries.size() > maxSize && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * One cached page: hit ids in rank order, their scores when the backend reports them, and the
+     * total number of matches for the query
+     */
+    public static final class Hits {
+        private final long[] ids;
+        private final float[] scores;
+        private final long totalHits;
+        private final boolean totalExact;
+
+        private Hits(long[] ids, float[] scores, long totalHits, boolean totalExact) {
+            this.ids = ids;
+            this.scores = scores;
+            this.totalHits = totalHits;
+            this.totalExact = totalExact;
+        }
+
+        public static Hits of(List<Long> ids, float[] scores, long totalHits) {
+            return of(ids, scores, totalHits, true);
+        }
+
+        /**
+         * @param totalExact false when the backend stopped counting early and totalHits is a lower bound
+         */
+        public static Hits of(List<Long> ids, float[] scores, long totalHits, boolean totalExact) {
+            if (scores != null && scores.length != ids.size()) {
+                throw new IllegalArgumentException("Expected one score per hit");
+            }
+            long[] compact = ids.stream().mapToLong(Long::longValue).toArray();
+            return new Hits(compact, scores != null ? scores.clone() : null, totalHits, totalExact);
+        }
+
+        public List<Long> getIds() {
+            return Arrays.stream(ids).boxed().collect(Collectors.toList());
+        }
+
+        public long getId(int i) {
+            return ids[i];
+        }
+
+        /**
+         * Score of the hit at position i, or NaN when the backend did not report scores
+         */
+        public float getScore(int i) {
+            return scores != null ? scores[i] : Float.NaN;
+        }
+
+        public long getTotalHits() { return totalHits; }
+
+        public boolean isTotalExact() { return totalExact; }
+
+        public int size() { return ids.length; }
+    }
+
+    /**
+     * Normalized cache key. Free text is lower-cased with whitespace collapsed, term lists are
+     * de-duplicated and sorted, and decimals drop trailing zeros, so requests that search the
+     * same thing share one entry.
+     */
+    public static final class Key {
+        private final String value;
+
+        private Key(String value) {
+            this.value = value;
+        }
+
+        public static Builder builder(String scope) {
+            return new Builder(scope);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || (o instanceof Key && value.equals(((Key) o).value));
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return value;
+        }
+
+        public static final class Builder {
+            private final StringBuilder value;
+
+            private Builder(String scope) {
+                this.value = new StringBuilder(scope);
+            }
+
+            public Builder text(String name, String text) {
+                String normalized = text == null ? null
+                        : text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+                return append(name, normalized == null || normalized.isEmpty() ? null : normalized);
+            }
+
+            public Builder terms(String name, Collection<?> terms) {
+                if (terms == null || terms.isEmpty()) {
+                    return append(name, null);
+                }
+                TreeSet<String> sorted = terms.stream()
+                        .filter(Objects::nonNull)
+                        .map(term -> term.toString().trim())
+                        .filter(term -> !term.isEmpty())
+                        .collect(Collectors.toCollection(TreeSet::new));
+                return append(name, sorted.isEmpty() ? null : String.join(",", sorted));
+            }
+
+            public Builder value(String name, Object value) {
+                if (value instanceof BigDecimal) {
+                    return append(name, ((BigDecimal) value).stripTrailingZeros().toPlainString());
+                }
+                return append(name, value == null ? null : value.toString());
+            }
+
+            public Builder page(Pageable pageable) {
+                return value("page", pageable.getPageNumber())
+                        .value("size", pageable.getPageSize())
+                        .value("sort", pageable.getSort().isSorted() ? pageable.getSort() : null);
+            }
+
+            public Key build() {
+                return new Key(value.toString());
+            }
+
+            // Length-prefixed so values containing separators cannot collide
+            private Builder append(String name, String part) {
+                value.append('|').append(name).append('=');
+                if (part != null) {
+                    value.append(part.length()).append(':').append(part);
+                }
+                return this;
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Hits hits;
+        private final long generation;
+        private final long expiresAtNanos;
+
+        private Entry(Hits hits, long generation, long expiresAtNanos) {
+            this.hits = hits;
+            this.generation = generation;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
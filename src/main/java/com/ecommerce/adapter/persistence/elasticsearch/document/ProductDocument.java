@@ -8,6 +8,8 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.elasticsearch.annotations.Document;
 import org.springframework.data.elasticsearch.annotations.Field;
 import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.InnerField;
+import org.springframework.data.elasticsearch.annotations.MultiField;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -41,7 +43,9 @@ public class ProductDocument {
     @Field(type = FieldType.Keyword)
     private String categoryId;
 
-    @Field(type = FieldType.Text)
+    // Keyword subfields back the category and brand facets
+    @MultiField(mainField = @Field(type = FieldType.Text),
+                otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword))
     private String categoryName;
 
     @Field(type = FieldType.Keyword)
@@ -53,7 +57,8 @@ public class ProductDocument {
     @Field(type = FieldType.Keyword)
     private List<String> tags;
 
-    @Field(type = FieldType.Text)
+    @MultiField(mainField = @Field(type = FieldType.Text),
+                otherFields = @InnerField(suffix = "keyword", type = FieldType.Keyword))
     private String brand;
 
     @Field(type = FieldType.Boolean)
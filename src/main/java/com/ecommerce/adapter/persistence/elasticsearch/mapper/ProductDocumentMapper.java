@@ -27,8 +27,8 @@ public interface ProductDocumentMapper {
     @Mapping(target = "vendorName", ignore = true)
     @Mapping(source = "brand", target = "brand")
     @Mapping(source = "active", target = "active")
-    @Mapping(target = "rating", constant = "0.0")
-    @Mapping(target = "reviewCount", constant = "0")
+    @Mapping(target = "rating", expression = "java(product.getReviews().getAverageRating().doubleValue())")
+    @Mapping(target = "reviewCount", expression = "java(product.getReviews().getReviewCount())")
     @Mapping(source = "createdAt", target = "createdAt")
     @Mapping(source = "updatedAt", target = "updatedAt")
     @Mapping(target = "tags", expression = "java(generateTagsFromProduct(product))")
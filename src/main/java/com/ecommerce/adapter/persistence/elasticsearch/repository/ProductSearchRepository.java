@@ -13,8 +13,8 @@ import java.util.List;
 @Repository
 public interface ProductSearchRepository extends ElasticsearchRepository<ProductDocument, String> {
 
-    // Full-text search across name and description
-    @Query("{\"multi_match\": {\"query\": \"?0\", \"fields\": [\"name^2\", \"description\", \"brand\"]}}")
+    // Full-text search across name and description; typos within the AUTO edit distance still match
+    @Query("{\"multi_match\": {\"query\": \"?0\", \"fields\": [\"name^2\", \"description\", \"brand\"], \"fuzziness\": \"AUTO\", \"prefix_length\": 1}}")
     Page<ProductDocument> findByFullTextSearch(String searchTerm, Pageable pageable);
 
     // Search by category
@@ -33,7 +33,7 @@ public interface ProductSearchRepository extends ElasticsearchRepository<Product
     Page<ProductDocument> findByBrandAndActiveTrue(String brand, Pageable pageable);
 
     // Advanced search with multiple filters
-    @Query("{\"bool\": {\"must\": [{\"multi_match\": {\"query\": \"?0\", \"fields\": [\"name^2\", \"description\", \"brand\"]}}, {\"term\": {\"active\": true}}], \"filter\": [{\"range\": {\"price\": {\"gte\": ?1, \"lte\": ?2}}}]}}")
+    @Query("{\"bool\": {\"must\": [{\"multi_match\": {\"query\": \"?0\", \"fields\": [\"name^2\", \"description\", \"brand\"], \"fuzziness\": \"AUTO\", \"prefix_length\": 1}}, {\"term\": {\"active\": true}}], \"filter\": [{\"range\": {\"price\": {\"gte\": ?1, \"lte\": ?2}}}]}}")
     Page<ProductDocument> findBySearchTermAndPriceRange(String searchTerm, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable);
 
     // Search for products with high rating
@@ -0,0 +1,347 @@
+package com.ecommerce.adapter.persistence.implementation;
+
+import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.shared.pagination.Cursor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Immutable, fully indexed view of the in-memory catalog.
+ * Products are stored in id order; every secondary index refers to positions in that array,
+ * so a snapshot can be read from any number of threads without locking.
+ * Writers build a new snapshot and publish it atomically.
+ */
+final class CatalogSnapshot {
+
+    static final CatalogSnapshot EMPTY = of(Collections.emptyList());
+
+    private static final int[] NO_POSITIONS = new int[0];
+
+    enum Flag { ACTIVE, FEATURED }
+
+    private final Product[] products;
+    private final long[] ids;
+    private final Map<String, Integer> positionBySlug;
+    private final Map<String, Integer> positionBySku;
+    private final Map<Long, int[]> positionsByCategory;
+    private final BitSet active;
+    private final BitSet featured;
+    private final int[] positionsByPrice;
+    private final BigDecimal[] sortedPrices;
+    private final int[] positionsNewestFirst;
+
+    private CatalogSnapshot(Product[] products) {
+        this.products = products;
+        int n = products.length;
+        this.ids = new long[n];
+        Map<String, Integer> slugs = new HashMap<>();
+        Map<String, Integer> skus = new HashMap<>();
+        Map<Long, List<Integer>> categories = new HashMap<>();
+        this.active = new BitSet(n);
+        this.featured = new BitSet(n);
+        List<Integer> priced = new ArrayList<>(n);
+
+        for (int i = 0; i < n; i++) {
+            Product product = products[i];
+            ids[i] = product.getId();
+            if (product.getSlug() != null) {
+                slugs.put(product.getSlug(), i);
+            }
+            if (product.getSku() != null) {
+                skus.put(product.getSku(), i);
+            }
+            if (product.getCategoryId() != null) {
+                categories.computeIfAbsent(product.getCategoryId(), k -> new ArrayList<>()).add(i);
+            }
+            active.set(i, product.isActive());
+            featured.set(i, product.isFeatured());
+            if (product.getPrice() != null) {
+                priced.add(i);
+            }
+        }
+
+        this.positionBySlug = Map.copyOf(slugs);
+        this.positionBySku = Map.copyOf(skus);
+        Map<Long, int[]> byCategory = new HashMap<>();
+        categories.forEach((categoryId, positions) ->
+                byCategory.put(categoryId, positions.stream().mapToInt(Integer::intValue).toArray()));
+        this.positionsByCategory = Map.copyOf(byCategory);
+
+        priced.sort(Comparator.comparing((Integer i) -> products[i].getPrice().getAmount()));
+        this.positionsByPrice = priced.stream().mapToInt(Integer::intValue).toArray();
+        this.sortedPrices = new BigDecimal[positionsByPrice.length];
+        for (int i = 0; i < positionsByPrice.length; i++) {
+            sortedPrices[i] = products[positionsByPrice[i]].getPrice().getAmount();
+        }
+
+        Integer[] newestFirst = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            newestFirst[i] = i;
+        }
+        // Positions follow id order, so comparing them breaks created_at ties by id
+        Arrays.sort(newestFirst, Comparator.comparing((Integer i) -> createdAt(products[i]))
+                .thenComparing(i -> i)
+                .reversed());
+        this.positionsNewestFirst = Arrays.stream(newestFirst).mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Builds a snapshot from the given products; the snapshot keeps private copies
+     */
+    static CatalogSnapshot of(Collection<Product> source) {
+        Map<Long, Product> byId = new LinkedHashMap<>();
+        for (Product product : source) {
+            byId.put(product.getId(), product.copy());
+        }
+        return indexed(byId.values().toArray(new Product[0]));
+    }
+
+    CatalogSnapshot with(Product product) {
+        int position = positionOf(product.getId());
+        Product[] next;
+        if (position >= 0) {
+            next = products.clone();
+            next[position] = product.copy();
+        } else {
+            next = Arrays.copyOf(products, products.length + 1);
+            next[products.length] = product.copy();
+        }
+        return indexed(next);
+    }
+
+    CatalogSnapshot without(Long id) {
+        int position = positionOf(id);
+        if (position < 0) {
+            return this;
+        }
+        Product[] next = new Product[products.length - 1];
+        System.arraycopy(products, 0, next, 0, position);
+        System.arraycopy(products, position + 1, next, position, products.length - position - 1);
+        return indexed(next);
+    }
+
+    // Takes ownership of the array, whose products must already be private copies
+    private static CatalogSnapshot indexed(Product[] owned) {
+        Arrays.sort(owned, Comparator.comparing(Product::getId));
+        return new CatalogSnapshot(owned);
+    }
+
+    int size() {
+        return products.length;
+    }
+
+    boolean contains(Long id) {
+        return positionOf(id) >= 0;
+    }
+
+    Optional<Product> byId(Long id) {
+        return copyAt(positionOf(id));
+    }
+
+    Optional<Product> bySlug(String slug) {
+        return slug == null ? Optional.empty() : copyAt(positionBySlug.getOrDefault(slug, -1));
+    }
+
+    Optional<Product> bySku(String sku) {
+        return sku == null ? Optional.empty() : copyAt(positionBySku.getOrDefault(sku, -1));
+    }
+
+    List<Product> byIds(Collection<Long> requested) {
+        List<Product> result = new ArrayList<>(requested.size());
+        Set<Long> seen = new HashSet<>();
+        for (Long id : requested) {
+            int position = positionOf(id);
+            if (position >= 0 && seen.add(id)) {
+                result.add(products[position].copy());
+            }
+        }
+        return result;
+    }
+
+    List<Product> all() {
+        List<Product> result = new ArrayList<>(products.length);
+        for (Product product : products) {
+            result.add(product.copy());
+        }
+        return result;
+    }
+
+    /**
+     * Up to limit products with an id above afterId, in id order
+     */
+    List<Product> afterId(Long afterId, int limit) {
+        int from = 0;
+        if (afterId != null) {
+            int found = Arrays.binarySearch(ids, afterId);
+            from = found >= 0 ? found + 1 : -found - 1;
+        }
+        List<Product> result = new ArrayList<>(Math.max(0, Math.min(limit, products.length - from)));
+        for (int i = from; i < products.length && result.size() < limit; i++) {
+            result.add(products[i].copy());
+        }
+        return result;
+    }
+
+    List<Product> byCategory(Long categoryId, long offset, int limit) {
+        int[] positions = positionsByCategory.getOrDefault(categoryId, NO_POSITIONS);
+        List<Product> result = new ArrayList<>();
+        for (long i = offset; i < positions.length && result.size() < limit; i++) {
+            result.add(products[positions[(int) i]].copy());
+        }
+        return result;
+    }
+
+    int countByCategory(Long categoryId) {
+        return positionsByCategory.getOrDefault(categoryId, NO_POSITIONS).length;
+    }
+
+    /**
+     * Products in any of the categories, in id order like {@link #byCategory}
+     */
+    List<Product> byCategories(Collection<Long> categoryIds, long offset, int limit) {
+        int[] positions = new HashSet<>(categoryIds).stream()
+                .map(categoryId -> positionsByCategory.getOrDefault(categoryId, NO_POSITIONS))
+                .flatMapToInt(Arrays::stream)
+                .sorted()
+                .toArray();
+        List<Product> result = new ArrayList<>();
+        for (long i = offset; i < positions.length && result.size() < limit; i++) {
+            result.add(products[positions[(int) i]].copy());
+        }
+        return result;
+    }
+
+    int countByCategories(Collection<Long> categoryIds) {
+        int count = 0;
+        for (Long categoryId : new HashSet<>(categoryIds)) {
+            count += countByCategory(categoryId);
+        }
+        return count;
+    }
+
+    List<Product> byFlag(Flag flag, boolean value, long offset, int limit) {
+        BitSet bits = bits(flag);
+        List<Product> result = new ArrayList<>();
+        long skipped = 0;
+        for (int i = next(bits, value, 0); i >= 0 && i < products.length && result.size() < limit;
+             i = next(bits, value, i + 1)) {
+            if (skipped++ >= offset) {
+                result.add(products[i].copy());
+            }
+        }
+        return result;
+    }
+
+    int countByFlag(Flag flag, boolean value) {
+        int set = bits(flag).cardinality();
+        return value ? set : products.length - set;
+    }
+
+    List<Product> nameContaining(String name) {
+        String needle = name.toLowerCase();
+        List<Product> result = new ArrayList<>();
+        for (Product product : products) {
+            if (product.getName() != null && product.getName().toLowerCase().contains(needle)) {
+                result.add(product.copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Active products priced within [min, max], cheapest first
+     */
+    List<Product> activeInPriceRange(BigDecimal min, BigDecimal max) {
+        List<Product> result = new ArrayList<>();
+        for (int i = lowerBound(min); i < sortedPrices.length && sortedPrices[i].compareTo(max) <= 0; i++) {
+            int position = positionsByPrice[i];
+            if (active.get(position)) {
+                result.add(products[position].copy());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Up to limit products matching the filter, newest first, strictly after the cursor
+     */
+    List<Product> newestFirst(Cursor after, int limit, Predicate<Product> filter) {
+        List<Product> result = new ArrayList<>();
+        for (int i = firstAfter(after); i < positionsNewestFirst.length && result.size() < limit; i++) {
+            Product product = products[positionsNewestFirst[i]];
+            if (filter.test(product)) {
+                result.add(product.copy());
+            }
+        }
+        return result;
+    }
+
+    private int positionOf(Long id) {
+        return id == null ? -1 : Math.max(-1, Arrays.binarySearch(ids, id));
+    }
+
+    private Optional<Product> copyAt(int position) {
+        return position < 0 ? Optional.empty() : Optional.of(products[position].copy());
+    }
+
+    private BitSet bits(Flag flag) {
+        return flag == Flag.ACTIVE ? active : featured;
+    }
+
+    // Sort key for newest-first order; cursors must be built from the same value
+    static LocalDateTime createdAt(Product product) {
+        return product.getCreatedAt() != null ? product.getCreatedAt() : LocalDateTime.MIN;
+    }
+
+    private static int next(BitSet bits, boolean value, int from) {
+        return value ? bits.nextSetBit(from) : bits.nextClearBit(from);
+    }
+
+    private int lowerBound(BigDecimal min) {
+        int low = 0;
+        int high = sortedPrices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sortedPrices[mid].compareTo(min) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // The newest-first order is monotone in "follows the cursor", so the first match can be found by bisection
+    private int firstAfter(Cursor after) {
+        if (after == null) {
+            return 0;
+        }
+        int low = 0;
+        int high = positionsNewestFirst.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Product product = products[positionsNewestFirst[mid]];
+            if (after.isFollowedBy(createdAt(product), product.getId())) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
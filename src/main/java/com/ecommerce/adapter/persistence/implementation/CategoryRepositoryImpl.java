@@ -0,0 +1,116 @@
+package com.ecommerce.adapter.persistence.implementation;
+
+import com.ecommerce.adapter.persistence.jpa.entity.CategoryJpaEntity;
+import com.ecommerce.adapter.persistence.jpa.repository.CategoryJpaRepository;
+import com.ecommerce.core.domain.product.entity.Category;
+import com.ecommerce.core.domain.product.repository.CategoryRepository;
+import com.ecommerce.infrastructure.event.CategoryChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * JPA-backed category repository. Every write publishes a {@link CategoryChangedEvent}
+ * so the cached category tree is rebuilt once the change commits.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CategoryRepositoryImpl implements CategoryRepository {
+
+    private final CategoryJpaRepository categoryJpaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public Category save(Category category) {
+        CategoryJpaEntity saved = categoryJpaRepository.save(mapToEntity(category));
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved.getId()));
+        return mapToDomain(saved);
+    }
+
+    @Override
+    public Optional<Category> findById(Long id) {
+        return categoryJpaRepository.findById(id).map(this::mapToDomain);
+    }
+
+    @Override
+    public Optional<Category> findBySlug(String slug) {
+        return categoryJpaRepository.findBySlug(slug).map(this::mapToDomain);
+    }
+
+    @Override
+    public List<Category> findAll() {
+        return mapAll(categoryJpaRepository.findAll());
+    }
+
+    @Override
+    public List<Category> findByIsActiveTrue() {
+        return mapAll(categoryJpaRepository.findByIsActiveTrue());
+    }
+
+    @Override
+    public List<Category> findByParentId(Long parentId) {
+        return mapAll(categoryJpaRepository.findByParentId(parentId));
+    }
+
+    @Override
+    public List<Category> findRootCategories() {
+        return mapAll(categoryJpaRepository.findByParentIdIsNull());
+    }
+
+    @Override
+    public void delete(Category category) {
+        deleteById(category.getId());
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        categoryJpaRepository.deleteById(id);
+        eventPublisher.publishEvent(new CategoryChangedEvent(id));
+    }
+
+    @Override
+    public boolean existsBySlug(String slug) {
+        return categoryJpaRepository.existsBySlug(slug);
+    }
+
+    @Override
+    public boolean hasSubcategories(Long categoryId) {
+        return categoryJpaRepository.existsByParentId(categoryId);
+    }
+
+    private List<Category> mapAll(List<CategoryJpaEntity> entities) {
+        return entities.stream().map(this::mapToDomain).collect(Collectors.toList());
+    }
+
+    // The parent is mapped as an id-only reference; the category tree resolves the hierarchy
+    private Category mapToDomain(CategoryJpaEntity entity) {
+        Category parent = entity.getParentId() != null ? Category.builder().id(entity.getParentId()).build() : null;
+        return Category.builder()
+                .id(entity.getId())
+                .name(entity.getName())
+                .slug(entity.getSlug())
+                .description(entity.getDescription())
+                .parent(parent)
+                .isActive(Boolean.TRUE.equals(entity.getIsActive()))
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    private CategoryJpaEntity mapToEntity(Category category) {
+        CategoryJpaEntity entity = category.getId() != null
+                ? categoryJpaRepository.findById(category.getId()).orElseGet(CategoryJpaEntity::new)
+                : new CategoryJpaEntity();
+        entity.setId(category.getId());
+        entity.setName(category.getName());
+        entity.setSlug(category.getSlug());
+        entity.setDescription(category.getDescription());
+        entity.setParentId(category.getParent() != null ? category.getParent().getId() : null);
+        entity.setIsActive(category.isActive());
+        return entity;
+    }
+}
@@ -4,6 +4,8 @@ import com.ecommerce.core.domain.notification.entity.Notification;
 import com.ecommerce.core.domain.notification.repository.NotificationRepository;
 import com.ecommerce.core.domain.notification.valueobject.NotificationStatus;
 import com.ecommerce.core.domain.notification.valueobject.NotificationType;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -164,4 +166,19 @@ public class NotificationRepositoryImpl implements NotificationRepository {
                 .map(this::save)
                 .toList();
     }
-}
\ No newline at end of file
+
+    @Override
+    public CursorPage<Notification> findByUserIdAfter(Long userId, Cursor after, int size) {
+        List<Notification> rows = notifications.values().stream()
+                .filter(notification -> notification.getUserId().equals(userId))
+                .filter(notification -> after == null
+                        || after.isFollowedBy(notification.getCreatedAt(), notification.getId()))
+                .sorted(Comparator.comparing(Notification::getCreatedAt)
+                        .thenComparing(Notification::getId)
+                        .reversed())
+                .limit(size + 1L)
+                .collect(Collectors.toList());
+        return CursorPage.fromLookahead(rows, size,
+                notification -> Cursor.of(notification.getCreatedAt(), notification.getId()));
+    }
+}
@@ -6,8 +6,11 @@ import com.ecommerce.core.domain.order.repository.OrderRepository;
 import com.ecommerce.adapter.persistence.jpa.OrderJpaRepository;
 import com.ecommerce.adapter.persistence.entity.OrderEntity;
 import com.ecommerce.adapter.persistence.mapper.OrderMapper;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
@@ -70,4 +73,39 @@ public class OrderRepositoryImpl implements OrderRepository {
             .map(mapper::toDomain)
             .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+
+    @Override
+    public CursorPage<Order> findByUserIdAfter(Long userId, Cursor after, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<OrderEntity> rows = after == null
+            ? jpaRepository.findByUserIdNewestFirst(userId, limit)
+            : jpaRepository.findByUserIdNewestFirstAfter(userId, after.getSortKey(), after.getId(), limit);
+        return toCursorPage(rows, size);
+    }
+
+    @Override
+    public CursorPage<Order> findAllAfter(Cursor after, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<OrderEntity> rows = after == null
+            ? jpaRepository.findAllNewestFirst(limit)
+            : jpaRepository.findAllNewestFirstAfter(after.getSortKey(), after.getId(), limit);
+        return toCursorPage(rows, size);
+    }
+
+    @Override
+    public CursorPage<Order> findByStatusAfter(OrderStatus status, Cursor after, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        OrderEntity.OrderStatusEntity statusEntity = OrderEntity.OrderStatusEntity.valueOf(status.name());
+        List<OrderEntity> rows = after == null
+            ? jpaRepository.findByStatusNewestFirst(statusEntity, limit)
+            : jpaRepository.findByStatusNewestFirstAfter(statusEntity, after.getSortKey(), after.getId(), limit);
+        return toCursorPage(rows, size);
+    }
+
+    private CursorPage<Order> toCursorPage(List<OrderEntity> rows, int size) {
+        List<Order> orders = rows.stream()
+            .map(mapper::toDomain)
+            .collect(Collectors.toList());
+        return CursorPage.fromLookahead(orders, size, order -> Cursor.of(order.getCreatedAt(), order.getId()));
+    }
+}
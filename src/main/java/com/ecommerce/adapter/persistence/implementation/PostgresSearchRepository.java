@@ -0,0 +1,233 @@
+package com.ecommerce.adapter.persistence.implementation;
+
+import com.ecommerce.adapter.persistence.cache.SearchResultCache;
+import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.core.domain.product.repository.ProductRepository;
+import com.ecommerce.core.domain.product.valueobject.CategoryTree;
+import com.ecommerce.core.domain.search.entity.SearchResult;
+import com.ecommerce.core.domain.search.entity.SearchResultPage;
+import com.ecommerce.core.domain.search.repository.SearchRepository;
+import com.ecommerce.core.usecase.product.CategoryTreeService;
+import com.ecommerce.core.usecase.search.SearchProductsRequest;
+import com.ecommerce.infrastructure.search.IndexQuery;
+import com.ecommerce.infrastructure.search.IndexedProduct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Search repository backed by PostgreSQL full-text search.
+ * Text matches against the generated products.search_vector column through its GIN index, with every
+ * word treated as a prefix, and falls back to trigram word similarity on the name for misspelled or
+ * partial words. Results are ranked by ts_rank_cd plus the name similarity.
+ * Page and total come from one statement: the ranked matches are kept up to app.search.track-total-hits
+ * (or the end of the requested page, if further) in a CTE that both the page and the count read from,
+ * and a total beyond that window is reported as a lower bound.
+ * Only ids, scores and the total come back from the query; products are read through the product cache.
+ * Requires the V18 migration (pg_trgm and the search_vector column).
+ */
+@Repository
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "postgres")
+public class PostgresSearchRepository implements SearchRepository {
+
+    private static final String TEXT_SCORE =
+        "ts_rank_cd(p.search_vector, q.query, 32) + word_similarity(?, p.name)";
+
+    private static final String TEXT_MATCH = "(p.search_vector @@ q.query OR ? <% p.name)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductRepository productRepository;
+    private final CategoryTreeService categoryTreeService;
+    private final SearchResultCache searchResultCache;
+    private final int trackTotalHits;
+
+    public PostgresSearchRepository(JdbcTemplate jdbcTemplate,
+                                    ProductRepository productRepository,
+                                    CategoryTreeService categoryTreeService,
+                                    SearchResultCache searchResultCache,
+                                    @Value("${app.search.track-total-hits:10000}") int trackTotalHits) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.productRepository = productRepository;
+        this.categoryTreeService = categoryTreeService;
+        this.searchResultCache = searchResultCache;
+        this.trackTotalHits = trackTotalHits;
+    }
+
+    @Override
+    public SearchResultPage searchProducts(SearchProductsRequest request) {
+        SearchResultCache.Hits hits = search(request);
+        if (hits.size() == 0) {
+            return SearchQueries.toPage(List.of(), hits);
+        }
+        Map<Long, Product> products = productRepository.findAllByIds(hits.getIds()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        CategoryTree tree = categoryTreeService.getTree();
+        List<SearchResult> results = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            Product product = products.get(hits.getId(i));
+            if (product != null && product.isActive()) {
+                String categoryName = tree.find(product.getCategoryId()).map(CategoryTree.Node::getName).orElse(null);
+                results.add(SearchQueries.toSearchResult(IndexedProduct.of(product, categoryName), hits.getScore(i)));
+            }
+        }
+        return SearchQueries.toPage(results, hits);
+    }
+
+    private SearchResultCache.Hits search(SearchProductsRequest request) {
+        IndexQuery query = SearchQueries.toQuery(request, categoryTreeService);
+        return searchResultCache.get(SearchQueries.keyOf("postgres", query),
+                () -> query(query),
+                Function.identity(),
+                Function.identity());
+    }
+
+    private SearchResultCache.Hits query(IndexQuery query) {
+        if (query.getCategoryIds() != null && query.getCategoryIds().isEmpty()) {
+            return SearchResultCache.Hits.of(List.of(), new float[0], 0);
+        }
+        String tsQuery = prefixQuery(query.getText());
+        String text = tsQuery != null ? query.getText().trim() : null;
+
+        List<Object> params = new ArrayList<>();
+        StringBuilder from = new StringBuilder(" FROM products p");
+        if (text != null) {
+            from.append(" CROSS JOIN to_tsquery('english', ?) AS q(query)");
+            params.add(tsQuery);
+        }
+        from.append(" WHERE p.is_active = TRUE");
+        if (text != null) {
+            from.append(" AND ").append(TEXT_MATCH);
+            params.add(text);
+        }
+        if (query.getCategoryIds() != null) {
+            from.append(" AND p.category_id IN (")
+                    .append(String.join(", ", Collections.nCopies(query.getCategoryIds().size(), "?")))
+                    .append(')');
+            params.addAll(query.getCategoryIds());
+        }
+        if (query.getMinPrice() != null) {
+            from.append(" AND p.base_price >= ?");
+            params.add(query.getMinPrice());
+        }
+        if (query.getMaxPrice() != null) {
+            from.append(" AND p.base_price <= ?");
+            params.add(query.getMaxPrice());
+        }
+        if (query.isInStockOnly()) {
+            from.append(" AND p.stock_quantity > 0");
+        }
+
+        // One statement: the matches are ranked once and kept up to the counting window, which feeds
+        // both the requested page and the (capped) total
+        List<String[]> sortKeys = sortKeys(query.getSort(), text != null);
+        StringBuilder select = new StringBuilder("SELECT p.product_id, ")
+                .append(text != null ? TEXT_SCORE : "0").append(" AS score");
+        List<String> order = new ArrayList<>();
+        List<String> pageOrder = new ArrayList<>();
+        for (int i = 0; i < sortKeys.size(); i++) {
+            String column = sortKeys.get(i)[0];
+            if (!column.equals("score")) {
+                select.append(", ").append(column).append(" AS s").append(i);
+                column = "s" + i;
+            }
+            order.add(column + " " + sortKeys.get(i)[1]);
+            pageOrder.add("m." + column + " " + sortKeys.get(i)[1]);
+        }
+        String orderBy = String.join(", ", order);
+        int window = countingWindow(query.getOffset(), query.getLimit(), trackTotalHits);
+        String sql = "WITH matched AS (" + select + from + " ORDER BY " + orderBy + " LIMIT ?) " +
+                "SELECT m.product_id, m.score, t.total FROM (SELECT COUNT(*) AS total FROM matched) t " +
+                "LEFT JOIN LATERAL (SELECT * FROM matched ORDER BY " + orderBy + " LIMIT ? OFFSET ?) m ON TRUE " +
+                "ORDER BY " + String.join(", ", pageOrder);
+        List<Object> args = new ArrayList<>();
+        if (text != null) {
+            args.add(text);
+        }
+        args.addAll(params);
+        args.add(window);
+        args.add(query.getLimit());
+        args.add(query.getOffset());
+
+        List<Long> ids = new ArrayList<>();
+        List<Float> scores = new ArrayList<>();
+        long[] counted = new long[1];
+        jdbcTemplate.query(sql, rs -> {
+            counted[0] = rs.getLong(3);
+            // A page past the last match still returns the count, with no product
+            if (rs.getObject(1) != null) {
+                ids.add(rs.getLong(1));
+                scores.add(rs.getFloat(2));
+            }
+        }, args.toArray());
+        float[] compactScores = new float[scores.size()];
+        for (int i = 0; i < compactScores.length; i++) {
+            compactScores[i] = scores.get(i);
+        }
+        return toHits(ids, compactScores, counted[0], window);
+    }
+
+    /**
+     * Matches kept for ranking and counting: enough to cover the requested page and one past the cap,
+     * so a full window tells that the total is only a lower bound
+     */
+    static int countingWindow(int offset, int limit, int trackTotalHits) {
+        return Math.max(trackTotalHits, offset + limit) + 1;
+    }
+
+    static SearchResultCache.Hits toHits(List<Long> ids, float[] scores, long counted, int window) {
+        if (counted < window) {
+            return SearchResultCache.Hits.of(ids, scores, counted);
+        }
+        return SearchResultCache.Hits.of(ids, scores, window - 1L, false);
+    }
+
+    // Expression and direction pairs, "score" being the relevance column; the id always comes last so pages never overlap
+    private static List<String[]> sortKeys(IndexQuery.Sort sort, boolean hasText) {
+        switch (sort) {
+            case PRICE_ASC:
+                return List.of(new String[] {"p.base_price", "ASC"}, new String[] {"p.product_id", "ASC"});
+            case PRICE_DESC:
+                return List.of(new String[] {"p.base_price", "DESC"}, new String[] {"p.product_id", "ASC"});
+            case NAME_ASC:
+                return List.of(new String[] {"lower(p.name)", "ASC"}, new String[] {"p.product_id", "ASC"});
+            case NAME_DESC:
+                return List.of(new String[] {"lower(p.name)", "DESC"}, new String[] {"p.product_id", "ASC"});
+            case RATING:
+                return List.of(new String[] {"p.average_rating", "DESC"}, new String[] {"p.review_count", "DESC"},
+                        new String[] {"p.product_id", "ASC"});
+            case POPULARITY:
+                return List.of(new String[] {"p.review_count", "DESC"}, new String[] {"p.product_id", "ASC"});
+            case NEWEST:
+                return List.of(new String[] {"p.created_at", "DESC"}, new String[] {"p.product_id", "DESC"});
+            default:
+                return hasText
+                        ? List.of(new String[] {"score", "DESC"}, new String[] {"p.product_id", "ASC"})
+                        : List.of(new String[] {"p.created_at", "DESC"}, new String[] {"p.product_id", "DESC"});
+        }
+    }
+
+    /**
+     * Builds a to_tsquery expression that requires every word, each as a prefix so partially typed words
+     * still hit the GIN index; only letters and digits are kept, so no tsquery syntax can leak in
+     */
+    static String prefixQuery(String text) {
+        if (text == null) {
+            return null;
+        }
+        List<String> words = Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.toList());
+        return words.isEmpty() ? null : String.join(" & ", words);
+    }
+}
@@ -1,20 +1,33 @@
 package com.ecommerce.adapter.persistence.implementation;
 
+import com.ecommerce.adapter.persistence.cache.CatalogVersion;
+import com.ecommerce.adapter.persistence.cache.ProductCache;
 import com.ecommerce.adapter.persistence.jpa.entity.ProductJpaEntity;
 import com.ecommerce.adapter.persistence.jpa.repository.ProductJpaRepository;
 import com.ecommerce.core.domain.product.entity.Product;
 import com.ecommerce.core.domain.product.repository.ProductRepository;
 import com.ecommerce.core.domain.product.valueobject.Price;
+import com.ecommerce.core.domain.product.valueobject.ProductSummary;
+import com.ecommerce.core.domain.product.valueobject.ReviewAggregate;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Repository
@@ -22,14 +35,50 @@ import java.util.stream.Collectors;
 public class ProductJpaRepositoryAdapter implements ProductRepository {
 
     private final ProductJpaRepository productJpaRepository;
+    private final ProductCache productCache;
+    private final CatalogVersion catalogVersion;
 
-    public ProductJpaRepositoryAdapter(ProductJpaRepository productJpaRepository) {
+    public ProductJpaRepositoryAdapter(ProductJpaRepository productJpaRepository, ProductCache productCache,
+                                       CatalogVersion catalogVersion) {
         this.productJpaRepository = productJpaRepository;
+        this.productCache = productCache;
+        this.catalogVersion = catalogVersion;
     }
 
     @Override
     public Optional<Product> findById(Long id) {
-        return productJpaRepository.findById(id).map(this::mapToDomain);
+        return productCache.get(id, key -> productJpaRepository.findById(key).map(this::mapToDomain));
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        // Cached ids are served from memory; the rest are fetched with one IN query
+        Map<Long, Product> byId = productCache.getAll(ids, missing -> productJpaRepository.findAllById(missing).stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toList()));
+        return ids.stream()
+                .distinct()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<Product> findAllByIdsUncached(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> byId = productJpaRepository.findAllById(ids).stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return ids.stream()
+                .distinct()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     @Override
@@ -43,6 +92,9 @@ public class ProductJpaRepositoryAdapter implements ProductRepository {
     public Product save(Product product) {
         ProductJpaEntity entity = mapToEntity(product);
         ProductJpaEntity savedEntity = productJpaRepository.save(entity);
+        // Invalidate rather than populate: the surrounding transaction may still roll back
+        productCache.invalidate(savedEntity.getId());
+        bumpCatalogVersionAfterCommit();
         return mapToDomain(savedEntity);
     }
 
@@ -50,12 +102,43 @@ public class ProductJpaRepositoryAdapter implements ProductRepository {
     public void delete(Product product) {
         if (product.getId() != null) {
             productJpaRepository.deleteById(product.getId());
+            productCache.invalidate(product.getId());
+            bumpCatalogVersionAfterCommit();
         }
     }
 
     @Override
     public void deleteById(Long id) {
         productJpaRepository.deleteById(id);
+        productCache.invalidate(id);
+        bumpCatalogVersionAfterCommit();
+    }
+
+    @Override
+    public Optional<Product> adjustReviewAggregate(Long productId, int rating, int delta) {
+        ReviewAggregate.validateRating(rating);
+        int updated = productJpaRepository.adjustReviewAggregate(productId, rating, Integer.signum(delta), LocalDateTime.now());
+        if (updated == 0) {
+            return Optional.empty();
+        }
+        productCache.invalidate(productId);
+        bumpCatalogVersionAfterCommit();
+        // Read past the cache: the row was just changed by a bulk statement
+        return productJpaRepository.findById(productId).map(this::mapToDomain);
+    }
+
+    // A bump before commit would let readers tag pre-commit rows with the new version
+    private void bumpCatalogVersionAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            catalogVersion.bump();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                catalogVersion.bump();
+            }
+        });
     }
 
     @Override
@@ -79,6 +162,13 @@ public class ProductJpaRepositoryAdapter implements ProductRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public List<Product> findActiveByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        return productJpaRepository.findActiveProductsByPriceRange(minPrice, maxPrice).stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public boolean existsById(Long id) {
         return productJpaRepository.existsById(id);
@@ -86,16 +176,18 @@ public class ProductJpaRepositoryAdapter implements ProductRepository {
 
     @Override
     public Optional<Product> findBySlug(String slug) {
-        return productJpaRepository.findBySlug(slug).map(this::mapToDomain);
+        return productCache.getBySlug(slug, key -> productJpaRepository.findBySlug(key).map(this::mapToDomain));
+    }
+
+    @Override
+    public Optional<Product> findBySku(String sku) {
+        return productCache.getBySku(sku, key -> productJpaRepository.findBySku(key).map(this::mapToDomain));
     }
 
     @Override
     public Page<Product> findByCategoryId(Long categoryId, Pageable pageable) {
-        List<Product> categoryProducts = findByCategory(categoryId);
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), categoryProducts.size());
-        List<Product> pageContent = categoryProducts.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, categoryProducts.size());
+        return productJpaRepository.findByCategoryId(categoryId, withStableSort(pageable))
+                .map(this::mapToDomain);
     }
 
     @Override
@@ -112,11 +204,97 @@ public class ProductJpaRepositoryAdapter implements ProductRepository {
 
     @Override
     public Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable) {
-        List<Product> matchingProducts = findByNameContaining(name);
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), matchingProducts.size());
-        List<Product> pageContent = matchingProducts.subList(start, end);
-        return new PageImpl<>(pageContent, pageable, matchingProducts.size());
+        return productJpaRepository.findByNameContainingIgnoreCase(name, withStableSort(pageable))
+                .map(this::mapToDomain);
+    }
+
+    @Override
+    public Page<ProductSummary> findSummariesByCategoryId(Long categoryId, Pageable pageable) {
+        return productJpaRepository.findSummariesByCategoryId(categoryId, withStableSort(pageable));
+    }
+
+    @Override
+    public Page<ProductSummary> findSummariesByCategoryIds(Collection<Long> categoryIds, Pageable pageable) {
+        return productJpaRepository.findSummariesByCategoryIdIn(categoryIds, withStableSort(pageable));
+    }
+
+    @Override
+    public Page<ProductSummary> findSummariesByNameContaining(String name, Pageable pageable) {
+        return productJpaRepository.findSummariesByNameContaining(name, withStableSort(pageable));
+    }
+
+    @Override
+    public Page<ProductSummary> findSummariesByFeatured(boolean featured, Pageable pageable) {
+        return productJpaRepository.findSummariesByFeatured(featured, withStableSort(pageable));
+    }
+
+    @Override
+    public Page<ProductSummary> findSummariesByActive(boolean active, Pageable pageable) {
+        return productJpaRepository.findSummariesByActive(active, withStableSort(pageable));
+    }
+
+    @Override
+    public CursorPage<Product> findActiveAfter(Cursor after, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ProductJpaEntity> rows = after == null
+                ? productJpaRepository.findActiveNewestFirst(limit)
+                : productJpaRepository.findActiveNewestFirstAfter(after.getSortKey(), after.getId(), limit);
+        return toCursorPage(rows, size);
+    }
+
+    @Override
+    public CursorPage<Product> findFeaturedAfter(Cursor after, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ProductJpaEntity> rows = after == null
+                ? productJpaRepository.findFeaturedNewestFirst(limit)
+                : productJpaRepository.findFeaturedNewestFirstAfter(after.getSortKey(), after.getId(), limit);
+        return toCursorPage(rows, size);
+    }
+
+    @Override
+    public CursorPage<Product> findByCategoryIdAfter(Long categoryId, Cursor after, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ProductJpaEntity> rows = after == null
+                ? productJpaRepository.findByCategoryIdNewestFirst(categoryId, limit)
+                : productJpaRepository.findByCategoryIdNewestFirstAfter(categoryId, after.getSortKey(), after.getId(), limit);
+        return toCursorPage(rows, size);
+    }
+
+    @Override
+    public CursorPage<Product> findByCategoryIdsAfter(Collection<Long> categoryIds, Cursor after, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<ProductJpaEntity> rows = after == null
+                ? productJpaRepository.findByCategoryIdInNewestFirst(categoryIds, limit)
+                : productJpaRepository.findByCategoryIdInNewestFirstAfter(categoryIds, after.getSortKey(), after.getId(), limit);
+        return toCursorPage(rows, size);
+    }
+
+    @Override
+    public List<Product> findBatchAfterId(Long afterId, int size) {
+        return productJpaRepository.findByIdAfter(afterId == null ? 0L : afterId, PageRequest.of(0, size)).stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toList());
+    }
+
+    private CursorPage<Product> toCursorPage(List<ProductJpaEntity> rows, int size) {
+        List<Product> products = rows.stream()
+                .map(this::mapToDomain)
+                .collect(Collectors.toList());
+        return CursorPage.fromLookahead(products, size, product -> Cursor.of(product.getCreatedAt(), product.getId()));
+    }
+
+    /**
+     * Appends the primary key as a tie-breaker so offset pages never overlap or skip rows
+     */
+    private Pageable withStableSort(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return pageable;
+        }
+        Sort sort = pageable.getSort();
+        if (sort.getOrderFor("id") == null) {
+            sort = sort.and(Sort.by(Sort.Direction.ASC, "id"));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
     }
 
     private Product mapToDomain(ProductJpaEntity entity) {
@@ -136,11 +314,18 @@ public class ProductJpaRepositoryAdapter implements ProductRepository {
         product.setStockQuantity(entity.getStockQuantity() != null ? entity.getStockQuantity() : 0); // FIX: Add missing stockQuantity mapping
         product.setActive(entity.getIsActive() != null ? entity.getIsActive() : true);
         product.setFeatured(entity.getIsFeatured() != null ? entity.getIsFeatured() : false);
+        product.setReviews(ReviewAggregate.ofHistogram(
+                countOf(entity.getRating1Count()), countOf(entity.getRating2Count()), countOf(entity.getRating3Count()),
+                countOf(entity.getRating4Count()), countOf(entity.getRating5Count())));
         product.setCreatedAt(entity.getCreatedAt());
         product.setUpdatedAt(entity.getUpdatedAt());
         return product;
     }
 
+    private static int countOf(Integer count) {
+        return count != null ? count : 0;
+    }
+
     private ProductJpaEntity mapToEntity(Product product) {
         ProductJpaEntity entity = new ProductJpaEntity();
         entity.setId(product.getId());
@@ -0,0 +1,81 @@
+package com.ecommerce.adapter.persistence.implementation;
+
+import com.ecommerce.adapter.persistence.jpa.entity.ProductReviewJpaEntity;
+import com.ecommerce.adapter.persistence.jpa.repository.ProductReviewJpaRepository;
+import com.ecommerce.core.domain.product.entity.ProductReview;
+import com.ecommerce.core.domain.product.repository.ProductReviewRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductReviewRepositoryImpl implements ProductReviewRepository {
+
+    private final ProductReviewJpaRepository productReviewJpaRepository;
+
+    @Override
+    public ProductReview save(ProductReview review) {
+        return mapToDomain(productReviewJpaRepository.save(mapToEntity(review)));
+    }
+
+    @Override
+    public Optional<ProductReview> findById(Long id) {
+        return productReviewJpaRepository.findById(id).map(this::mapToDomain);
+    }
+
+    @Override
+    public Optional<ProductReview> findByIdForUpdate(Long id) {
+        return productReviewJpaRepository.findByIdForUpdate(id).map(this::mapToDomain);
+    }
+
+    @Override
+    public Page<ProductReview> findApprovedByProductId(Long productId, Pageable pageable) {
+        return productReviewJpaRepository.findApprovedByProductId(productId, pageable).map(this::mapToDomain);
+    }
+
+    @Override
+    public boolean existsByProductIdAndUserId(Long productId, Long userId) {
+        return productReviewJpaRepository.existsByProductIdAndUserId(productId, userId);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        productReviewJpaRepository.deleteById(id);
+    }
+
+    private ProductReview mapToDomain(ProductReviewJpaEntity entity) {
+        return ProductReview.builder()
+                .id(entity.getId())
+                .productId(entity.getProductId())
+                .userId(entity.getUserId())
+                .rating(entity.getRating())
+                .title(entity.getTitle())
+                .comment(entity.getComment())
+                .verifiedPurchase(Boolean.TRUE.equals(entity.getIsVerifiedPurchase()))
+                .approved(Boolean.TRUE.equals(entity.getIsApproved()))
+                .helpfulCount(entity.getHelpfulCount() != null ? entity.getHelpfulCount() : 0)
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    private ProductReviewJpaEntity mapToEntity(ProductReview review) {
+        return ProductReviewJpaEntity.builder()
+                .id(review.getId())
+                .productId(review.getProductId())
+                .userId(review.getUserId())
+                .rating(review.getRating())
+                .title(review.getTitle())
+                .comment(review.getComment())
+                .isVerifiedPurchase(review.isVerifiedPurchase())
+                .isApproved(review.isApproved())
+                .helpfulCount(review.getHelpfulCount())
+                .createdAt(review.getCreatedAt())
+                .updatedAt(review.getUpdatedAt())
+                .build();
+    }
+}
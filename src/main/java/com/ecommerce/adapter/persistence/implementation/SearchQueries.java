@@ -0,0 +1,145 @@
+package com.ecommerce.adapter.persistence.implementation;
+
+import com.ecommerce.adapter.persistence.cache.SearchResultCache;
+import com.ecommerce.core.domain.product.valueobject.CategoryTree;
+import com.ecommerce.core.domain.search.entity.SearchFilter;
+import com.ecommerce.core.domain.search.entity.SearchResult;
+import com.ecommerce.core.domain.search.entity.SearchResultPage;
+import com.ecommerce.core.usecase.product.CategoryTreeService;
+import com.ecommerce.core.usecase.search.SearchProductsRequest;
+import com.ecommerce.infrastructure.search.IndexQuery;
+import com.ecommerce.infrastructure.search.IndexedProduct;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Translation shared by the search repositories: resolves a search request into an {@link IndexQuery},
+ * derives its result cache key and maps hits back to search results
+ */
+final class SearchQueries {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private SearchQueries() {
+    }
+
+    static IndexQuery toQuery(SearchProductsRequest request, CategoryTreeService categoryTreeService) {
+        SearchFilter filter = request.getFilter();
+        BigDecimal minPrice = request.getMinPrice() != null ? request.getMinPrice()
+                : filter != null ? filter.getMinPrice() : null;
+        BigDecimal maxPrice = request.getMaxPrice() != null ? request.getMaxPrice()
+                : filter != null ? filter.getMaxPrice() : null;
+        boolean inStockOnly = request.isInStockOnly() || (filter != null && Boolean.TRUE.equals(filter.getInStock()));
+        String sortBy = request.getSortBy() != null ? request.getSortBy() : filter != null ? filter.getSortBy() : null;
+        String direction = request.getSortDirection() != null ? request.getSortDirection()
+                : filter != null ? filter.getSortDirection() : null;
+        int size = sizeOf(request);
+
+        return IndexQuery.builder()
+                .text(request.getQuery())
+                .categoryIds(categoryIds(request, filter, categoryTreeService))
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .inStockOnly(inStockOnly)
+                .sort(sortOf(sortBy, direction))
+                .offset(pageOf(request) * size)
+                .limit(size)
+                .build();
+    }
+
+    // Keyed on the resolved query, so category ids, slugs and names that select the same subtree share an entry
+    static SearchResultCache.Key keyOf(String backend, IndexQuery query) {
+        return SearchResultCache.Key.builder(backend)
+                .text("q", query.getText())
+                .terms("categories", query.getCategoryIds())
+                .value("min", query.getMinPrice())
+                .value("max", query.getMaxPrice())
+                .value("inStock", query.isInStockOnly())
+                .value("sort", query.getSort())
+                .value("offset", query.getOffset())
+                .value("limit", query.getLimit())
+                .build();
+    }
+
+    static SearchResult toSearchResult(IndexedProduct product, float score) {
+        return SearchResult.builder()
+                .id(product.getProductId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .sku(product.getSku())
+                .price(product.getPrice())
+                .imageUrl(product.getImageUrl())
+                .category(product.getCategoryName())
+                .inStock(product.isInStock())
+                .score((double) score)
+                .build();
+    }
+
+    static SearchResultPage toPage(List<SearchResult> results, SearchResultCache.Hits hits) {
+        return SearchResultPage.builder()
+                .results(results)
+                .totalHits(hits.getTotalHits())
+                .totalExact(hits.isTotalExact())
+                .build();
+    }
+
+    // Category filters accept ids, slugs or names and always include subcategories
+    private static Set<Long> categoryIds(SearchProductsRequest request, SearchFilter filter,
+                                         CategoryTreeService categoryTreeService) {
+        List<String> keys = new ArrayList<>();
+        if (request.getCategories() != null) {
+            keys.addAll(request.getCategories());
+        }
+        if (filter != null && filter.getCategory() != null) {
+            keys.add(filter.getCategory());
+        }
+        if (keys.isEmpty()) {
+            return null;
+        }
+        CategoryTree tree = categoryTreeService.getTree();
+        Set<Long> ids = new HashSet<>();
+        for (String key : keys) {
+            tree.resolve(key).ifPresent(node -> ids.addAll(node.getSubtreeIds()));
+        }
+        return ids;
+    }
+
+    private static IndexQuery.Sort sortOf(String sortBy, String direction) {
+        if (sortBy == null) {
+            return IndexQuery.Sort.RELEVANCE;
+        }
+        boolean descending = "desc".equalsIgnoreCase(direction);
+        switch (sortBy.toLowerCase(Locale.ROOT)) {
+            case "price":
+                return descending ? IndexQuery.Sort.PRICE_DESC : IndexQuery.Sort.PRICE_ASC;
+            case "name":
+                return descending ? IndexQuery.Sort.NAME_DESC : IndexQuery.Sort.NAME_ASC;
+            case "rating":
+                return IndexQuery.Sort.RATING;
+            case "popularity":
+                return IndexQuery.Sort.POPULARITY;
+            case "newest":
+            case "createdat":
+                return IndexQuery.Sort.NEWEST;
+            default:
+                return IndexQuery.Sort.RELEVANCE;
+        }
+    }
+
+    private static int pageOf(SearchProductsRequest request) {
+        return request.getPage() != null && request.getPage() > 0 ? request.getPage() : 0;
+    }
+
+    private static int sizeOf(SearchProductsRequest request) {
+        if (request.getSize() == null || request.getSize() <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(request.getSize(), MAX_PAGE_SIZE);
+    }
+}
@@ -1,132 +1,67 @@
 package com.ecommerce.adapter.persistence.implementation;
 
-import com.ecommerce.core.domain.search.entity.SearchCriteria;
+import com.ecommerce.adapter.persistence.cache.SearchResultCache;
 import com.ecommerce.core.domain.search.entity.SearchResult;
+import com.ecommerce.core.domain.search.entity.SearchResultPage;
 import com.ecommerce.core.domain.search.repository.SearchRepository;
+import com.ecommerce.core.usecase.product.CategoryTreeService;
+import com.ecommerce.core.usecase.search.SearchProductsRequest;
+import com.ecommerce.infrastructure.search.EmbeddedSearchEngine;
+import com.ecommerce.infrastructure.search.IndexHits;
+import com.ecommerce.infrastructure.search.IndexQuery;
+import com.ecommerce.infrastructure.search.IndexedProduct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.function.Function;
 
+/**
+ * Search repository backed by the embedded inverted index.
+ * Result pages are cached as id/score lists and rebuilt from the index's live documents on a hit.
+ */
 @Repository
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "embedded", matchIfMissing = true)
 @RequiredArgsConstructor
 public class SearchRepositoryImpl implements SearchRepository {
-    
-    @Override
-    public List<SearchResult> searchProducts(com.ecommerce.core.usecase.search.SearchProductsRequest request) {
-        // Mock implementation - replace with actual database search
-        return createMockSearchResults(request);
-    }
-    
+
+    private final EmbeddedSearchEngine searchEngine;
+    private final CategoryTreeService categoryTreeService;
+    private final SearchResultCache searchResultCache;
+
+    // Matching documents are collected before ranking anyway, so the total is always exact here
     @Override
-    public int countSearchResults(com.ecommerce.core.usecase.search.SearchProductsRequest request) {
-        // Mock implementation - return count of search results
-        return searchProducts(request).size();
-    }
-    
-    private List<SearchResult> createMockSearchResults(com.ecommerce.core.usecase.search.SearchProductsRequest request) {
-        List<SearchResult> results = new ArrayList<>();
-        
-        // Create mock search results based on query
-        String query = request.getQuery() != null ? request.getQuery().toLowerCase() : "";
-        
-        if (query.contains("laptop") || query.contains("gaming")) {
-            results.add(SearchResult.builder()
-                    .id(1L)
-                    .name("Gaming Laptop")
-                    .description("High-performance gaming laptop with RTX graphics")
-                    .sku("LAPTOP-001")
-                    .price(BigDecimal.valueOf(1299.99))
-                    .imageUrl("/images/gaming-laptop.jpg")
-                    .category("Electronics")
-                    .inStock(true)
-                    .score(0.95)
-                    .build());
-                    
-            results.add(SearchResult.builder()
-                    .id(2L)
-                    .name("Business Laptop")
-                    .description("Professional laptop for business use")
-                    .sku("LAPTOP-002")
-                    .price(BigDecimal.valueOf(899.99))
-                    .imageUrl("/images/business-laptop.jpg")
-                    .category("Electronics")
-                    .inStock(true)
-                    .score(0.85)
-                    .build());
-        }
-        
-        if (query.contains("mouse") || query.contains("gaming")) {
-            results.add(SearchResult.builder()
-                    .id(3L)
-                    .name("Gaming Mouse")
-                    .description("RGB gaming mouse with high DPI")
-                    .sku("MOUSE-001")
-                    .price(BigDecimal.valueOf(79.99))
-                    .imageUrl("/images/gaming-mouse.jpg")
-                    .category("Electronics")
-                    .inStock(true)
-                    .score(0.90)
-                    .build());
+    public SearchResultPage searchProducts(SearchProductsRequest request) {
+        SearchResultCache.Hits hits = search(request);
+        Map<Long, IndexedProduct> documents = searchEngine.documents(hits.getIds());
+        List<SearchResult> results = new ArrayList<>(hits.size());
+        for (int i = 0; i < hits.size(); i++) {
+            IndexedProduct document = documents.get(hits.getId(i));
+            if (document != null) {
+                results.add(SearchQueries.toSearchResult(document, hits.getScore(i)));
+            }
         }
-        
-        if (query.contains("keyboard")) {
-            results.add(SearchResult.builder()
-                    .id(4L)
-                    .name("Mechanical Keyboard")
-                    .description("RGB mechanical keyboard with blue switches")
-                    .sku("KEYBOARD-001")
-                    .price(BigDecimal.valueOf(149.99))
-                    .imageUrl("/images/mechanical-keyboard.jpg")
-                    .category("Electronics")
-                    .inStock(true)
-                    .score(0.88)
-                    .build());
-        }
-        
-        // Add more mock results for empty or general queries
-        if (query.isEmpty() || results.isEmpty()) {
-            results.addAll(getDefaultProducts());
-        }
-        
-        return results;
+        return SearchQueries.toPage(results, hits);
     }
-    
-    private List<SearchResult> getDefaultProducts() {
-        List<SearchResult> products = new ArrayList<>();
-        
-        products.add(SearchResult.builder()
-                .id(5L)
-                .name("Wireless Headphones")
-                .description("Premium wireless headphones with noise cancellation")
-                .sku("HEADPHONES-001")
-                .price(BigDecimal.valueOf(199.99))
-                .imageUrl("/images/wireless-headphones.jpg")
-                .category("Electronics")
-                .inStock(true)
-                .score(0.92)
-                .build());
-                
-        products.add(SearchResult.builder()
-                .id(6L)
-                .name("Smartphone")
-                .description("Latest smartphone with advanced camera")
-                .sku("PHONE-001")
-                .price(BigDecimal.valueOf(699.99))
-                .imageUrl("/images/smartphone.jpg")
-                .category("Electronics")
-                .inStock(true)
-                .score(0.89)
-                .build());
-                
-        return products;
+
+    private SearchResultCache.Hits search(SearchProductsRequest request) {
+        IndexQuery query = SearchQueries.toQuery(request, categoryTreeService);
+        return searchResultCache.get(SearchQueries.keyOf("embedded", query),
+                () -> compact(searchEngine.search(query)),
+                Function.identity(),
+                Function.identity());
     }
-    
 
-}
\ No newline at end of file
+    private static SearchResultCache.Hits compact(IndexHits hits) {
+        List<Long> ids = new ArrayList<>(hits.getHits().size());
+        float[] scores = new float[hits.getHits().size()];
+        for (IndexHits.Hit hit : hits.getHits()) {
+            scores[ids.size()] = hit.getScore();
+            ids.add(hit.getProduct().getProductId());
+        }
+        return SearchResultCache.Hits.of(ids, scores, hits.getTotalHits());
+    }
+}
@@ -2,19 +2,30 @@ package com.ecommerce.adapter.persistence.implementation;
 
 import com.ecommerce.core.domain.product.entity.Product;
 import com.ecommerce.core.domain.product.repository.ProductRepository;
+import com.ecommerce.core.domain.product.valueobject.ProductSummary;
+import com.ecommerce.core.domain.product.valueobject.ReviewAggregate;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
 
+/**
+ * In-memory catalog backed by an immutable {@link CatalogSnapshot}.
+ * Reads go straight to the current snapshot without locking; writes are serialized
+ * and publish a freshly indexed snapshot through a volatile swap.
+ */
 @Repository
 public class SimpleProductRepositoryImpl implements ProductRepository {
 
-    private final Map<Long, Product> products = new ConcurrentHashMap<>();
+    private volatile CatalogSnapshot snapshot = CatalogSnapshot.EMPTY;
     private final AtomicLong idGenerator = new AtomicLong(1);
 
     public SimpleProductRepositoryImpl() {
@@ -23,62 +34,76 @@ public class SimpleProductRepositoryImpl implements ProductRepository {
 
     @Override
     public Optional<Product> findById(Long id) {
-        return Optional.ofNullable(products.get(id));
+        return snapshot.byId(id);
+    }
+
+    @Override
+    public List<Product> findAllByIds(Collection<Long> ids) {
+        return ids == null ? List.of() : snapshot.byIds(ids);
+    }
+
+    @Override
+    public List<Product> findAllByIdsUncached(Collection<Long> ids) {
+        return findAllByIds(ids);
     }
 
     @Override
     public List<Product> findAll() {
-        return new ArrayList<>(products.values());
+        return snapshot.all();
     }
 
     @Override
-    public Product save(Product product) {
+    public synchronized Product save(Product product) {
         if (product.getId() == null) {
             product.setId(idGenerator.getAndIncrement());
+        }
+        // Products saved with an explicit id still need a creation time for newest-first ordering
+        if (product.getCreatedAt() == null) {
             product.setCreatedAt(LocalDateTime.now());
         }
         product.setUpdatedAt(LocalDateTime.now());
-        products.put(product.getId(), product);
+        snapshot = snapshot.with(product);
         return product;
     }
 
     @Override
-    public void delete(Product product) {
-        products.remove(product.getId());
+    public synchronized void delete(Product product) {
+        snapshot = snapshot.without(product.getId());
     }
 
     @Override
-    public void deleteById(Long id) {
-        products.remove(id);
+    public synchronized void deleteById(Long id) {
+        snapshot = snapshot.without(id);
     }
 
     @Override
     public List<Product> findByCategory(Long categoryId) {
-        return products.values().stream()
-            .filter(product -> Objects.equals(product.getCategoryId(), categoryId))
-            .collect(Collectors.toList());
+        return snapshot.byCategory(categoryId, 0, Integer.MAX_VALUE);
     }
 
     @Override
     public List<Product> findByNameContaining(String name) {
-        return products.values().stream()
-            .filter(product -> product.getName().toLowerCase().contains(name.toLowerCase()))
-            .collect(Collectors.toList());
+        return snapshot.nameContaining(name);
     }
 
     @Override
     public List<Product> findFeaturedProducts() {
-        return products.values().stream()
-            .filter(Product::isFeatured)
-            .collect(Collectors.toList());
+        return snapshot.byFlag(CatalogSnapshot.Flag.FEATURED, true, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Product> findActiveByPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        return snapshot.activeInPriceRange(minPrice, maxPrice);
     }
 
     @Override
     public boolean existsById(Long id) {
-        return products.containsKey(id);
+        return snapshot.contains(id);
     }
 
     private void initializeSampleProducts() {
+        List<Product> samples = new ArrayList<>();
+
         // Gaming Laptop
         Product laptop = new Product();
         laptop.setId(1L);
@@ -95,7 +120,7 @@ public class SimpleProductRepositoryImpl implements ProductRepository {
         laptop.setFeatured(true);
         laptop.setCreatedAt(LocalDateTime.now());
         laptop.setUpdatedAt(LocalDateTime.now());
-        products.put(laptop.getId(), laptop);
+        samples.add(laptop);
 
         // Gaming Mouse
         Product mouse = new Product();
@@ -113,7 +138,7 @@ public class SimpleProductRepositoryImpl implements ProductRepository {
         mouse.setFeatured(false);
         mouse.setCreatedAt(LocalDateTime.now());
         mouse.setUpdatedAt(LocalDateTime.now());
-        products.put(mouse.getId(), mouse);
+        samples.add(mouse);
 
         // Mechanical Keyboard
         Product keyboard = new Product();
@@ -131,51 +156,123 @@ public class SimpleProductRepositoryImpl implements ProductRepository {
         keyboard.setFeatured(true);
         keyboard.setCreatedAt(LocalDateTime.now());
         keyboard.setUpdatedAt(LocalDateTime.now());
-        products.put(keyboard.getId(), keyboard);
+        samples.add(keyboard);
+    
+        snapshot = CatalogSnapshot.of(samples);
+        idGenerator.set(samples.size() + 1L);
     }
 
     @Override
     public Optional<Product> findBySlug(String slug) {
-        return products.values().stream()
-            .filter(product -> Objects.equals(product.getSlug(), slug))
-            .findFirst();
+        return snapshot.bySlug(slug);
+    }
+
+    @Override
+    public Optional<Product> findBySku(String sku) {
+        return snapshot.bySku(sku);
     }
 
-    public org.springframework.data.domain.Page<Product> findByCategoryId(Long categoryId, org.springframework.data.domain.Pageable pageable) {
-        List<Product> categoryProducts = findByCategory(categoryId);
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), categoryProducts.size());
-        List<Product> pageContent = categoryProducts.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, categoryProducts.size());
+    @Override
+    public Page<Product> findByCategoryId(Long categoryId, Pageable pageable) {
+        CatalogSnapshot current = snapshot;
+        List<Product> content = current.byCategory(categoryId, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, current.countByCategory(categoryId));
     }
 
     @Override
-    public org.springframework.data.domain.Page<Product> findByActive(boolean active, org.springframework.data.domain.Pageable pageable) {
-        List<Product> activeProducts = products.values().stream()
-            .filter(product -> product.isActive() == active)
-            .collect(Collectors.toList());
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), activeProducts.size());
-        List<Product> pageContent = activeProducts.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, activeProducts.size());
+    public Page<Product> findByActive(boolean active, Pageable pageable) {
+        return findByFlag(CatalogSnapshot.Flag.ACTIVE, active, pageable);
     }
 
     @Override
-    public org.springframework.data.domain.Page<Product> findByFeatured(boolean featured, org.springframework.data.domain.Pageable pageable) {
-        List<Product> featuredProducts = products.values().stream()
-            .filter(product -> product.isFeatured() == featured)
-            .collect(Collectors.toList());
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), featuredProducts.size());
-        List<Product> pageContent = featuredProducts.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, featuredProducts.size());
+    public Page<Product> findByFeatured(boolean featured, Pageable pageable) {
+        return findByFlag(CatalogSnapshot.Flag.FEATURED, featured, pageable);
     }
 
-    public org.springframework.data.domain.Page<Product> findByNameContainingIgnoreCase(String name, org.springframework.data.domain.Pageable pageable) {
-        List<Product> matchingProducts = findByNameContaining(name);
-        int start = (int) pageable.getOffset();
+    @Override
+    public Page<Product> findByNameContainingIgnoreCase(String name, Pageable pageable) {
+        List<Product> matchingProducts = snapshot.nameContaining(name);
+        int start = (int) Math.min(pageable.getOffset(), matchingProducts.size());
         int end = Math.min(start + pageable.getPageSize(), matchingProducts.size());
-        List<Product> pageContent = matchingProducts.subList(start, end);
-        return new org.springframework.data.domain.PageImpl<>(pageContent, pageable, matchingProducts.size());
+        return new PageImpl<>(matchingProducts.subList(start, end), pageable, matchingProducts.size());
+    }
+
+    @Override
+    public Page<ProductSummary> findSummariesByCategoryId(Long categoryId, Pageable pageable) {
+        return findByCategoryId(categoryId, pageable).map(ProductSummary::from);
+    }
+
+    @Override
+    public Page<ProductSummary> findSummariesByCategoryIds(Collection<Long> categoryIds, Pageable pageable) {
+        CatalogSnapshot current = snapshot;
+        List<Product> content = current.byCategories(categoryIds, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, current.countByCategories(categoryIds)).map(ProductSummary::from);
+    }
+
+    @Override
+    public Page<ProductSummary> findSummariesByNameContaining(String name, Pageable pageable) {
+        return findByNameContainingIgnoreCase(name, pageable).map(ProductSummary::from);
+    }
+
+    @Override
+    public Page<ProductSummary> findSummariesByFeatured(boolean featured, Pageable pageable) {
+        return findByFeatured(featured, pageable).map(ProductSummary::from);
+    }
+
+    @Override
+    public Page<ProductSummary> findSummariesByActive(boolean active, Pageable pageable) {
+        return findByActive(active, pageable).map(ProductSummary::from);
+    }
+
+    @Override
+    public CursorPage<Product> findActiveAfter(Cursor after, int size) {
+        return scroll(Product::isActive, after, size);
+    }
+
+    @Override
+    public CursorPage<Product> findFeaturedAfter(Cursor after, int size) {
+        return scroll(Product::isFeatured, after, size);
+    }
+
+    @Override
+    public CursorPage<Product> findByCategoryIdAfter(Long categoryId, Cursor after, int size) {
+        return scroll(product -> Objects.equals(product.getCategoryId(), categoryId), after, size);
+    }
+
+    @Override
+    public CursorPage<Product> findByCategoryIdsAfter(Collection<Long> categoryIds, Cursor after, int size) {
+        Set<Long> wanted = new HashSet<>(categoryIds);
+        return scroll(product -> wanted.contains(product.getCategoryId()), after, size);
+    }
+
+    @Override
+    public List<Product> findBatchAfterId(Long afterId, int size) {
+        return snapshot.afterId(afterId, size);
+    }
+
+    @Override
+    public synchronized Optional<Product> adjustReviewAggregate(Long productId, int rating, int delta) {
+        ReviewAggregate.validateRating(rating);
+        Optional<Product> current = snapshot.byId(productId);
+        if (current.isEmpty() || (delta < 0 && current.get().getReviews().getCount(rating) == 0)) {
+            return Optional.empty();
+        }
+        Product product = current.get();
+        product.setReviews(delta > 0 ? product.getReviews().withRating(rating) : product.getReviews().withoutRating(rating));
+        product.setUpdatedAt(LocalDateTime.now());
+        snapshot = snapshot.with(product);
+        return Optional.of(product);
+    }
+
+    private Page<Product> findByFlag(CatalogSnapshot.Flag flag, boolean value, Pageable pageable) {
+        CatalogSnapshot current = snapshot;
+        List<Product> content = current.byFlag(flag, value, pageable.getOffset(), pageable.getPageSize());
+        return new PageImpl<>(content, pageable, current.countByFlag(flag, value));
+    }
+
+    private CursorPage<Product> scroll(Predicate<Product> filter, Cursor after, int size) {
+        List<Product> rows = snapshot.newestFirst(after, size + 1, filter);
+        return CursorPage.fromLookahead(rows, size,
+                product -> Cursor.of(CatalogSnapshot.createdAt(product), product.getId()));
     }
-}
\ No newline at end of file
+}
@@ -4,8 +4,11 @@ import com.ecommerce.adapter.persistence.entity.OrderEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,4 +18,37 @@ public interface OrderJpaRepository extends JpaRepository<OrderEntity, Long> {
     Page<OrderEntity> findByUserId(Long userId, Pageable pageable);
     Page<OrderEntity> findByStatus(String status, Pageable pageable);
     List<OrderEntity> findByUserIdAndStatus(Long userId, String status);
+
+    // Keyset (seek) queries ordered newest first; callers pass PageRequest.of(0, limit) for the row limit only
+    @Query("SELECT o FROM OrderEntity o WHERE o.userId = :userId ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderEntity> findByUserIdNewestFirst(@Param("userId") Long userId, Pageable limit);
+
+    @Query("SELECT o FROM OrderEntity o WHERE o.userId = :userId " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderEntity> findByUserIdNewestFirstAfter(@Param("userId") Long userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable limit);
+
+    @Query("SELECT o FROM OrderEntity o ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderEntity> findAllNewestFirst(Pageable limit);
+
+    @Query("SELECT o FROM OrderEntity o " +
+           "WHERE o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderEntity> findAllNewestFirstAfter(@Param("createdAt") LocalDateTime createdAt,
+                                              @Param("id") Long id,
+                                              Pageable limit);
+
+    @Query("SELECT o FROM OrderEntity o WHERE o.status = :status ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderEntity> findByStatusNewestFirst(@Param("status") OrderEntity.OrderStatusEntity status, Pageable limit);
+
+    @Query("SELECT o FROM OrderEntity o WHERE o.status = :status " +
+           "AND (o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id)) " +
+           "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderEntity> findByStatusNewestFirstAfter(@Param("status") OrderEntity.OrderStatusEntity status,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable limit);
 }
\ No newline at end of file
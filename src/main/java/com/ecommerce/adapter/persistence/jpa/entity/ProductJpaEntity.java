@@ -82,6 +82,32 @@ public class ProductJpaEntity {
     @Column(name = "attributes", columnDefinition = "TEXT")
     private String attributes;
 
+    // Review aggregates are only written by the incremental UPDATE in ProductJpaRepository,
+    // never by entity saves, so a product edit cannot overwrite a concurrent rating change
+    @Column(name = "review_count", nullable = false, insertable = false, updatable = false)
+    private Integer reviewCount = 0;
+
+    @Column(name = "rating_sum", nullable = false, insertable = false, updatable = false)
+    private Long ratingSum = 0L;
+
+    @Column(name = "rating_1_count", nullable = false, insertable = false, updatable = false)
+    private Integer rating1Count = 0;
+
+    @Column(name = "rating_2_count", nullable = false, insertable = false, updatable = false)
+    private Integer rating2Count = 0;
+
+    @Column(name = "rating_3_count", nullable = false, insertable = false, updatable = false)
+    private Integer rating3Count = 0;
+
+    @Column(name = "rating_4_count", nullable = false, insertable = false, updatable = false)
+    private Integer rating4Count = 0;
+
+    @Column(name = "rating_5_count", nullable = false, insertable = false, updatable = false)
+    private Integer rating5Count = 0;
+
+    @Column(name = "average_rating", nullable = false, precision = 3, scale = 2, insertable = false, updatable = false)
+    private BigDecimal averageRating = BigDecimal.ZERO;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
@@ -198,5 +224,14 @@ public class ProductJpaEntity {
     public String getAttributes() { return attributes; }
     public void setAttributes(String attributes) { this.attributes = attributes; }
 
+    public Integer getReviewCount() { return reviewCount; }
+    public Long getRatingSum() { return ratingSum; }
+    public Integer getRating1Count() { return rating1Count; }
+    public Integer getRating2Count() { return rating2Count; }
+    public Integer getRating3Count() { return rating3Count; }
+    public Integer getRating4Count() { return rating4Count; }
+    public Integer getRating5Count() { return rating5Count; }
+    public BigDecimal getAverageRating() { return averageRating; }
+
 
 }
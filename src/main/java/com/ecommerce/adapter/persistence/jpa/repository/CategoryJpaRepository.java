@@ -0,0 +1,24 @@
+package com.ecommerce.adapter.persistence.jpa.repository;
+
+import com.ecommerce.adapter.persistence.jpa.entity.CategoryJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CategoryJpaRepository extends JpaRepository<CategoryJpaEntity, Long> {
+
+    Optional<CategoryJpaEntity> findBySlug(String slug);
+
+    List<CategoryJpaEntity> findByIsActiveTrue();
+
+    List<CategoryJpaEntity> findByParentId(Long parentId);
+
+    List<CategoryJpaEntity> findByParentIdIsNull();
+
+    boolean existsBySlug(String slug);
+
+    boolean existsByParentId(Long parentId);
+}
@@ -1,19 +1,31 @@
 package com.ecommerce.adapter.persistence.jpa.repository;
 
 import com.ecommerce.adapter.persistence.jpa.entity.ProductJpaEntity;
+import com.ecommerce.core.domain.product.valueobject.ProductSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, Long> {
 
+    // Listing projection: selects only the columns list pages render, without managed entities;
+    // the primary image comes from a correlated subquery on product_images
+    String SUMMARY_SELECT = "SELECT new com.ecommerce.core.domain.product.valueobject.ProductSummary(" +
+            "p.id, p.name, p.slug, p.sku, p.basePrice, p.currency, p.categoryId, " +
+            "(SELECT MIN(i.imageUrl) FROM ProductImageJpaEntity i WHERE i.productId = p.id AND i.isPrimary = true), " +
+            "p.stockQuantity, p.isActive, p.isFeatured, p.averageRating, p.reviewCount, p.createdAt, p.updatedAt) " +
+            "FROM ProductJpaEntity p ";
+
     Optional<ProductJpaEntity> findBySlug(String slug);
 
     Optional<ProductJpaEntity> findBySku(String sku);
@@ -32,12 +44,113 @@ public interface ProductJpaRepository extends JpaRepository<ProductJpaEntity, Lo
 
     List<ProductJpaEntity> findByNameContainingIgnoreCase(String name);
 
+    @Query(value = "SELECT p FROM ProductJpaEntity p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))",
+           countQuery = "SELECT COUNT(p.id) FROM ProductJpaEntity p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    Page<ProductJpaEntity> findByNameContainingIgnoreCase(@Param("name") String name, Pageable pageable);
+
     @Query("SELECT p FROM ProductJpaEntity p WHERE p.isActive = true AND p.name LIKE %:name%")
     List<ProductJpaEntity> findActiveProductsByNameContaining(@Param("name") String name);
 
     @Query("SELECT p FROM ProductJpaEntity p WHERE p.categoryId = :categoryId")
     List<ProductJpaEntity> findByCategoryId(@Param("categoryId") Long categoryId);
 
+    // Count query skips ORDER BY and entity hydration; Spring Data also skips it entirely when the page is the last one
+    @Query(value = "SELECT p FROM ProductJpaEntity p WHERE p.categoryId = :categoryId",
+           countQuery = "SELECT COUNT(p.id) FROM ProductJpaEntity p WHERE p.categoryId = :categoryId")
+    Page<ProductJpaEntity> findByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.isActive = :active",
+           countQuery = "SELECT COUNT(p.id) FROM ProductJpaEntity p WHERE p.isActive = :active")
+    Page<ProductSummary> findSummariesByActive(@Param("active") boolean active, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.isFeatured = :featured",
+           countQuery = "SELECT COUNT(p.id) FROM ProductJpaEntity p WHERE p.isFeatured = :featured")
+    Page<ProductSummary> findSummariesByFeatured(@Param("featured") boolean featured, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.categoryId = :categoryId",
+           countQuery = "SELECT COUNT(p.id) FROM ProductJpaEntity p WHERE p.categoryId = :categoryId")
+    Page<ProductSummary> findSummariesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.categoryId IN :categoryIds",
+           countQuery = "SELECT COUNT(p.id) FROM ProductJpaEntity p WHERE p.categoryId IN :categoryIds")
+    Page<ProductSummary> findSummariesByCategoryIdIn(@Param("categoryIds") Collection<Long> categoryIds, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))",
+           countQuery = "SELECT COUNT(p.id) FROM ProductJpaEntity p WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :name, '%'))")
+    Page<ProductSummary> findSummariesByNameContaining(@Param("name") String name, Pageable pageable);
+
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.id > :afterId ORDER BY p.id")
+    List<ProductJpaEntity> findByIdAfter(@Param("afterId") Long afterId, Pageable limit);
+
+    // Keyset (seek) queries ordered newest first; callers pass PageRequest.of(0, limit) for the row limit only
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.isActive = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductJpaEntity> findActiveNewestFirst(Pageable limit);
+
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.isActive = true " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductJpaEntity> findActiveNewestFirstAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                      @Param("id") Long id,
+                                                      Pageable limit);
+
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.isFeatured = true ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductJpaEntity> findFeaturedNewestFirst(Pageable limit);
+
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.isFeatured = true " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductJpaEntity> findFeaturedNewestFirstAfter(@Param("createdAt") LocalDateTime createdAt,
+                                                        @Param("id") Long id,
+                                                        Pageable limit);
+
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.categoryId = :categoryId ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductJpaEntity> findByCategoryIdNewestFirst(@Param("categoryId") Long categoryId, Pageable limit);
+
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.categoryId = :categoryId " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductJpaEntity> findByCategoryIdNewestFirstAfter(@Param("categoryId") Long categoryId,
+                                                            @Param("createdAt") LocalDateTime createdAt,
+                                                            @Param("id") Long id,
+                                                            Pageable limit);
+
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.categoryId IN :categoryIds ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductJpaEntity> findByCategoryIdInNewestFirst(@Param("categoryIds") Collection<Long> categoryIds, Pageable limit);
+
+    @Query("SELECT p FROM ProductJpaEntity p WHERE p.categoryId IN :categoryIds " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductJpaEntity> findByCategoryIdInNewestFirstAfter(@Param("categoryIds") Collection<Long> categoryIds,
+                                                              @Param("createdAt") LocalDateTime createdAt,
+                                                              @Param("id") Long id,
+                                                              Pageable limit);
+
+    /**
+     * Adds (delta = 1) or removes (delta = -1) one rating in a single atomic statement.
+     * Every right-hand side reads the pre-update row, so concurrent reviews cannot lose updates;
+     * a removal from an empty bucket matches no row instead of driving counts negative.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE products SET " +
+           "review_count = review_count + :delta, " +
+           "rating_sum = rating_sum + :rating * :delta, " +
+           "rating_1_count = rating_1_count + CASE WHEN :rating = 1 THEN :delta ELSE 0 END, " +
+           "rating_2_count = rating_2_count + CASE WHEN :rating = 2 THEN :delta ELSE 0 END, " +
+           "rating_3_count = rating_3_count + CASE WHEN :rating = 3 THEN :delta ELSE 0 END, " +
+           "rating_4_count = rating_4_count + CASE WHEN :rating = 4 THEN :delta ELSE 0 END, " +
+           "rating_5_count = rating_5_count + CASE WHEN :rating = 5 THEN :delta ELSE 0 END, " +
+           "average_rating = CASE WHEN review_count + :delta > 0 " +
+           "THEN ROUND(CAST(rating_sum + :rating * :delta AS DECIMAL(12,2)) / (review_count + :delta), 2) ELSE 0 END, " +
+           "updated_at = :updatedAt " +
+           "WHERE product_id = :productId AND (:delta > 0 OR CASE :rating " +
+           "WHEN 1 THEN rating_1_count WHEN 2 THEN rating_2_count WHEN 3 THEN rating_3_count " +
+           "WHEN 4 THEN rating_4_count ELSE rating_5_count END > 0)",
+           nativeQuery = true)
+    int adjustReviewAggregate(@Param("productId") Long productId,
+                              @Param("rating") int rating,
+                              @Param("delta") int delta,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
     @Query("SELECT p FROM ProductJpaEntity p WHERE p.isActive = true AND p.basePrice BETWEEN :minPrice AND :maxPrice")
     List<ProductJpaEntity> findActiveProductsByPriceRange(@Param("minPrice") java.math.BigDecimal minPrice,
                                                           @Param("maxPrice") java.math.BigDecimal maxPrice);
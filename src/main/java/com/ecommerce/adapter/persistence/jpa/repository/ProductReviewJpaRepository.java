@@ -0,0 +1,27 @@
+package com.ecommerce.adapter.persistence.jpa.repository;
+
+import com.ecommerce.adapter.persistence.jpa.entity.ProductReviewJpaEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProductReviewJpaRepository extends JpaRepository<ProductReviewJpaEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ProductReviewJpaEntity r WHERE r.id = :id")
+    Optional<ProductReviewJpaEntity> findByIdForUpdate(@Param("id") Long id);
+
+    @Query(value = "SELECT r FROM ProductReviewJpaEntity r WHERE r.productId = :productId AND r.isApproved = true",
+           countQuery = "SELECT COUNT(r.id) FROM ProductReviewJpaEntity r WHERE r.productId = :productId AND r.isApproved = true")
+    Page<ProductReviewJpaEntity> findApprovedByProductId(@Param("productId") Long productId, Pageable pageable);
+
+    boolean existsByProductIdAndUserId(Long productId, Long userId);
+}
@@ -176,7 +176,7 @@ public class CartController {
                     itemDto.setId(item.getId());
                     itemDto.setProductId(item.getProductId());
                     itemDto.setProductName(item.getProductName());
-                    itemDto.setProductSku(null); // CartItem doesn't have SKU
+                    itemDto.setProductSku(response.getProductSkus().get(item.getProductId()));
                     itemDto.setQuantity(item.getQuantity());
                     itemDto.setUnitPrice(item.getUnitPrice());
                     itemDto.setTotalPrice(item.getTotalPrice());
@@ -1,13 +1,20 @@
 package com.ecommerce.adapter.web.controller;
 
+import com.ecommerce.infrastructure.external.search.BulkIndexResult;
 import com.ecommerce.infrastructure.service.ProductSyncService;
+import com.ecommerce.infrastructure.service.SyncProgress;
+import com.ecommerce.shared.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -39,51 +46,81 @@ public class ElasticsearchAdminController {
     }
 
     /**
-     * Manually sync all products to Elasticsearch
+     * Start a streaming sync of all products to Elasticsearch; poll /sync/status for progress
      */
     @PostMapping("/sync/all")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, String>> syncAllProducts() {
-        try {
-            log.info("Manual sync all products request received");
-            productSyncService.syncAllProductsToElasticsearch();
-
-            return ResponseEntity.ok(Map.of(
-                "message", "Product sync initiated successfully",
-                "status", "success"
-            ));
-        } catch (Exception e) {
-            log.error("Failed to sync products: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().body(Map.of(
-                "message", "Failed to sync products: " + e.getMessage(),
-                "status", "error"
-            ));
-        }
+    public ResponseEntity<Map<String, Object>> syncAllProducts() {
+        log.info("Manual sync all products request received");
+        return startSync(SyncProgress.Scope.ALL);
     }
 
     /**
-     * Manually sync only active products to Elasticsearch
+     * Start a streaming sync of active products to Elasticsearch; poll /sync/status for progress
      */
     @PostMapping("/sync/active")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, String>> syncActiveProducts() {
-        try {
-            log.info("Manual sync active products request received");
-            productSyncService.syncActiveProductsToElasticsearch();
+    public ResponseEntity<Map<String, Object>> syncActiveProducts() {
+        log.info("Manual sync active products request received");
+        return startSync(SyncProgress.Scope.ACTIVE);
+    }
 
-            return ResponseEntity.ok(Map.of(
-                "message", "Active product sync initiated successfully",
-                "status", "success"
-            ));
-        } catch (Exception e) {
-            log.error("Failed to sync active products: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().body(Map.of(
-                "message", "Failed to sync active products: " + e.getMessage(),
+    /**
+     * Progress of the running or most recent full sync
+     */
+    @GetMapping("/sync/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> syncStatus() {
+        return productSyncService.getCurrentSync()
+                .map(progress -> ResponseEntity.ok(toStatus(progress)))
+                .orElseGet(() -> ResponseEntity.ok(Map.of("status", "IDLE")));
+    }
+
+    private ResponseEntity<Map<String, Object>> startSync(SyncProgress.Scope scope) {
+        try {
+            SyncProgress progress = productSyncService.startSync(scope);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(toStatus(progress));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "message", e.getMessage(),
                 "status", "error"
             ));
         }
     }
 
+    private Map<String, Object> toStatus(SyncProgress progress) {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("id", progress.getId());
+        status.put("scope", progress.getScope());
+        status.put("status", progress.getState());
+        status.put("startedAt", progress.getStartedAt().toString());
+        status.put("scanned", progress.getScanned().get());
+        status.put("lastProductId", progress.getLastProductId());
+        if (progress.getTargetIndex() != null) {
+            status.put("targetIndex", progress.getTargetIndex());
+        }
+        BulkIndexResult result = progress.getResult();
+        if (result != null) {
+            status.put("indexed", result.getIndexedCount());
+            status.put("failed", result.getFailedCount());
+            status.put("retried", result.getRetriedCount());
+            status.put("batches", result.getBatchCount());
+            long elapsed = Math.max(1, Duration.between(progress.getStartedAt(),
+                    progress.getFinishedAt() != null ? progress.getFinishedAt() : Instant.now()).toMillis());
+            status.put("docsPerSecond", result.getIndexedCount() * 1000 / elapsed);
+            if (!result.getFailures().isEmpty()) {
+                status.put("failures", result.getFailures());
+            }
+        }
+        if (progress.getFinishedAt() != null) {
+            status.put("finishedAt", progress.getFinishedAt().toString());
+        }
+        if (progress.getError() != null) {
+            status.put("error", progress.getError());
+        }
+        return status;
+    }
+
     /**
      * Sync a specific product by ID to Elasticsearch
      */
@@ -131,25 +168,12 @@ public class ElasticsearchAdminController {
     }
 
     /**
-     * Reindex all products (clear and sync all)
+     * Rebuild the index blue/green in the background; searches keep using the current index until the swap
      */
     @PostMapping("/reindex")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Map<String, String>> reindexAllProducts() {
-        try {
-            log.info("Manual reindex all products request received");
-            productSyncService.reindexAllProducts();
-
-            return ResponseEntity.ok(Map.of(
-                "message", "Product reindex initiated successfully",
-                "status", "success"
-            ));
-        } catch (Exception e) {
-            log.error("Failed to reindex products: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError().body(Map.of(
-                "message", "Failed to reindex products: " + e.getMessage(),
-                "status", "error"
-            ));
-        }
+    public ResponseEntity<Map<String, Object>> reindexAllProducts() {
+        log.info("Manual reindex all products request received");
+        return startSync(SyncProgress.Scope.REINDEX);
     }
 }
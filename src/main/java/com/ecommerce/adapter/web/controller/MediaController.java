@@ -0,0 +1,180 @@
+package com.ecommerce.adapter.web.controller;
+
+import com.ecommerce.adapter.web.dto.response.MediaResponseDto;
+import com.ecommerce.infrastructure.external.storage.ByteRange;
+import com.ecommerce.infrastructure.external.storage.ImageDerivativeService;
+import com.ecommerce.infrastructure.external.storage.LocalFileStorageService;
+import com.ecommerce.shared.dto.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Serves product media from local storage and accepts admin uploads.
+ * Files are content-addressed, so responses are cacheable forever and revalidate on the hash ETag.
+ * Bodies go out through Tomcat's sendfile when the connector supports it, so the bytes never enter the JVM.
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+public class MediaController {
+
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // Tomcat request attributes that hand the response body to the connector's sendfile path
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final LocalFileStorageService storageService;
+    private final ImageDerivativeService imageDerivativeService;
+
+    /**
+     * Serve a stored file, honouring conditional and single-range requests
+     */
+    @RequestMapping(value = "/images/{key:.+}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(@PathVariable String key, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        LocalFileStorageService.MediaFile file = storageService.find(key).orElse(null);
+        if (file == null) {
+            redirectToOriginal(key, response);
+            return;
+        }
+
+        String etag = file.getETag();
+        long lastModified = file.getLastModified().toEpochMilli();
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = file.getSize();
+        ByteRange range = rangeApplies(request, etag, lastModified)
+                ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), length)
+                : null;
+        if (range != null && !range.isSatisfiable()) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+            response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        long start = range != null ? range.getStart() : 0;
+        long count = range != null ? range.getLength() : length;
+        if (range != null) {
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            response.setHeader(HttpHeaders.CONTENT_RANGE, range.toContentRange(length));
+        }
+        response.setContentType(file.getContentType());
+        response.setContentLengthLong(count);
+
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+        // Memory-mapped files are already resident, anything larger goes to the kernel via sendfile
+        if (!storageService.isMemoryMapped(file) && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+        storageService.transfer(file, start, count, out);
+    }
+
+    /**
+     * Upload a media file; the returned URL is stable for as long as the content is unchanged
+     */
+    @PostMapping(value = "/api/admin/media", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<MediaResponseDto>> upload(@RequestParam("file") MultipartFile file)
+            throws IOException {
+        log.info("Media upload {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+        LocalFileStorageService.StoredFile stored;
+        try (InputStream input = file.getInputStream()) {
+            stored = storageService.store(input, file.getOriginalFilename());
+        }
+        imageDerivativeService.schedule(stored.getKey());
+        MediaResponseDto body = MediaResponseDto.builder()
+            .key(stored.getKey())
+            .url(stored.getUrl())
+            .contentType(stored.getContentType())
+            .size(stored.getSize())
+            .variants(imageDerivativeService.variantUrls(stored.getUrl()))
+            .build();
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(ApiResponse.success(body, "Media stored successfully"));
+    }
+
+    // A variant that is not generated yet is served by its original, uncached, and its generation re-queued
+    private void redirectToOriginal(String key, HttpServletResponse response) throws IOException {
+        LocalFileStorageService.MediaFile original = imageDerivativeService.findOriginalOf(key).orElse(null);
+        if (original == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        imageDerivativeService.schedule(original.getKey());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setStatus(HttpServletResponse.SC_TEMPORARY_REDIRECT);
+        response.setHeader(HttpHeaders.LOCATION, LocalFileStorageService.URL_PREFIX + original.getKey());
+    }
+
+    private static boolean notModified(HttpServletRequest request, String etag, long lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return matchesETag(ifNoneMatch, etag);
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        // HTTP dates have second precision
+        return ifModifiedSince >= 0 && lastModified / 1000 <= ifModifiedSince / 1000;
+    }
+
+    // A stale If-Range validator means the client's partial copy is outdated: send the whole file instead
+    private static boolean rangeApplies(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(etag);
+        }
+        long date = dateHeader(request, HttpHeaders.IF_RANGE);
+        return date >= 0 && lastModified / 1000 == date / 1000;
+    }
+
+    private static boolean matchesETag(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
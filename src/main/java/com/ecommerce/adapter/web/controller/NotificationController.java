@@ -2,7 +2,11 @@ package com.ecommerce.adapter.web.controller;
 
 import com.ecommerce.adapter.web.dto.request.SendNotificationRequestDto;
 import com.ecommerce.adapter.web.dto.response.NotificationResponseDto;
+import com.ecommerce.core.domain.notification.entity.Notification;
+import com.ecommerce.core.domain.user.repository.UserRepository;
+import com.ecommerce.core.usecase.notification.GetUserNotificationsUseCase;
 import com.ecommerce.shared.dto.ApiResponse;
+import com.ecommerce.shared.pagination.CursorPage;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -22,11 +26,18 @@ import jakarta.validation.constraints.Positive;
 @PreAuthorize("isAuthenticated()")
 public class NotificationController {
 
-    // TODO: Inject use cases when implemented
+    // TODO: Inject remaining use cases when implemented
     // private final SendNotificationUseCase sendNotificationUseCase;
-    // private final GetUserNotificationsUseCase getUserNotificationsUseCase;
     // private final MarkNotificationReadUseCase markNotificationReadUseCase;
     // private final DeleteNotificationUseCase deleteNotificationUseCase;
+    private final GetUserNotificationsUseCase getUserNotificationsUseCase;
+    private final UserRepository userRepository;
+
+    public NotificationController(GetUserNotificationsUseCase getUserNotificationsUseCase,
+                                  UserRepository userRepository) {
+        this.getUserNotificationsUseCase = getUserNotificationsUseCase;
+        this.userRepository = userRepository;
+    }
 
     @GetMapping
     public ResponseEntity<ApiResponse<Page<NotificationResponseDto>>> getUserNotifications(
@@ -40,6 +51,21 @@ public class NotificationController {
         return ResponseEntity.ok(ApiResponse.success(null, "Notifications retrieved successfully"));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<NotificationResponseDto>>> scrollUserNotifications(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        
+        Long userId = getUserIdFromEmail(authentication.getName());
+        
+        CursorPage<NotificationResponseDto> notifications = getUserNotificationsUseCase
+            .execute(userId, cursor, size)
+            .map(this::mapToNotificationResponseDto);
+        
+        return ResponseEntity.ok(ApiResponse.success(notifications, "Notifications retrieved successfully"));
+    }
+
     @GetMapping("/unread/count")
     public ResponseEntity<ApiResponse<Integer>> getUnreadNotificationCount(
             Authentication authentication) {
@@ -111,4 +137,22 @@ public class NotificationController {
         // TODO: Implement with use case
         return ResponseEntity.ok(ApiResponse.success(null, "All notifications retrieved successfully"));
     }
-}
\ No newline at end of file
+
+    private Long getUserIdFromEmail(String email) {
+        return userRepository.findByEmail(new com.ecommerce.core.domain.user.valueobject.Email(email))
+            .orElseThrow(() -> new RuntimeException("User not found"))
+            .getId();
+    }
+
+    private NotificationResponseDto mapToNotificationResponseDto(Notification notification) {
+        return NotificationResponseDto.builder()
+            .id(notification.getId())
+            .title(notification.getTitle())
+            .message(notification.getMessage())
+            .type(notification.getType() != null ? notification.getType().name() : null)
+            .isRead(notification.isRead())
+            .createdAt(notification.getCreatedAt())
+            .readAt(notification.getReadAt())
+            .build();
+    }
+}
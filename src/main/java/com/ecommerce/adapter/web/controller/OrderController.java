@@ -8,8 +8,11 @@ import com.ecommerce.core.usecase.order.CreateOrderResponse;
 import com.ecommerce.core.usecase.order.GetOrderUseCase;
 import com.ecommerce.core.usecase.order.GetOrderRequest;
 import com.ecommerce.core.usecase.order.GetOrderResponse;
+import com.ecommerce.core.domain.order.entity.OrderStatus;
 import com.ecommerce.core.domain.user.repository.UserRepository;
 import com.ecommerce.shared.dto.ApiResponse;
+import com.ecommerce.shared.exception.ValidationException;
+import com.ecommerce.shared.pagination.CursorPage;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -97,6 +100,20 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(orderDtos, "Orders retrieved successfully"));
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<OrderResponseDto>>> scrollUserOrders(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        
+        Long userId = getUserIdFromEmail(authentication.getName());
+        
+        CursorPage<GetOrderResponse> orders = getOrderUseCase.scrollUserOrders(userId, cursor, size);
+        CursorPage<OrderResponseDto> orderDtos = orders.map(this::mapToOrderResponseDto);
+        
+        return ResponseEntity.ok(ApiResponse.success(orderDtos, "Orders retrieved successfully"));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<OrderResponseDto>> getOrderById(
             @PathVariable @NotNull @Positive Long id,
@@ -145,6 +162,19 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success(null, "All orders retrieved successfully"));
     }
 
+    @GetMapping("/admin/all/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<CursorPage<OrderResponseDto>>> scrollAllOrders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String status) {
+        
+        CursorPage<GetOrderResponse> orders = getOrderUseCase.scrollAllOrders(parseStatus(status), cursor, size);
+        CursorPage<OrderResponseDto> orderDtos = orders.map(this::mapToOrderResponseDto);
+        
+        return ResponseEntity.ok(ApiResponse.success(orderDtos, "All orders retrieved successfully"));
+    }
+
     @PutMapping("/admin/{id}/status")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<OrderResponseDto>> updateOrderStatus(
@@ -161,6 +191,17 @@ public class OrderController {
             .getId();
     }
 
+    private OrderStatus parseStatus(String status) {
+        if (status == null || status.isBlank()) {
+            return null;
+        }
+        try {
+            return OrderStatus.valueOf(status.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid order status: " + status);
+        }
+    }
+
     private OrderResponseDto mapToOrderResponseDto(GetOrderResponse response) {
         OrderResponseDto dto = new OrderResponseDto();
         dto.setId(response.getId());
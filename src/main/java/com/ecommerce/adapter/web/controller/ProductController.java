@@ -3,15 +3,20 @@ package com.ecommerce.adapter.web.controller;
 import com.ecommerce.adapter.web.dto.request.CreateProductRequestDto;
 import com.ecommerce.adapter.web.dto.request.UpdateProductRequestDto;
 import com.ecommerce.adapter.web.dto.response.ProductResponseDto;
+import com.ecommerce.core.domain.product.valueobject.ProductSummary;
 import com.ecommerce.core.usecase.product.GetProductUseCase;
 import com.ecommerce.core.usecase.product.GetProductRequest;
 import com.ecommerce.core.usecase.product.GetProductResponse;
 import com.ecommerce.core.usecase.product.GetProductsUseCase;
 import com.ecommerce.core.usecase.product.GetProductsRequest;
+import com.ecommerce.infrastructure.external.storage.ImageDerivativeService;
 import com.ecommerce.shared.dto.ApiResponse;
+import com.ecommerce.shared.pagination.CursorPage;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,6 +27,12 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/products")
 @Validated
@@ -29,10 +40,16 @@ public class ProductController {
 
     private final GetProductUseCase getProductUseCase;
     private final GetProductsUseCase getProductsUseCase;
+    private final ImageDerivativeService imageDerivativeService;
+    private final CacheControl productCacheControl;
 
-    public ProductController(GetProductUseCase getProductUseCase, GetProductsUseCase getProductsUseCase) {
+    public ProductController(GetProductUseCase getProductUseCase, GetProductsUseCase getProductsUseCase,
+                             ImageDerivativeService imageDerivativeService,
+                             @Value("${app.http.cache.product-max-age:PT1M}") Duration productMaxAge) {
         this.getProductUseCase = getProductUseCase;
         this.getProductsUseCase = getProductsUseCase;
+        this.imageDerivativeService = imageDerivativeService;
+        this.productCacheControl = CacheControl.maxAge(productMaxAge).cachePublic();
     }
 
     @GetMapping
@@ -40,13 +57,30 @@ public class ProductController {
             Pageable pageable,
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String search,
-            @RequestParam(required = false) Boolean featured) {
+            @RequestParam(required = false) Boolean featured,
+            @RequestParam(defaultValue = "false") boolean includeSubcategories) {
         
         Long categoryId = category != null ? Long.parseLong(category) : null;
-        GetProductsRequest request = new GetProductsRequest(categoryId, search, featured);
+        GetProductsRequest request = new GetProductsRequest(categoryId, search, featured, includeSubcategories);
+        
+        Page<ProductSummary> products = getProductsUseCase.execute(request, pageable);
+        Page<ProductResponseDto> productDtos = products.map(this::mapToListingResponseDto);
+        
+        return ResponseEntity.ok(ApiResponse.success(productDtos, "Products retrieved successfully"));
+    }
+
+    @GetMapping("/scroll")
+    public ResponseEntity<ApiResponse<CursorPage<ProductResponseDto>>> scrollProducts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Long category,
+            @RequestParam(required = false) Boolean featured,
+            @RequestParam(defaultValue = "false") boolean includeSubcategories) {
         
-        Page<GetProductResponse> products = getProductsUseCase.execute(request, pageable);
-        Page<ProductResponseDto> productDtos = products.map(this::mapToProductResponseDto);
+        GetProductsRequest request = new GetProductsRequest(category, null, featured, includeSubcategories);
+        
+        CursorPage<GetProductResponse> products = getProductsUseCase.scroll(request, cursor, size);
+        CursorPage<ProductResponseDto> productDtos = products.map(this::mapToProductResponseDto);
         
         return ResponseEntity.ok(ApiResponse.success(productDtos, "Products retrieved successfully"));
     }
@@ -59,7 +93,7 @@ public class ProductController {
         GetProductResponse product = getProductUseCase.execute(request);
         ProductResponseDto productDto = mapToProductResponseDto(product);
         
-        return ResponseEntity.ok(ApiResponse.success(productDto, "Product retrieved successfully"));
+        return conditional(product).body(ApiResponse.success(productDto, "Product retrieved successfully"));
     }
 
     @GetMapping("/slug/{slug}")
@@ -69,7 +103,7 @@ public class ProductController {
         GetProductResponse product = getProductUseCase.executeBySlug(slug);
         ProductResponseDto productDto = mapToProductResponseDto(product);
         
-        return ResponseEntity.ok(ApiResponse.success(productDto, "Product retrieved successfully"));
+        return conditional(product).body(ApiResponse.success(productDto, "Product retrieved successfully"));
     }
 
     @PostMapping
@@ -106,8 +140,8 @@ public class ProductController {
     public ResponseEntity<ApiResponse<Page<ProductResponseDto>>> getFeaturedProducts(
             Pageable pageable) {
         
-        Page<GetProductResponse> products = getProductsUseCase.getFeaturedProducts(pageable);
-        Page<ProductResponseDto> productDtos = products.map(this::mapToProductResponseDto);
+        Page<ProductSummary> products = getProductsUseCase.getFeaturedProducts(pageable);
+        Page<ProductResponseDto> productDtos = products.map(this::mapToListingResponseDto);
         
         return ResponseEntity.ok(ApiResponse.success(productDtos, "Featured products retrieved successfully"));
     }
@@ -115,14 +149,54 @@ public class ProductController {
     @GetMapping("/category/{categoryId}")
     public ResponseEntity<ApiResponse<Page<ProductResponseDto>>> getProductsByCategory(
             @PathVariable @NotNull @Positive Long categoryId,
+            @RequestParam(defaultValue = "false") boolean includeSubcategories,
             Pageable pageable) {
         
-        Page<GetProductResponse> products = getProductsUseCase.getProductsByCategory(categoryId, pageable);
-        Page<ProductResponseDto> productDtos = products.map(this::mapToProductResponseDto);
+        Page<ProductSummary> products = getProductsUseCase.getProductsByCategory(categoryId, includeSubcategories, pageable);
+        Page<ProductResponseDto> productDtos = products.map(this::mapToListingResponseDto);
         
         return ResponseEntity.ok(ApiResponse.success(productDtos, "Products by category retrieved successfully"));
     }
 
+    /**
+     * Validators derived from the product version; Spring answers a matching
+     * If-None-Match or If-Modified-Since with 304 and skips writing the body.
+     * The ETag is weak because the envelope carries a per-response timestamp.
+     */
+    private ResponseEntity.BodyBuilder conditional(GetProductResponse product) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(productCacheControl);
+        if (product.getUpdatedAt() == null) {
+            return builder;
+        }
+        Instant updatedAt = product.getUpdatedAt().atZone(ZoneId.systemDefault()).toInstant();
+        return builder
+                .eTag("W/\"product-" + product.getId() + "-" + updatedAt.toEpochMilli() + "\"")
+                .lastModified(updatedAt);
+    }
+
+    // List pages carry no description; clients fetch the detail endpoint for the full product
+    private ProductResponseDto mapToListingResponseDto(ProductSummary product) {
+        return ProductResponseDto.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .slug(product.getSlug())
+                .sku(product.getSku())
+                .price(product.getPrice())
+                .currency(product.getCurrency())
+                .categoryId(product.getCategoryId())
+                .imageUrl(product.getImageUrl())
+                .imageVariants(imageDerivativeService.variantUrls(product.getImageUrl()))
+                .stockQuantity(product.getStockQuantity())
+                .inStock(product.getStockQuantity() > 0)
+                .isActive(product.isActive())
+                .isFeatured(product.isFeatured())
+                .averageRating(product.getAverageRating())
+                .reviewCount(product.getReviewCount())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .build();
+    }
+
     private ProductResponseDto mapToProductResponseDto(GetProductResponse product) {
         return ProductResponseDto.builder()
                 .id(product.getId())
@@ -136,12 +210,27 @@ public class ProductController {
                 .categoryId(product.getCategoryId())
                 .category(product.getCategory())
                 .imageUrl(product.getImageUrl())
+                .imageVariants(imageDerivativeService.variantUrls(product.getImageUrl()))
                 .stockQuantity(product.getStockQuantity())
                 .inStock(product.getStockQuantity() > 0)
                 .isActive(product.isActive())
                 .isFeatured(product.isFeatured())
+                .averageRating(product.getAverageRating())
+                .reviewCount(product.getReviewCount())
+                .ratingHistogram(histogram(product.getRatingHistogram()))
                 .createdAt(product.getCreatedAt())
                 .updatedAt(product.getUpdatedAt())
                 .build();
     }
+
+    private static Map<Integer, Integer> histogram(int[] counts) {
+        if (counts == null) {
+            return null;
+        }
+        Map<Integer, Integer> histogram = new LinkedHashMap<>();
+        for (int stars = counts.length; stars >= 1; stars--) {
+            histogram.put(stars, counts[stars - 1]);
+        }
+        return histogram;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.ecommerce.adapter.web.controller;
+
+import com.ecommerce.infrastructure.service.ProductImportParser;
+import com.ecommerce.infrastructure.service.ProductImportResult;
+import com.ecommerce.infrastructure.service.ProductImportService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Admin controller for bulk product imports from CSV or JSONL files
+ */
+@RestController
+@RequestMapping("/api/v1/admin/products")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportController {
+
+    private final ProductImportService productImportService;
+
+    /**
+     * Stream an uploaded file into the catalog, upserting by SKU
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProductImportResult> importProducts(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) ProductImportParser.Format format) throws IOException {
+        log.info("Bulk product import requested for file {} ({} bytes)", file.getOriginalFilename(), file.getSize());
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(productImportService.importProducts(input, file.getOriginalFilename(), format));
+        }
+    }
+}
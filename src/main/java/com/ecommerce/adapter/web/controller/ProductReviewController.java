@@ -0,0 +1,106 @@
+package com.ecommerce.adapter.web.controller;
+
+import com.ecommerce.adapter.web.dto.request.product.SubmitProductReviewRequestDto;
+import com.ecommerce.adapter.web.dto.response.product.ProductReviewResponseDto;
+import com.ecommerce.core.domain.product.entity.ProductReview;
+import com.ecommerce.core.domain.user.repository.UserRepository;
+import com.ecommerce.core.usecase.product.GetProductReviewsUseCase;
+import com.ecommerce.core.usecase.product.ModerateProductReviewUseCase;
+import com.ecommerce.core.usecase.product.SubmitProductReviewUseCase;
+import com.ecommerce.shared.dto.ApiResponse;
+import com.ecommerce.shared.exception.ValidationException;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+
+/**
+ * Product reviews: public listing, customer submission and admin moderation
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ProductReviewController {
+
+    private final SubmitProductReviewUseCase submitProductReviewUseCase;
+    private final ModerateProductReviewUseCase moderateProductReviewUseCase;
+    private final GetProductReviewsUseCase getProductReviewsUseCase;
+    private final UserRepository userRepository;
+
+    @GetMapping("/products/{productId}/reviews")
+    public ResponseEntity<ApiResponse<Page<ProductReviewResponseDto>>> getReviews(
+            @PathVariable Long productId,
+            Pageable pageable) {
+
+        Page<ProductReviewResponseDto> reviews = getProductReviewsUseCase.execute(productId, pageable)
+            .map(this::mapToResponseDto);
+
+        return ResponseEntity.ok(ApiResponse.success(reviews, "Reviews retrieved successfully"));
+    }
+
+    @PostMapping("/products/{productId}/reviews")
+    public ResponseEntity<ApiResponse<ProductReviewResponseDto>> submitReview(
+            @PathVariable Long productId,
+            @Valid @RequestBody SubmitProductReviewRequestDto request,
+            Authentication authentication) {
+
+        Long userId = getUserIdFromEmail(authentication.getName());
+        ProductReview review = submitProductReviewUseCase.execute(
+            userId, productId, toStars(request.getRating()), request.getTitle(), request.getComment());
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .body(ApiResponse.success(mapToResponseDto(review), "Review submitted for moderation"));
+    }
+
+    @PutMapping("/admin/reviews/{reviewId}/approve")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<ProductReviewResponseDto>> approveReview(@PathVariable Long reviewId) {
+        ProductReview review = moderateProductReviewUseCase.approve(reviewId);
+        return ResponseEntity.ok(ApiResponse.success(mapToResponseDto(review), "Review approved successfully"));
+    }
+
+    @DeleteMapping("/admin/reviews/{reviewId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> removeReview(@PathVariable Long reviewId) {
+        moderateProductReviewUseCase.remove(reviewId);
+        return ResponseEntity.ok(ApiResponse.success(null, "Review removed successfully"));
+    }
+
+    // Ratings are whole stars; the histogram has one bucket per star
+    private int toStars(BigDecimal rating) {
+        try {
+            return rating.intValueExact();
+        } catch (ArithmeticException e) {
+            throw new ValidationException("Rating must be a whole number of stars");
+        }
+    }
+
+    private Long getUserIdFromEmail(String email) {
+        return userRepository.findByEmail(new com.ecommerce.core.domain.user.valueobject.Email(email))
+            .orElseThrow(() -> new RuntimeException("User not found"))
+            .getId();
+    }
+
+    private ProductReviewResponseDto mapToResponseDto(ProductReview review) {
+        ProductReviewResponseDto dto = new ProductReviewResponseDto();
+        dto.setId(review.getId());
+        dto.setProductId(review.getProductId());
+        dto.setUserId(review.getUserId());
+        dto.setRating(BigDecimal.valueOf(review.getRating()));
+        dto.setTitle(review.getTitle());
+        dto.setComment(review.getComment());
+        dto.setHelpfulCount(review.getHelpfulCount());
+        dto.setIsVerifiedPurchase(review.isVerifiedPurchase());
+        dto.setStatus(review.isApproved() ? "APPROVED" : "PENDING");
+        dto.setCreatedAt(review.getCreatedAt());
+        dto.setUpdatedAt(review.getUpdatedAt());
+        return dto;
+    }
+}
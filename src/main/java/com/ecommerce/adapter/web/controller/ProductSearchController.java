@@ -1,7 +1,11 @@
 package com.ecommerce.adapter.web.controller;
 
 import com.ecommerce.adapter.persistence.elasticsearch.document.ProductDocument;
+import com.ecommerce.core.usecase.product.FacetedSearchRequest;
+import com.ecommerce.core.usecase.product.FacetedSearchResult;
 import com.ecommerce.core.usecase.product.ProductSearchService;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Page;
@@ -9,6 +13,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
@@ -19,6 +24,7 @@ import java.util.Optional;
 @RestController
 @RequestMapping("/api/v1/search")
 @ConditionalOnProperty(name = "spring.elasticsearch.enabled", havingValue = "true", matchIfMissing = false)
+@Validated
 @RequiredArgsConstructor
 public class ProductSearchController {
 
@@ -118,6 +124,30 @@ public class ProductSearchController {
         }
     }
 
+    @GetMapping("/products/faceted")
+    public ResponseEntity<FacetedSearchResult> facetedSearch(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) String categories, // comma-separated
+            @RequestParam(required = false) String brands, // comma-separated
+            @RequestParam(required = false) String tags, // comma-separated
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+
+        FacetedSearchRequest request = FacetedSearchRequest.builder()
+                .query(query)
+                .categories(splitValues(categories))
+                .brands(splitValues(brands))
+                .tags(splitValues(tags))
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .page(page)
+                .size(size)
+                .build();
+        return ResponseEntity.ok(productSearchService.facetedSearch(request));
+    }
+
     @GetMapping("/products/top-rated")
     public ResponseEntity<Page<ProductDocument>> getTopRatedProducts(
             @RequestParam(defaultValue = "4.0") Double minRating,
@@ -145,4 +175,11 @@ public class ProductSearchController {
         Page<ProductDocument> results = productSearchService.getAllActiveProducts(pageable);
         return ResponseEntity.ok(results);
     }
+
+    private static List<String> splitValues(String values) {
+        if (values == null || values.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(values.split(",")).map(String::trim).filter(v -> !v.isEmpty()).toList();
+    }
 }
@@ -13,20 +13,26 @@ import com.ecommerce.core.usecase.search.SearchProductsResponse;
 import com.ecommerce.core.usecase.search.GetRecommendationsUseCase;
 import com.ecommerce.core.usecase.search.GetRecommendationsRequest;
 import com.ecommerce.core.usecase.search.GetRecommendationsResponse;
-import com.ecommerce.core.usecase.analytics.TrackEventUseCase;
-import com.ecommerce.core.usecase.analytics.TrackEventRequest;
 import com.ecommerce.core.domain.search.entity.SearchFilter;
+import com.ecommerce.core.domain.user.entity.User;
+import com.ecommerce.core.domain.user.repository.UserRepository;
+import com.ecommerce.core.domain.user.valueobject.Email;
+import com.ecommerce.infrastructure.search.SearchAnalyticsRecorder;
+import com.ecommerce.infrastructure.search.SearchSuggestionService;
 import com.ecommerce.shared.dto.ApiResponse;
+import com.ecommerce.shared.exception.ValidationException;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -43,7 +49,9 @@ public class SearchController {
 
     private final SearchProductsUseCase searchProductsUseCase;
     private final GetRecommendationsUseCase getRecommendationsUseCase;
-    private final TrackEventUseCase trackEventUseCase;
+    private final SearchSuggestionService searchSuggestionService;
+    private final SearchAnalyticsRecorder searchAnalyticsRecorder;
+    private final UserRepository userRepository;
 
     @GetMapping("/products")
     public ResponseEntity<ApiResponse<SearchProductsResponseDto>> searchProducts(
@@ -77,20 +85,22 @@ public class SearchController {
         
         SearchProductsResponse response = searchProductsUseCase.execute(searchRequest);
         
-        // Track search event
-        if (authentication != null) {
-            trackSearchEvent(query, response.getTotalElements(), request, authentication);
-        }
+        // Buffered and written in the background, so tracking adds no I/O to the search
+        searchAnalyticsRecorder.recordSearch(query, principalNameOf(authentication),
+                sessionIdOf(request), response.getTotalElements(), describeFilters(filter));
         
         SearchProductsResponseDto responseDto = SearchProductsResponseDto.builder()
                 .products(response.getProducts().stream()
                     .map(this::mapToProductResponseDto)
                     .collect(Collectors.toList()))
                 .totalElements(response.getTotalElements())
+                .totalExact(response.isTotalExact())
                 .totalPages(response.getTotalPages())
                 .currentPage(page)
                 .pageSize(size)
                 .query(query)
+                .correctedQuery(response.getCorrectedQuery())
+                .suggestedQuery(response.getSuggestedQuery())
                 .searchTime(System.currentTimeMillis() - startTime)
                 .build();
         
@@ -102,8 +112,15 @@ public class SearchController {
             @RequestParam @NotBlank String query,
             @RequestParam(defaultValue = "10") int limit) {
         
-        // TODO: Implement with use case
-        return ResponseEntity.ok(ApiResponse.success(null, "Search suggestions retrieved successfully"));
+        List<SearchResponse> suggestions = searchSuggestionService.suggest(query, limit).stream()
+                .map(suggestion -> SearchResponse.builder()
+                    .suggestion(suggestion.getText())
+                    .category(suggestion.getCategory())
+                    .frequency((int) Math.min(Integer.MAX_VALUE, suggestion.getWeight()))
+                    .build())
+                .collect(Collectors.toList());
+        
+        return ResponseEntity.ok(ApiResponse.success(suggestions, "Search suggestions retrieved successfully"));
     }
 
     @GetMapping("/recommendations")
@@ -111,7 +128,8 @@ public class SearchController {
             Authentication authentication,
             @RequestParam(defaultValue = "10") int limit) {
         
-        if (authentication == null) {
+        Long userId = getUserIdFromAuthentication(authentication);
+        if (userId == null) {
             // Return trending products for anonymous users
             GetRecommendationsRequest request = GetRecommendationsRequest.builder()
                     .limit(limit)
@@ -126,9 +144,6 @@ public class SearchController {
             return ResponseEntity.ok(ApiResponse.success(recommendations, "Trending recommendations retrieved successfully"));
         }
         
-        // Get user ID from authentication (you'll need to implement this based on your auth system)
-        Long userId = getUserIdFromAuthentication(authentication);
-        
         GetRecommendationsRequest request = GetRecommendationsRequest.forUser(userId, limit);
         GetRecommendationsResponse response = getRecommendationsUseCase.execute(request);
         
@@ -169,41 +184,77 @@ public class SearchController {
     public ResponseEntity<ApiResponse<Void>> trackSearchQuery(
             @RequestParam @NotBlank String query,
             @RequestParam(required = false) Integer resultCount,
+            @RequestParam(required = false) Integer position,
+            @RequestParam(required = false) Long productId,
+            HttpServletRequest request,
             Authentication authentication) {
         
-        String userEmail = authentication != null ? authentication.getName() : null;
-        
-        // TODO: Implement search tracking
+        String user = principalNameOf(authentication);
+        if (productId != null) {
+            searchAnalyticsRecorder.recordClick(query, user, sessionIdOf(request), position, productId);
+        } else {
+            searchAnalyticsRecorder.recordSearch(query, user, sessionIdOf(request),
+                    resultCount != null ? resultCount : 0, null);
+        }
         return ResponseEntity.ok(ApiResponse.success(null, "Search query tracked successfully"));
     }
 
     // Helper methods
-    private void trackSearchEvent(String query, Integer resultCount, HttpServletRequest request, Authentication authentication) {
-        try {
-            Long userId = getUserIdFromAuthentication(authentication);
-            
-            TrackEventRequest trackRequest = TrackEventRequest.builder()
-                    .eventType("SEARCH")
-                    .userId(userId)
-                    .properties(java.util.Map.of(
-                        "query", query,
-                        "result_count", resultCount
-                    ))
-                    .userAgent(request.getHeader("User-Agent"))
-                    .ipAddress(request.getRemoteAddr())
-                    .build();
-            
-            trackEventUseCase.execute(trackRequest);
-        } catch (Exception e) {
-            // Log error but don't fail the search
-            System.err.println("Failed to track search event: " + e.getMessage());
+    private static String sessionIdOf(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        return session != null ? session.getId() : null;
+    }
+
+    private static String describeFilters(SearchFilter filter) {
+        if (!filter.hasFilters() && filter.getSortBy() == null) {
+            return null;
+        }
+        StringBuilder description = new StringBuilder();
+        appendFilter(description, "category", filter.getCategory());
+        appendFilter(description, "minPrice", filter.getMinPrice());
+        appendFilter(description, "maxPrice", filter.getMaxPrice());
+        appendFilter(description, "sortBy", filter.getSortBy());
+        appendFilter(description, "sortDirection", filter.getSortDirection());
+        return description.toString();
+    }
+
+    private static void appendFilter(StringBuilder description, String name, Object value) {
+        if (value != null) {
+            if (description.length() > 0) {
+                description.append('&');
+            }
+            description.append(name).append('=').append(value);
         }
     }
     
+    /**
+     * The JWT principal's name (the user's email), or null for anonymous callers. Analytics take
+     * the name as is and resolve user ids in bulk when they flush, keeping lookups off the request.
+     */
+    private static String principalNameOf(Authentication authentication) {
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * Resolves the signed-in user from the JWT principal; null for anonymous callers and for
+     * emails that no longer map to a user
+     */
     private Long getUserIdFromAuthentication(Authentication authentication) {
-        // This is a placeholder - implement based on your authentication system
-        // You might need to cast to your custom UserDetails or extract from JWT
-        return 1L; // TODO: Implement proper user ID extraction
+        String email = principalNameOf(authentication);
+        if (email == null) {
+            return null;
+        }
+        try {
+            return userRepository.findByEmail(new Email(email))
+                    .map(User::getId)
+                    .orElse(null);
+        } catch (ValidationException e) {
+            return null;
+        }
     }
     
     private ProductResponseDto mapToProductResponseDto(com.ecommerce.core.domain.search.entity.SearchResult searchResult) {
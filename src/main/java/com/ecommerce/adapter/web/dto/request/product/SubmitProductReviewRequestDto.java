@@ -0,0 +1,56 @@
+package com.ecommerce.adapter.web.dto.request.product;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.math.BigDecimal;
+
+/**
+ * Review body posted by a signed-in customer; the product comes from the path and the user from the principal
+ */
+public class SubmitProductReviewRequestDto {
+
+    @JsonProperty("rating")
+    @NotNull(message = "Rating is required")
+    @DecimalMin(value = "1.0", message = "Rating must be at least 1.0")
+    @DecimalMax(value = "5.0", message = "Rating cannot exceed 5.0")
+    private BigDecimal rating;
+
+    @JsonProperty("title")
+    @Size(max = 200, message = "Review title cannot exceed 200 characters")
+    private String title;
+
+    @JsonProperty("comment")
+    @Size(max = 2000, message = "Review comment cannot exceed 2000 characters")
+    private String comment;
+
+    // Default constructor
+    public SubmitProductReviewRequestDto() {}
+
+    // Getters and Setters
+    public BigDecimal getRating() {
+        return rating;
+    }
+
+    public void setRating(BigDecimal rating) {
+        this.rating = rating;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getComment() {
+        return comment;
+    }
+
+    public void setComment(String comment) {
+        this.comment = comment;
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.adapter.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MediaResponseDto {
+
+    private String key;
+
+    private String url;
+
+    @JsonProperty("contentType")
+    private String contentType;
+
+    private long size;
+
+    @JsonProperty("variants")
+    private Map<String, String> variants;
+}
@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Data
 @Builder
@@ -34,6 +35,9 @@ public class ProductResponseDto {
 
     @JsonProperty("imageUrl")
     private String imageUrl;
+
+    @JsonProperty("imageVariants")
+    private Map<String, String> imageVariants;
     
     @JsonProperty("stockQuantity")
     private Integer stockQuantity;
@@ -46,6 +50,15 @@ public class ProductResponseDto {
     @JsonProperty("isFeatured")
     private boolean isFeatured;
     
+    @JsonProperty("averageRating")
+    private BigDecimal averageRating;
+
+    @JsonProperty("reviewCount")
+    private Integer reviewCount;
+
+    @JsonProperty("ratingHistogram")
+    private Map<Integer, Integer> ratingHistogram;
+
     @JsonProperty("createdAt")
     private LocalDateTime createdAt;
     
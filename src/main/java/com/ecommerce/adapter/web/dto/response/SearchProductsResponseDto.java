@@ -14,9 +14,12 @@ import java.util.List;
 public class SearchProductsResponseDto {
     private List<ProductResponseDto> products;
     private Integer totalElements;
+    private Boolean totalExact; // false when totalElements is "at least" this many
     private Integer totalPages;
     private Integer currentPage;
     private Integer pageSize;
     private String query;
+    private String correctedQuery; // results are for this query because the typed one matched nothing
+    private String suggestedQuery; // "did you mean"
     private Long searchTime; // in milliseconds
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.ecommerce.adapter.web.interceptor;
+
+import com.ecommerce.adapter.persistence.cache.CatalogVersion;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Conditional GET for catalog listings and search results.
+ * Validators come from the catalog version rather than the response body, so an unchanged
+ * catalog is answered with 304 before the controller runs: no query and no serialization.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogConditionalGetInterceptor implements HandlerInterceptor {
+
+    // Shared caches may store listings but must revalidate, which is a cheap 304 while the catalog is unchanged
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private final CatalogVersion catalogVersion;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        // Read once, before the handler queries, so a concurrent write can only make the tag older than the data
+        CatalogVersion.Stamp stamp = catalogVersion.current();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        return !webRequest.checkNotModified(stamp.getETag(), stamp.getLastModified().toEpochMilli());
+    }
+}
@@ -3,6 +3,8 @@ package com.ecommerce.core.domain.notification.repository;
 import com.ecommerce.core.domain.notification.entity.Notification;
 import com.ecommerce.core.domain.notification.valueobject.NotificationStatus;
 import com.ecommerce.core.domain.notification.valueobject.NotificationType;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -32,4 +34,7 @@ public interface NotificationRepository {
     void delete(Notification notification);
     List<Notification> findByStatusAndCreatedAtBefore(NotificationStatus status, LocalDateTime dateTime);
     List<Notification> saveAll(List<Notification> notifications);
+
+    // Keyset pagination, newest first; a null cursor starts at the first row
+    CursorPage<Notification> findByUserIdAfter(Long userId, Cursor after, int size);
 }
@@ -2,6 +2,8 @@ package com.ecommerce.core.domain.order.repository;
 
 import com.ecommerce.core.domain.order.entity.Order;
 import com.ecommerce.core.domain.order.entity.OrderStatus;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -16,4 +18,9 @@ public interface OrderRepository {
     Page<Order> findAll(Pageable pageable);
     Page<Order> findByStatus(OrderStatus status, Pageable pageable);
     List<Order> findByUserIdAndStatus(Long userId, OrderStatus status);
+
+    // Keyset pagination, newest first; a null cursor starts at the first row
+    CursorPage<Order> findByUserIdAfter(Long userId, Cursor after, int size);
+    CursorPage<Order> findAllAfter(Cursor after, int size);
+    CursorPage<Order> findByStatusAfter(OrderStatus status, Cursor after, int size);
 }
\ No newline at end of file
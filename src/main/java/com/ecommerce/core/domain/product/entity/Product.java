@@ -1,6 +1,7 @@
 package com.ecommerce.core.domain.product.entity;
 
 import com.ecommerce.core.domain.product.valueobject.Price;
+import com.ecommerce.core.domain.product.valueobject.ReviewAggregate;
 import com.ecommerce.shared.exception.ValidationException;
 
 import java.time.LocalDateTime;
@@ -21,6 +22,7 @@ public class Product {
     private String brand;
     private String slug;
     private boolean featured;
+    private ReviewAggregate reviews = ReviewAggregate.EMPTY;
 
     // Default constructor for persistence layer
     public Product() {
@@ -126,6 +128,29 @@ public class Product {
         }
     }
 
+    /**
+     * Detached copy for caches and in-memory stores, so callers cannot mutate shared state
+     */
+    public Product copy() {
+        Product copy = new Product();
+        copy.id = id;
+        copy.name = name;
+        copy.description = description;
+        copy.sku = sku;
+        copy.price = price;
+        copy.categoryId = categoryId;
+        copy.stockQuantity = stockQuantity;
+        copy.isActive = isActive;
+        copy.imageUrls = imageUrls != null ? new java.util.ArrayList<>(imageUrls) : null;
+        copy.createdAt = createdAt;
+        copy.updatedAt = updatedAt;
+        copy.brand = brand;
+        copy.slug = slug;
+        copy.featured = featured;
+        copy.reviews = reviews;
+        return copy;
+    }
+
     public Price getCurrentPrice() {
         return this.price;
     }
@@ -154,6 +179,7 @@ public class Product {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public String getSlug() { return slug; }
     public boolean isFeatured() { return featured; }
+    public ReviewAggregate getReviews() { return reviews; }
 
     // Package-private setters for persistence
     public void setId(Long id) { this.id = id; }
@@ -169,6 +195,7 @@ public class Product {
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
     public void setSlug(String slug) { this.slug = slug; }
     public void setFeatured(boolean featured) { this.featured = featured; }
+    public void setReviews(ReviewAggregate reviews) { this.reviews = reviews != null ? reviews : ReviewAggregate.EMPTY; }
     
     // Additional setters for compatibility
     public void setPrice(java.math.BigDecimal price) { 
@@ -0,0 +1,54 @@
+package com.ecommerce.core.domain.product.entity;
+
+import com.ecommerce.core.domain.product.valueobject.ReviewAggregate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A customer's rating of a product. Only approved reviews count towards the product's {@link ReviewAggregate}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductReview {
+    private Long id;
+    private Long productId;
+    private Long userId;
+    private int rating;
+    private String title;
+    private String comment;
+    private boolean verifiedPurchase;
+    private boolean approved;
+    private int helpfulCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public ProductReview(Long productId, Long userId, int rating, String title, String comment) {
+        ReviewAggregate.validateRating(rating);
+        this.productId = productId;
+        this.userId = userId;
+        this.rating = rating;
+        this.title = title;
+        this.comment = comment;
+        this.approved = false;
+        this.createdAt = LocalDateTime.now();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * @return false when the review was already approved, so callers count it only once
+     */
+    public boolean approve() {
+        if (approved) {
+            return false;
+        }
+        this.approved = true;
+        this.updatedAt = LocalDateTime.now();
+        return true;
+    }
+}
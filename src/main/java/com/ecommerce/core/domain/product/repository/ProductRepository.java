@@ -1,12 +1,20 @@
 package com.ecommerce.core.domain.product.repository;
 
 import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.core.domain.product.valueobject.ProductSummary;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ProductRepository {
     Optional<Product> findById(Long id);
+    // Batch lookup in request order; unknown ids are skipped
+    List<Product> findAllByIds(Collection<Long> ids);
+    // Same, but always read from the store behind any cache, for writers that must copy the committed state
+    List<Product> findAllByIdsUncached(Collection<Long> ids);
     List<Product> findAll();
     Product save(Product product);
     void delete(Product product);
@@ -14,12 +22,35 @@ public interface ProductRepository {
     List<Product> findByCategory(Long categoryId);
     List<Product> findByNameContaining(String name);
     List<Product> findFeaturedProducts();
+    List<Product> findActiveByPriceRange(java.math.BigDecimal minPrice, java.math.BigDecimal maxPrice);
     boolean existsById(Long id);
     
     // Additional methods for extended functionality
     Optional<Product> findBySlug(String slug);
+    Optional<Product> findBySku(String sku);
     org.springframework.data.domain.Page<Product> findByCategoryId(Long categoryId, org.springframework.data.domain.Pageable pageable);
     org.springframework.data.domain.Page<Product> findByNameContainingIgnoreCase(String name, org.springframework.data.domain.Pageable pageable);
     org.springframework.data.domain.Page<Product> findByFeatured(boolean featured, org.springframework.data.domain.Pageable pageable);
     org.springframework.data.domain.Page<Product> findByActive(boolean active, org.springframework.data.domain.Pageable pageable);
+
+    // Listing read model: only the columns list pages need, no full aggregate
+    org.springframework.data.domain.Page<ProductSummary> findSummariesByCategoryId(Long categoryId, org.springframework.data.domain.Pageable pageable);
+    // Any of the given categories, e.g. a category with all of its descendants
+    org.springframework.data.domain.Page<ProductSummary> findSummariesByCategoryIds(Collection<Long> categoryIds, org.springframework.data.domain.Pageable pageable);
+    org.springframework.data.domain.Page<ProductSummary> findSummariesByNameContaining(String name, org.springframework.data.domain.Pageable pageable);
+    org.springframework.data.domain.Page<ProductSummary> findSummariesByFeatured(boolean featured, org.springframework.data.domain.Pageable pageable);
+    org.springframework.data.domain.Page<ProductSummary> findSummariesByActive(boolean active, org.springframework.data.domain.Pageable pageable);
+
+    // Keyset pagination, newest first; a null cursor starts at the first row
+    CursorPage<Product> findActiveAfter(Cursor after, int size);
+    CursorPage<Product> findFeaturedAfter(Cursor after, int size);
+    CursorPage<Product> findByCategoryIdAfter(Long categoryId, Cursor after, int size);
+    CursorPage<Product> findByCategoryIdsAfter(Collection<Long> categoryIds, Cursor after, int size);
+
+    // Full-table scan in id order, one keyset batch at a time; a null afterId starts at the lowest id
+    List<Product> findBatchAfterId(Long afterId, int size);
+
+    // Incremental review aggregate: delta is +1 when a rating starts counting and -1 when it stops.
+    // Returns the updated product, or empty when the product does not exist or the rating was not counted.
+    Optional<Product> adjustReviewAggregate(Long productId, int rating, int delta);
 }
\ No newline at end of file
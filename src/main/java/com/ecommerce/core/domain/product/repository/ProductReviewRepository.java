@@ -0,0 +1,23 @@
+package com.ecommerce.core.domain.product.repository;
+
+import com.ecommerce.core.domain.product.entity.ProductReview;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+
+public interface ProductReviewRepository {
+
+    ProductReview save(ProductReview review);
+
+    Optional<ProductReview> findById(Long id);
+
+    // Locks the review row until the transaction ends, so approval and removal cannot both count it
+    Optional<ProductReview> findByIdForUpdate(Long id);
+
+    Page<ProductReview> findApprovedByProductId(Long productId, Pageable pageable);
+
+    boolean existsByProductIdAndUserId(Long productId, Long userId);
+
+    void deleteById(Long id);
+}
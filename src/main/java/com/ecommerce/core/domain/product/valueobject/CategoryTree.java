@@ -0,0 +1,203 @@
+package com.ecommerce.core.domain.product.valueobject;
+
+import com.ecommerce.core.domain.product.entity.Category;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable category hierarchy built from the flat categories table.
+ * Each node carries its materialized path (e.g. "/1/4/9/") and the precomputed ids of its whole subtree,
+ * so hierarchy questions are answered without recursive queries.
+ * Categories whose parent is missing, or that sit on a parent cycle, are promoted to roots.
+ */
+public final class CategoryTree {
+
+    public static final CategoryTree EMPTY = of(Collections.emptyList());
+
+    private static final Comparator<Category> BY_NAME =
+            Comparator.comparing((Category c) -> c.getName() != null ? c.getName() : "").thenComparing(Category::getId);
+
+    private final Map<Long, Node> nodes;
+    private final List<Node> roots;
+
+    private CategoryTree(Map<Long, Node> nodes, List<Node> roots) {
+        this.nodes = Collections.unmodifiableMap(nodes);
+        this.roots = Collections.unmodifiableList(roots);
+    }
+
+    public static CategoryTree of(Collection<Category> categories) {
+        Map<Long, Category> byId = new LinkedHashMap<>();
+        for (Category category : categories) {
+            if (category.getId() != null) {
+                byId.put(category.getId(), category);
+            }
+        }
+        Map<Long, List<Category>> childrenByParent = new HashMap<>();
+        List<Category> rootCategories = new ArrayList<>();
+        for (Category category : byId.values()) {
+            Long parentId = parentIdOf(category);
+            if (parentId == null || !byId.containsKey(parentId)) {
+                rootCategories.add(category);
+            } else {
+                childrenByParent.computeIfAbsent(parentId, k -> new ArrayList<>()).add(category);
+            }
+        }
+        childrenByParent.values().forEach(children -> children.sort(BY_NAME));
+        rootCategories.sort(BY_NAME);
+
+        Map<Long, Node> nodes = new HashMap<>();
+        List<Node> roots = new ArrayList<>();
+        for (Category root : rootCategories) {
+            roots.add(build(root, null, "/", 0, childrenByParent, nodes));
+        }
+        // Whatever is still unvisited hangs off a parent cycle; cut the cycle at its smallest member
+        List<Category> unvisited = new ArrayList<>();
+        for (Category category : byId.values()) {
+            if (!nodes.containsKey(category.getId())) {
+                unvisited.add(category);
+            }
+        }
+        unvisited.sort(Comparator.comparing(Category::getId));
+        for (Category category : unvisited) {
+            if (!nodes.containsKey(category.getId())) {
+                roots.add(build(category, null, "/", 0, childrenByParent, nodes));
+            }
+        }
+        return new CategoryTree(nodes, roots);
+    }
+
+    private static Node build(Category category, Long parentId, String parentPath, int depth,
+                              Map<Long, List<Category>> childrenByParent, Map<Long, Node> nodes) {
+        String path = parentPath + category.getId() + "/";
+        // Reserve the id first so a cycle back to this category is not followed
+        nodes.put(category.getId(), null);
+        List<Node> children = new ArrayList<>();
+        Set<Long> subtree = new LinkedHashSet<>();
+        subtree.add(category.getId());
+        for (Category child : childrenByParent.getOrDefault(category.getId(), Collections.emptyList())) {
+            if (nodes.containsKey(child.getId())) {
+                continue;
+            }
+            Node childNode = build(child, category.getId(), path, depth + 1, childrenByParent, nodes);
+            children.add(childNode);
+            subtree.addAll(childNode.subtreeIds);
+        }
+        Node node = new Node(category.getId(), parentId, category.getName(), category.getSlug(), category.isActive(),
+                path, depth, Collections.unmodifiableList(children), Collections.unmodifiableSet(subtree));
+        nodes.put(category.getId(), node);
+        return node;
+    }
+
+    private static Long parentIdOf(Category category) {
+        return category.getParent() != null ? category.getParent().getId() : null;
+    }
+
+    public Optional<Node> find(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(nodes.get(id));
+    }
+
+    /**
+     * Looks a category up by id, slug or name (case-insensitive), e.g. for a free-form filter parameter
+     */
+    public Optional<Node> resolve(String key) {
+        if (key == null || key.isBlank()) {
+            return Optional.empty();
+        }
+        String trimmed = key.trim();
+        if (trimmed.chars().allMatch(Character::isDigit)) {
+            return find(Long.valueOf(trimmed));
+        }
+        for (Node node : nodes.values()) {
+            if (trimmed.equalsIgnoreCase(node.slug) || trimmed.equalsIgnoreCase(node.name)) {
+                return Optional.of(node);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public List<Node> getRoots() {
+        return roots;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * The category and all categories below it. An unknown id resolves to itself,
+     * so callers still get a correct (possibly empty) result for categories created since the last refresh.
+     */
+    public Set<Long> subtreeIdsOf(Long id) {
+        Node node = nodes.get(id);
+        return node != null ? node.subtreeIds : Set.of(id);
+    }
+
+    /**
+     * Ancestors from the root down to the category itself, e.g. for breadcrumbs
+     */
+    public List<Node> pathTo(Long id) {
+        Node node = nodes.get(id);
+        if (node == null) {
+            return Collections.emptyList();
+        }
+        List<Node> path = new ArrayList<>(node.depth + 1);
+        Set<Long> seen = new HashSet<>();
+        for (Node current = node; current != null && seen.add(current.id); current = nodes.get(current.parentId)) {
+            path.add(0, current);
+            if (current.parentId == null) {
+                break;
+            }
+        }
+        return Collections.unmodifiableList(path);
+    }
+
+    public static final class Node {
+        private final Long id;
+        private final Long parentId;
+        private final String name;
+        private final String slug;
+        private final boolean active;
+        private final String path;
+        private final int depth;
+        private final List<Node> children;
+        private final Set<Long> subtreeIds;
+
+        private Node(Long id, Long parentId, String name, String slug, boolean active, String path, int depth,
+                     List<Node> children, Set<Long> subtreeIds) {
+            this.id = id;
+            this.parentId = parentId;
+            this.name = name;
+            this.slug = slug;
+            this.active = active;
+            this.path = path;
+            this.depth = depth;
+            this.children = children;
+            this.subtreeIds = subtreeIds;
+        }
+
+        public Long getId() { return id; }
+        public Long getParentId() { return parentId; }
+        public String getName() { return name; }
+        public String getSlug() { return slug; }
+        public boolean isActive() { return active; }
+        public String getPath() { return path; }
+        public int getDepth() { return depth; }
+        public List<Node> getChildren() { return children; }
+        public Set<Long> getSubtreeIds() { return subtreeIds; }
+
+        public boolean isDescendantOf(Node other) {
+            return !id.equals(other.id) && path.startsWith(other.path);
+        }
+    }
+}
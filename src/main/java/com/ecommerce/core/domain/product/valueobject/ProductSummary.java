@@ -0,0 +1,87 @@
+package com.ecommerce.core.domain.product.valueobject;
+
+import com.ecommerce.core.domain.product.entity.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only listing row: just the columns a product list page renders.
+ * Built directly by JPQL constructor expressions, so no entity is loaded or dirty-checked.
+ */
+public class ProductSummary {
+    private final Long id;
+    private final String name;
+    private final String slug;
+    private final String sku;
+    private final BigDecimal price;
+    private final String currency;
+    private final Long categoryId;
+    private final String imageUrl;
+    private final int stockQuantity;
+    private final boolean active;
+    private final boolean featured;
+    private final BigDecimal averageRating;
+    private final int reviewCount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ProductSummary(Long id, String name, String slug, String sku, BigDecimal price, String currency,
+                          Long categoryId, String imageUrl, Integer stockQuantity, Boolean active, Boolean featured,
+                          BigDecimal averageRating, Integer reviewCount,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.name = name;
+        this.slug = slug;
+        this.sku = sku;
+        this.price = price;
+        this.currency = currency;
+        this.categoryId = categoryId;
+        this.imageUrl = imageUrl;
+        this.stockQuantity = stockQuantity != null ? stockQuantity : 0;
+        this.active = active == null || active;
+        this.featured = featured != null && featured;
+        this.averageRating = averageRating != null ? averageRating : BigDecimal.ZERO;
+        this.reviewCount = reviewCount != null ? reviewCount : 0;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public static ProductSummary from(Product product) {
+        Price price = product.getPrice();
+        return new ProductSummary(
+            product.getId(),
+            product.getName(),
+            product.getSlug(),
+            product.getSku(),
+            price != null ? price.getAmount() : null,
+            price != null ? price.getCurrency() : null,
+            product.getCategoryId(),
+            product.getImageUrls() != null && !product.getImageUrls().isEmpty()
+                ? product.getImageUrls().get(0) : null,
+            product.getStockQuantity(),
+            product.isActive(),
+            product.isFeatured(),
+            product.getReviews().getAverageRating(),
+            product.getReviews().getReviewCount(),
+            product.getCreatedAt(),
+            product.getUpdatedAt()
+        );
+    }
+
+    public Long getId() { return id; }
+    public String getName() { return name; }
+    public String getSlug() { return slug; }
+    public String getSku() { return sku; }
+    public BigDecimal getPrice() { return price; }
+    public String getCurrency() { return currency; }
+    public Long getCategoryId() { return categoryId; }
+    public String getImageUrl() { return imageUrl; }
+    public int getStockQuantity() { return stockQuantity; }
+    public boolean isActive() { return active; }
+    public boolean isFeatured() { return featured; }
+    public BigDecimal getAverageRating() { return averageRating; }
+    public int getReviewCount() { return reviewCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
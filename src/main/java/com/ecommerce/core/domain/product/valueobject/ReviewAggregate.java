@@ -0,0 +1,109 @@
+package com.ecommerce.core.domain.product.valueobject;
+
+import com.ecommerce.shared.exception.ValidationException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * Precomputed rating summary of a product's approved reviews: count, sum and a 1-5 star histogram.
+ * Maintained incrementally as reviews are approved or removed, so reads never scan the reviews.
+ */
+public final class ReviewAggregate {
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
+    public static final ReviewAggregate EMPTY = new ReviewAggregate(new int[MAX_RATING]);
+
+    private final int[] histogram;
+    private final int reviewCount;
+    private final long ratingSum;
+
+    private ReviewAggregate(int[] histogram) {
+        this.histogram = histogram;
+        int count = 0;
+        long sum = 0;
+        for (int stars = MIN_RATING; stars <= MAX_RATING; stars++) {
+            count += histogram[stars - 1];
+            sum += (long) stars * histogram[stars - 1];
+        }
+        this.reviewCount = count;
+        this.ratingSum = sum;
+    }
+
+    /**
+     * Builds an aggregate from per-star counts, index 0 holding the one-star reviews
+     */
+    public static ReviewAggregate ofHistogram(int... counts) {
+        if (counts.length != MAX_RATING) {
+            throw new ValidationException("Rating histogram must have " + MAX_RATING + " buckets");
+        }
+        for (int count : counts) {
+            if (count < 0) {
+                throw new ValidationException("Rating counts cannot be negative");
+            }
+        }
+        return new ReviewAggregate(counts.clone());
+    }
+
+    public ReviewAggregate withRating(int rating) {
+        return adjust(rating, 1);
+    }
+
+    public ReviewAggregate withoutRating(int rating) {
+        return adjust(rating, -1);
+    }
+
+    private ReviewAggregate adjust(int rating, int delta) {
+        validateRating(rating);
+        int[] next = histogram.clone();
+        // Never below zero, so a replayed removal cannot corrupt the histogram
+        next[rating - 1] = Math.max(0, next[rating - 1] + delta);
+        return new ReviewAggregate(next);
+    }
+
+    public static void validateRating(int rating) {
+        if (rating < MIN_RATING || rating > MAX_RATING) {
+            throw new ValidationException("Rating must be between " + MIN_RATING + " and " + MAX_RATING);
+        }
+    }
+
+    public int getReviewCount() {
+        return reviewCount;
+    }
+
+    public long getRatingSum() {
+        return ratingSum;
+    }
+
+    public int getCount(int stars) {
+        validateRating(stars);
+        return histogram[stars - 1];
+    }
+
+    public int[] getHistogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Mean rating rounded to two decimals, zero when there are no reviews
+     */
+    public BigDecimal getAverageRating() {
+        if (reviewCount == 0) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return BigDecimal.valueOf(ratingSum).divide(BigDecimal.valueOf(reviewCount), 2, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof ReviewAggregate && Arrays.equals(histogram, ((ReviewAggregate) o).histogram));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(histogram);
+    }
+}
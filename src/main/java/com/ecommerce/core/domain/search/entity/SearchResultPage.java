@@ -0,0 +1,23 @@
+package com.ecommerce.core.domain.search.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of search results together with the number of matching products, from a single search
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchResultPage {
+    private List<SearchResult> results;
+    private long totalHits;
+    /** False when the backend stopped counting at its limit, making totalHits a lower bound */
+    @Builder.Default
+    private boolean totalExact = true;
+}
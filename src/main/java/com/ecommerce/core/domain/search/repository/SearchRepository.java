@@ -1,11 +1,11 @@
 package com.ecommerce.core.domain.search.repository;
 
-import com.ecommerce.core.domain.search.entity.SearchResult;
+import com.ecommerce.core.domain.search.entity.SearchResultPage;
 import com.ecommerce.core.usecase.search.SearchProductsRequest;
 
-import java.util.List;
-
 public interface SearchRepository {
-    List<SearchResult> searchProducts(SearchProductsRequest request);
-    int countSearchResults(SearchProductsRequest request);
-}
\ No newline at end of file
+    /**
+     * Runs the search once, returning the requested page and the total number of matches
+     */
+    SearchResultPage searchProducts(SearchProductsRequest request);
+}
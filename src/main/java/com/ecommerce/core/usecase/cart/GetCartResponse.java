@@ -6,6 +6,7 @@ import lombok.Builder;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Builder
 public class GetCartResponse {
@@ -16,9 +17,11 @@ public class GetCartResponse {
     private Integer totalItems;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Map<Long, String> productSkus;
 
     public GetCartResponse(Long id, Long userId, List<CartItem> items, BigDecimal totalAmount,
-                         Integer totalItems, LocalDateTime createdAt, LocalDateTime updatedAt) {
+                         Integer totalItems, LocalDateTime createdAt, LocalDateTime updatedAt,
+                         Map<Long, String> productSkus) {
         this.id = id;
         this.userId = userId;
         this.items = items;
@@ -26,6 +29,7 @@ public class GetCartResponse {
         this.totalItems = totalItems;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.productSkus = productSkus != null ? productSkus : Map.of();
     }
 
     // Getters
@@ -36,4 +40,5 @@ public class GetCartResponse {
     public Integer getTotalItems() { return totalItems; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public Map<Long, String> getProductSkus() { return productSkus; }
 }
\ No newline at end of file
@@ -1,19 +1,27 @@
 package com.ecommerce.core.usecase.cart;
 
 import com.ecommerce.core.domain.cart.entity.Cart;
+import com.ecommerce.core.domain.cart.entity.CartItem;
 import com.ecommerce.core.domain.cart.repository.CartRepository;
+import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.core.domain.product.repository.ProductRepository;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @Transactional(readOnly = true)
 public class GetCartUseCase {
 
     private final CartRepository cartRepository;
+    private final ProductRepository productRepository;
 
-    public GetCartUseCase(CartRepository cartRepository) {
+    public GetCartUseCase(CartRepository cartRepository, ProductRepository productRepository) {
         this.cartRepository = cartRepository;
+        this.productRepository = productRepository;
     }
 
     public GetCartResponse execute(GetCartRequest request) {
@@ -27,7 +35,21 @@ public class GetCartUseCase {
             cart.getTotalAmount(),
             cart.getTotalItems(),
             cart.getCreatedAt(),
-            cart.getUpdatedAt()
+            cart.getUpdatedAt(),
+            loadProductSkus(cart)
         );
     }
+
+    // One batch lookup for every line item instead of a query per product
+    private Map<Long, String> loadProductSkus(Cart cart) {
+        if (cart.isEmpty()) {
+            return Map.of();
+        }
+        return productRepository.findAllByIds(cart.getItems().stream()
+                .map(CartItem::getProductId)
+                .collect(Collectors.toList()))
+            .stream()
+            .filter(product -> product.getSku() != null)
+            .collect(Collectors.toMap(Product::getId, Product::getSku));
+    }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.ecommerce.core.usecase.notification;
 
 import com.ecommerce.core.domain.notification.entity.Notification;
 import com.ecommerce.core.domain.notification.repository.NotificationRepository;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -33,6 +35,11 @@ public class GetUserNotificationsUseCase {
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
     }
 
+    public CursorPage<Notification> execute(Long userId, String cursor, Integer size) {
+        log.debug("Getting notifications for user: {} after cursor", userId);
+        return notificationRepository.findByUserIdAfter(userId, Cursor.decode(cursor), CursorPage.clampSize(size));
+    }
+
     public List<Notification> getUnreadNotifications(Long userId) {
         log.debug("Getting unread notifications for user: {}", userId);
         return notificationRepository.findByUserIdAndReadFalseOrderByCreatedAtDesc(userId);
@@ -1,9 +1,12 @@
 package com.ecommerce.core.usecase.order;
 
 import com.ecommerce.core.domain.order.entity.Order;
+import com.ecommerce.core.domain.order.entity.OrderStatus;
 import com.ecommerce.core.domain.order.repository.OrderRepository;
 import com.ecommerce.shared.exception.BusinessException;
 import com.ecommerce.shared.exception.NotFoundException;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -42,6 +45,21 @@ public class GetOrderUseCase {
         return orders.map(this::mapToResponse);
     }
 
+    public CursorPage<GetOrderResponse> scrollUserOrders(Long userId, String cursor, Integer size) {
+        CursorPage<Order> orders = orderRepository.findByUserIdAfter(
+            userId, Cursor.decode(cursor), CursorPage.clampSize(size));
+        return orders.map(this::mapToResponse);
+    }
+
+    public CursorPage<GetOrderResponse> scrollAllOrders(OrderStatus status, String cursor, Integer size) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        CursorPage<Order> orders = status != null
+            ? orderRepository.findByStatusAfter(status, after, pageSize)
+            : orderRepository.findAllAfter(after, pageSize);
+        return orders.map(this::mapToResponse);
+    }
+
     private GetOrderResponse mapToResponse(Order order) {
         return new GetOrderResponse(
             order.getId(),
@@ -0,0 +1,65 @@
+package com.ecommerce.core.usecase.product;
+
+import com.ecommerce.core.domain.product.repository.CategoryRepository;
+import com.ecommerce.core.domain.product.valueobject.CategoryTree;
+import com.ecommerce.infrastructure.event.CategoryChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+
+/**
+ * Serves the category hierarchy from an immutable in-memory {@link CategoryTree}.
+ * The tree is loaded on first use and rebuilt after every committed category change;
+ * readers always see a complete tree through a single volatile read.
+ */
+@Service
+@Slf4j
+public class CategoryTreeService {
+
+    private final CategoryRepository categoryRepository;
+    private volatile CategoryTree tree;
+
+    public CategoryTreeService(CategoryRepository categoryRepository) {
+        this.categoryRepository = categoryRepository;
+    }
+
+    public CategoryTree getTree() {
+        CategoryTree current = tree;
+        if (current == null) {
+            synchronized (this) {
+                current = tree;
+                if (current == null) {
+                    current = load();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * The category itself plus every category below it
+     */
+    public Set<Long> subtreeIdsOf(Long categoryId) {
+        return getTree().subtreeIdsOf(categoryId);
+    }
+
+    public synchronized void refresh() {
+        load();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCategoryChanged(CategoryChangedEvent event) {
+        log.debug("Rebuilding category tree after change to category {}", event.getCategoryId());
+        refresh();
+    }
+
+    private CategoryTree load() {
+        CategoryTree loaded = CategoryTree.of(categoryRepository.findAll());
+        tree = loaded;
+        log.debug("Loaded category tree with {} categories", loaded.size());
+        return loaded;
+    }
+}
@@ -0,0 +1,29 @@
+package com.ecommerce.core.usecase.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Free-text query plus the storefront filters currently selected; every field is optional
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedSearchRequest {
+    private String query;
+    private List<String> categories;
+    private List<String> brands;
+    private List<String> tags;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
+    @Builder.Default
+    private int page = 0;
+    @Builder.Default
+    private int size = 20;
+}
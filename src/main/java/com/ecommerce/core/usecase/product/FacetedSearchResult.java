@@ -0,0 +1,36 @@
+package com.ecommerce.core.usecase.product;
+
+import com.ecommerce.core.domain.search.entity.SearchResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of hits with facet counts over all matching products, keyed by facet name
+ * ("category", "brand", "tag", "price"); price buckets are keyed by their lower bound
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetedSearchResult {
+    private List<SearchResult> products;
+    private long totalHits;
+    /** False when counting stopped at app.search.track-total-hits and totalHits is a lower bound */
+    private boolean totalExact;
+    private int page;
+    private int size;
+    private Map<String, List<FacetCount>> facets;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetCount {
+        private String value;
+        private long count;
+    }
+}
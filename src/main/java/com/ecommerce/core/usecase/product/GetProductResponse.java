@@ -18,6 +18,9 @@ public class GetProductResponse {
     private int stockQuantity;
     private boolean isActive;
     private boolean isFeatured;
+    private BigDecimal averageRating;
+    private int reviewCount;
+    private int[] ratingHistogram;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -85,6 +88,16 @@ public class GetProductResponse {
     public boolean isFeatured() { return isFeatured; }
     public void setFeatured(boolean featured) { isFeatured = featured; }
 
+    public BigDecimal getAverageRating() { return averageRating; }
+    public void setAverageRating(BigDecimal averageRating) { this.averageRating = averageRating; }
+
+    public int getReviewCount() { return reviewCount; }
+    public void setReviewCount(int reviewCount) { this.reviewCount = reviewCount; }
+
+    // Review counts per star, index 0 holding the one-star reviews
+    public int[] getRatingHistogram() { return ratingHistogram; }
+    public void setRatingHistogram(int[] ratingHistogram) { this.ratingHistogram = ratingHistogram; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 
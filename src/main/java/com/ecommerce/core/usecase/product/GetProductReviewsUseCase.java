@@ -0,0 +1,23 @@
+package com.ecommerce.core.usecase.product;
+
+import com.ecommerce.core.domain.product.entity.ProductReview;
+import com.ecommerce.core.domain.product.repository.ProductReviewRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@Transactional(readOnly = true)
+public class GetProductReviewsUseCase {
+
+    private final ProductReviewRepository productReviewRepository;
+
+    public GetProductReviewsUseCase(ProductReviewRepository productReviewRepository) {
+        this.productReviewRepository = productReviewRepository;
+    }
+
+    public Page<ProductReview> execute(Long productId, Pageable pageable) {
+        return productReviewRepository.findApprovedByProductId(productId, pageable);
+    }
+}
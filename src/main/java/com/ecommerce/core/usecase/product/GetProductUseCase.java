@@ -32,7 +32,7 @@ public class GetProductUseCase {
     }
 
     private GetProductResponse mapToResponse(Product product) {
-        return new GetProductResponse(
+        GetProductResponse response = new GetProductResponse(
             product.getId(),
             product.getName(),
             product.getDescription(),
@@ -48,5 +48,10 @@ public class GetProductUseCase {
             product.getCreatedAt(),
             product.getUpdatedAt()
         );
+        // Precomputed on the product row, no review scan per page view
+        response.setAverageRating(product.getReviews().getAverageRating());
+        response.setReviewCount(product.getReviews().getReviewCount());
+        response.setRatingHistogram(product.getReviews().getHistogram());
+        return response;
     }
 }
\ No newline at end of file
@@ -4,15 +4,22 @@ public class GetProductsRequest {
     private Long categoryId;
     private String search;
     private Boolean featured;
+    private boolean includeSubcategories;
 
     public GetProductsRequest(Long categoryId, String search, Boolean featured) {
+        this(categoryId, search, featured, false);
+    }
+
+    public GetProductsRequest(Long categoryId, String search, Boolean featured, boolean includeSubcategories) {
         this.categoryId = categoryId;
         this.search = search;
         this.featured = featured;
+        this.includeSubcategories = includeSubcategories;
     }
 
     // Getters
     public Long getCategoryId() { return categoryId; }
     public String getSearch() { return search; }
     public Boolean getFeatured() { return featured; }
-}
\ No newline at end of file
+    public boolean isIncludeSubcategories() { return includeSubcategories; }
+}
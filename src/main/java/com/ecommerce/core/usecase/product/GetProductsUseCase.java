@@ -2,46 +2,92 @@ package com.ecommerce.core.usecase.product;
 
 import com.ecommerce.core.domain.product.entity.Product;
 import com.ecommerce.core.domain.product.repository.ProductRepository;
+import com.ecommerce.core.domain.product.valueobject.ProductSummary;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Set;
+
 @Service
 @Transactional(readOnly = true)
 public class GetProductsUseCase {
 
     private final ProductRepository productRepository;
+    private final CategoryTreeService categoryTreeService;
 
-    public GetProductsUseCase(ProductRepository productRepository) {
+    public GetProductsUseCase(ProductRepository productRepository, CategoryTreeService categoryTreeService) {
         this.productRepository = productRepository;
+        this.categoryTreeService = categoryTreeService;
     }
 
-    public Page<GetProductResponse> execute(GetProductsRequest request, Pageable pageable) {
-        Page<Product> products;
-
+    /**
+     * Listing pages read the lightweight {@link ProductSummary} projection, not the full product
+     */
+    public Page<ProductSummary> execute(GetProductsRequest request, Pageable pageable) {
         if (request.getCategoryId() != null) {
-            products = productRepository.findByCategoryId(request.getCategoryId(), pageable);
+            return getProductsByCategory(request.getCategoryId(), request.isIncludeSubcategories(), pageable);
         } else if (request.getFeatured() != null && request.getFeatured()) {
-            products = productRepository.findByFeatured(true, pageable);
+            return productRepository.findSummariesByFeatured(true, pageable);
         } else if (request.getSearch() != null && !request.getSearch().trim().isEmpty()) {
-            products = productRepository.findByNameContainingIgnoreCase(request.getSearch(), pageable);
+            return productRepository.findSummariesByNameContaining(request.getSearch(), pageable);
+        } else {
+            return productRepository.findSummariesByActive(true, pageable);
+        }
+    }
+
+    /**
+     * Keyset-paginated listing, newest first. Name search is not supported here
+     * and stays on the offset-based {@link #execute(GetProductsRequest, Pageable)}.
+     */
+    public CursorPage<GetProductResponse> scroll(GetProductsRequest request, String cursor, Integer size) {
+        Cursor after = Cursor.decode(cursor);
+        int pageSize = CursorPage.clampSize(size);
+        CursorPage<Product> products;
+
+        Set<Long> categoryIds = request.getCategoryId() != null
+                ? categoryIds(request.getCategoryId(), request.isIncludeSubcategories())
+                : null;
+
+        if (categoryIds != null && categoryIds.size() > 1) {
+            products = productRepository.findByCategoryIdsAfter(categoryIds, after, pageSize);
+        } else if (request.getCategoryId() != null) {
+            products = productRepository.findByCategoryIdAfter(request.getCategoryId(), after, pageSize);
+        } else if (request.getFeatured() != null && request.getFeatured()) {
+            products = productRepository.findFeaturedAfter(after, pageSize);
         } else {
-            products = productRepository.findByActive(true, pageable);
+            products = productRepository.findActiveAfter(after, pageSize);
         }
 
         return products.map(this::mapToResponse);
     }
 
-    public Page<GetProductResponse> getFeaturedProducts(Pageable pageable) {
-        Page<Product> products = productRepository.findByFeatured(true, pageable);
-        return products.map(this::mapToResponse);
+    public Page<ProductSummary> getFeaturedProducts(Pageable pageable) {
+        return productRepository.findSummariesByFeatured(true, pageable);
     }
 
-    public Page<GetProductResponse> getProductsByCategory(Long categoryId, Pageable pageable) {
-        Page<Product> products = productRepository.findByCategoryId(categoryId, pageable);
-        return products.map(this::mapToResponse);
+    public Page<ProductSummary> getProductsByCategory(Long categoryId, Pageable pageable) {
+        return getProductsByCategory(categoryId, false, pageable);
+    }
+
+    /**
+     * With subcategories, the whole subtree is taken from the cached category tree
+     * and resolved with a single IN query instead of walking the hierarchy in SQL
+     */
+    public Page<ProductSummary> getProductsByCategory(Long categoryId, boolean includeSubcategories, Pageable pageable) {
+        Set<Long> categoryIds = categoryIds(categoryId, includeSubcategories);
+        if (categoryIds.size() > 1) {
+            return productRepository.findSummariesByCategoryIds(categoryIds, pageable);
+        }
+        return productRepository.findSummariesByCategoryId(categoryId, pageable);
+    }
+
+    private Set<Long> categoryIds(Long categoryId, boolean includeSubcategories) {
+        return includeSubcategories ? categoryTreeService.subtreeIdsOf(categoryId) : Set.of(categoryId);
     }
 
     private GetProductResponse mapToResponse(Product product) {
@@ -0,0 +1,58 @@
+package com.ecommerce.core.usecase.product;
+
+import com.ecommerce.core.domain.product.entity.ProductReview;
+import com.ecommerce.core.domain.product.repository.ProductRepository;
+import com.ecommerce.core.domain.product.repository.ProductReviewRepository;
+import com.ecommerce.infrastructure.service.ProductEventPublisher;
+import com.ecommerce.shared.exception.NotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Approves and removes reviews, applying each change to the product's review aggregate
+ * as a +1/-1 delta in the same transaction. The updated product is then published so the
+ * near-cache and the search index pick up the new rating after commit.
+ */
+@Service
+@Transactional
+public class ModerateProductReviewUseCase {
+
+    private final ProductReviewRepository productReviewRepository;
+    private final ProductRepository productRepository;
+    private final ProductEventPublisher productEventPublisher;
+
+    public ModerateProductReviewUseCase(ProductReviewRepository productReviewRepository,
+                                        ProductRepository productRepository,
+                                        ProductEventPublisher productEventPublisher) {
+        this.productReviewRepository = productReviewRepository;
+        this.productRepository = productRepository;
+        this.productEventPublisher = productEventPublisher;
+    }
+
+    public ProductReview approve(Long reviewId) {
+        ProductReview review = productReviewRepository.findByIdForUpdate(reviewId)
+            .orElseThrow(() -> new NotFoundException("Review not found"));
+        if (!review.approve()) {
+            return review;
+        }
+
+        ProductReview saved = productReviewRepository.save(review);
+        applyRating(review, 1);
+        return saved;
+    }
+
+    public void remove(Long reviewId) {
+        ProductReview review = productReviewRepository.findByIdForUpdate(reviewId)
+            .orElseThrow(() -> new NotFoundException("Review not found"));
+
+        productReviewRepository.deleteById(reviewId);
+        if (review.isApproved()) {
+            applyRating(review, -1);
+        }
+    }
+
+    private void applyRating(ProductReview review, int delta) {
+        productRepository.adjustReviewAggregate(review.getProductId(), review.getRating(), delta)
+            .ifPresent(productEventPublisher::publishProductUpdated);
+    }
+}
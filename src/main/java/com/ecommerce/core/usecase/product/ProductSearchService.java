@@ -1,65 +1,317 @@
 package com.ecommerce.core.usecase.product;
 
+import com.ecommerce.adapter.persistence.cache.SearchResultCache;
 import com.ecommerce.adapter.persistence.elasticsearch.document.ProductDocument;
+import com.ecommerce.adapter.persistence.elasticsearch.mapper.ProductDocumentMapper;
 import com.ecommerce.adapter.persistence.elasticsearch.repository.ProductSearchRepository;
-import lombok.RequiredArgsConstructor;
+import com.ecommerce.core.domain.product.repository.ProductRepository;
+import com.ecommerce.core.domain.product.valueobject.CategoryTree;
+import com.ecommerce.core.domain.search.entity.SearchResult;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.Query;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregation;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.TotalHitsRelation;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @ConditionalOnProperty(name = "spring.elasticsearch.enabled", havingValue = "true", matchIfMissing = false)
-@RequiredArgsConstructor
 @Slf4j
 public class ProductSearchService {
 
+    private static final int FACET_SIZE = 20;
+
     private final ProductSearchRepository productSearchRepository;
+    private final ElasticsearchOperations elasticsearchOperations;
+    private final ProductRepository productRepository;
+    private final ProductDocumentMapper productDocumentMapper;
+    private final SearchResultCache searchResultCache;
+    private final CategoryTreeService categoryTreeService;
+    private final double priceInterval;
+    private final int trackTotalHits;
+
+    public ProductSearchService(ProductSearchRepository productSearchRepository,
+                                ElasticsearchOperations elasticsearchOperations,
+                                ProductRepository productRepository,
+                                ProductDocumentMapper productDocumentMapper,
+                                SearchResultCache searchResultCache,
+                                CategoryTreeService categoryTreeService,
+                                @Value("${app.elasticsearch.facets.price-interval:50}") double priceInterval,
+                                @Value("${app.search.track-total-hits:10000}") int trackTotalHits) {
+        this.productSearchRepository = productSearchRepository;
+        this.elasticsearchOperations = elasticsearchOperations;
+        this.productRepository = productRepository;
+        this.productDocumentMapper = productDocumentMapper;
+        this.searchResultCache = searchResultCache;
+        this.categoryTreeService = categoryTreeService;
+        this.priceInterval = priceInterval;
+        this.trackTotalHits = trackTotalHits;
+    }
 
     public Page<ProductDocument> searchProducts(String searchTerm, Pageable pageable) {
-        log.info("Searching products with term: {}", searchTerm);
-        return productSearchRepository.findByFullTextSearch(searchTerm, pageable);
+        log.debug("Searching products with term: {}", searchTerm);
+        return cachedPage(key("text").text("q", searchTerm), pageable,
+                () -> productSearchRepository.findByFullTextSearch(searchTerm, pageable));
+    }
+
+    /**
+     * Search with the selected filters and return category, brand, tag and price-bucket counts
+     * for everything that matched, computed by aggregations in the same request as the hits.
+     * Categories are filtered and counted by id, then labelled from the category tree, because
+     * the indexed category name is only a placeholder.
+     */
+    public FacetedSearchResult facetedSearch(FacetedSearchRequest request) {
+        CategoryTree tree = categoryTreeService.getTree();
+        SearchHits<ProductDocument> hits = elasticsearchOperations.search(
+                facetQuery(request, tree, priceInterval, trackTotalHits), ProductDocument.class);
+        return FacetedSearchResult.builder()
+                .products(hits.getSearchHits().stream().map(hit -> toSearchResult(hit, tree)).collect(Collectors.toList()))
+                .totalHits(hits.getTotalHits())
+                .totalExact(hits.getTotalHitsRelation() == TotalHitsRelation.EQUAL_TO)
+                .page(request.getPage())
+                .size(request.getSize())
+                .facets(hits.getAggregations() instanceof ElasticsearchAggregations aggregations
+                        ? facets(aggregations, tree) : new LinkedHashMap<>())
+                .build();
+    }
+
+    static NativeQuery facetQuery(FacetedSearchRequest request, CategoryTree tree,
+                                  double priceInterval, int trackTotalHits) {
+        List<Query> filters = new ArrayList<>();
+        filters.add(Query.of(q -> q.term(t -> t.field("active").value(true))));
+        addTermsFilter(filters, "categoryId", categoryIds(request.getCategories(), tree));
+        addTermsFilter(filters, "brand.keyword", request.getBrands());
+        addTermsFilter(filters, "tags", request.getTags());
+        if (request.getMinPrice() != null || request.getMaxPrice() != null) {
+            filters.add(Query.of(q -> q.range(r -> r.number(n -> {
+                n.field("price");
+                if (request.getMinPrice() != null) {
+                    n.gte(request.getMinPrice().doubleValue());
+                }
+                if (request.getMaxPrice() != null) {
+                    n.lte(request.getMaxPrice().doubleValue());
+                }
+                return n;
+            }))));
+        }
+        String text = request.getQuery();
+
+        return NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> {
+                    if (text != null && !text.isBlank()) {
+                        b.must(m -> m.multiMatch(mm -> mm.query(text).fields("name^2", "description", "brand")
+                                .fuzziness("AUTO").prefixLength(1)));
+                    }
+                    return b.filter(filters);
+                }))
+                .withAggregation("category", termsAggregation("categoryId"))
+                .withAggregation("brand", termsAggregation("brand.keyword"))
+                .withAggregation("tag", termsAggregation("tags"))
+                .withAggregation("price", Aggregation.of(a -> a.histogram(h -> h
+                        .field("price").interval(priceInterval).minDocCount(1))))
+                .withPageable(PageRequest.of(request.getPage(), request.getSize()))
+                .withTrackTotalHitsUpTo(trackTotalHits)
+                .build();
+    }
+
+    /**
+     * Bucket counts per facet; a facet whose aggregation is missing or of an unexpected type is left out.
+     * Category buckets come back as ids and are reported under the category's name.
+     */
+    static Map<String, List<FacetedSearchResult.FacetCount>> facets(ElasticsearchAggregations aggregations,
+                                                                    CategoryTree tree) {
+        Map<String, List<FacetedSearchResult.FacetCount>> facets = new LinkedHashMap<>();
+        for (String name : List.of("category", "brand", "tag")) {
+            Aggregate aggregate = aggregate(aggregations, name);
+            if (aggregate != null && aggregate.isSterms()) {
+                boolean category = name.equals("category");
+                facets.put(name, aggregate.sterms().buckets().array().stream()
+                        .map(bucket -> new FacetedSearchResult.FacetCount(category
+                                ? categoryName(bucket.key().stringValue(), tree) : bucket.key().stringValue(),
+                                bucket.docCount()))
+                        .collect(Collectors.toList()));
+            }
+        }
+        Aggregate price = aggregate(aggregations, "price");
+        if (price != null && price.isHistogram()) {
+            facets.put("price", price.histogram().buckets().array().stream()
+                    .map(bucket -> new FacetedSearchResult.FacetCount(
+                            BigDecimal.valueOf(bucket.key()).stripTrailingZeros().toPlainString(), bucket.docCount()))
+                    .collect(Collectors.toList()));
+        }
+        return facets;
+    }
+
+    private static Aggregate aggregate(ElasticsearchAggregations aggregations, String name) {
+        ElasticsearchAggregation aggregation = aggregations.get(name);
+        return aggregation == null ? null : aggregation.aggregation().getAggregate();
+    }
+
+    // Documents not backed by a catalog product have no numeric id
+    private static Long productIdOf(ProductDocument document) {
+        try {
+            return document.getId() == null ? null : Long.valueOf(document.getId());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Filter values may be a category id, slug or name; ones the tree does not know are kept as
+     * given so they still match nothing rather than widening the search
+     */
+    private static List<String> categoryIds(List<String> categories, CategoryTree tree) {
+        if (categories == null) {
+            return null;
+        }
+        return categories.stream()
+                .map(key -> tree.resolve(key).map(node -> node.getId().toString()).orElse(key))
+                .collect(Collectors.toList());
+    }
+
+    private static String categoryName(String categoryId, CategoryTree tree) {
+        try {
+            return tree.find(Long.valueOf(categoryId)).map(CategoryTree.Node::getName).orElse(categoryId);
+        } catch (NumberFormatException e) {
+            return categoryId;
+        }
+    }
+
+    private static SearchResult toSearchResult(SearchHit<ProductDocument> hit, CategoryTree tree) {
+        ProductDocument document = hit.getContent();
+        return SearchResult.builder()
+                .id(productIdOf(document))
+                .name(document.getName())
+                .description(document.getDescription())
+                .sku(document.getSku())
+                .price(document.getPrice())
+                .category(document.getCategoryId() != null
+                        ? categoryName(document.getCategoryId(), tree) : document.getCategoryName())
+                .score(Float.isNaN(hit.getScore()) ? null : (double) hit.getScore())
+                .tags(document.getTags())
+                .inStock(document.getStockQuantity() != null && document.getStockQuantity() > 0)
+                .build();
+    }
+
+    private static void addTermsFilter(List<Query> filters, String field, List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            List<FieldValue> terms = values.stream().map(FieldValue::of).collect(Collectors.toList());
+            filters.add(Query.of(q -> q.terms(t -> t.field(field).terms(v -> v.value(terms)))));
+        }
+    }
+
+    private static Aggregation termsAggregation(String field) {
+        return Aggregation.of(a -> a.terms(t -> t.field(field).size(FACET_SIZE)));
     }
 
     public Page<ProductDocument> searchByCategory(String categoryName, Pageable pageable) {
-        return productSearchRepository.findByCategoryNameAndActiveTrue(categoryName, pageable);
+        return cachedPage(key("category").value("category", categoryName), pageable,
+                () -> productSearchRepository.findByCategoryNameAndActiveTrue(categoryName, pageable));
     }
 
     public Page<ProductDocument> searchByVendor(String vendorName, Pageable pageable) {
-        return productSearchRepository.findByVendorNameAndActiveTrue(vendorName, pageable);
+        return cachedPage(key("vendor").value("vendor", vendorName), pageable,
+                () -> productSearchRepository.findByVendorNameAndActiveTrue(vendorName, pageable));
     }
 
     public Page<ProductDocument> searchByPriceRange(BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
-        return productSearchRepository.findByPriceBetweenAndActiveTrue(minPrice, maxPrice, pageable);
+        return cachedPage(key("price").value("min", minPrice).value("max", maxPrice), pageable,
+                () -> productSearchRepository.findByPriceBetweenAndActiveTrue(minPrice, maxPrice, pageable));
     }
 
     public Page<ProductDocument> searchByTags(List<String> tags, Pageable pageable) {
-        return productSearchRepository.findByTagsInAndActiveTrue(tags, pageable);
+        return cachedPage(key("tags").terms("tags", tags), pageable,
+                () -> productSearchRepository.findByTagsInAndActiveTrue(tags, pageable));
     }
 
     public Page<ProductDocument> searchByBrand(String brand, Pageable pageable) {
-        return productSearchRepository.findByBrandAndActiveTrue(brand, pageable);
+        return cachedPage(key("brand").value("brand", brand), pageable,
+                () -> productSearchRepository.findByBrandAndActiveTrue(brand, pageable));
     }
 
     public Page<ProductDocument> advancedSearch(String searchTerm, BigDecimal minPrice, BigDecimal maxPrice, Pageable pageable) {
-        return productSearchRepository.findBySearchTermAndPriceRange(searchTerm, minPrice, maxPrice, pageable);
+        return cachedPage(key("advanced").text("q", searchTerm).value("min", minPrice).value("max", maxPrice), pageable,
+                () -> productSearchRepository.findBySearchTermAndPriceRange(searchTerm, minPrice, maxPrice, pageable));
     }
 
     public Page<ProductDocument> getHighRatedProducts(Double minRating, Pageable pageable) {
-        return productSearchRepository.findByRatingGreaterThanEqualAndActiveTrue(minRating, pageable);
+        return cachedPage(key("rating").value("min", minRating), pageable,
+                () -> productSearchRepository.findByRatingGreaterThanEqualAndActiveTrue(minRating, pageable));
     }
 
     public Optional<ProductDocument> findBySku(String sku) {
-        return Optional.ofNullable(productSearchRepository.findBySkuAndActiveTrue(sku));
+        Pageable single = PageRequest.of(0, 1);
+        return cachedPage(key("sku").value("sku", sku), single,
+                () -> {
+                    ProductDocument document = productSearchRepository.findBySkuAndActiveTrue(sku);
+                    return document == null ? Page.<ProductDocument>empty(single) : new PageImpl<>(List.of(document), single, 1);
+                })
+                .stream()
+                .findFirst();
     }
 
     public Page<ProductDocument> getAllActiveProducts(Pageable pageable) {
-        return productSearchRepository.findByActiveTrueOrderByCreatedAtDesc(pageable);
+        return cachedPage(key("active"), pageable,
+                () -> productSearchRepository.findByActiveTrueOrderByCreatedAtDesc(pageable));
+    }
+
+    /**
+     * Number of documents in the index; always asks Elasticsearch, so it doubles as a reachability check
+     */
+    public long countIndexedProducts() {
+        return productSearchRepository.count();
+    }
+
+    private static SearchResultCache.Key.Builder key(String endpoint) {
+        return SearchResultCache.Key.builder("es:" + endpoint);
+    }
+
+    /**
+     * Serves a result page from the search result cache. Hits are kept as product ids and rebuilt
+     * from the catalog, mostly from the product cache, with the mapping used to index them.
+     */
+    private Page<ProductDocument> cachedPage(SearchResultCache.Key.Builder key, Pageable pageable,
+                                             Supplier<Page<ProductDocument>> search) {
+        return searchResultCache.get(key.page(pageable).build(), search,
+                ProductSearchService::compact,
+                hits -> new PageImpl<>(productRepository.findAllByIds(hits.getIds()).stream()
+                        .map(productDocumentMapper::toDocument)
+                        .collect(Collectors.toList()), pageable, hits.getTotalHits()));
+    }
+
+    private static SearchResultCache.Hits compact(Page<ProductDocument> page) {
+        List<Long> ids = new ArrayList<>(page.getNumberOfElements());
+        for (ProductDocument document : page.getContent()) {
+            try {
+                ids.add(Long.valueOf(document.getId()));
+            } catch (NumberFormatException e) {
+                // Not backed by a catalog product, so it cannot be rebuilt from ids
+                return null;
+            }
+        }
+        return SearchResultCache.Hits.of(ids, null, page.getTotalElements());
     }
 
     public ProductDocument indexProduct(ProductDocument product) {
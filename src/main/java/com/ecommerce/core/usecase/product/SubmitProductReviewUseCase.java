@@ -0,0 +1,40 @@
+package com.ecommerce.core.usecase.product;
+
+import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.core.domain.product.entity.ProductReview;
+import com.ecommerce.core.domain.product.repository.ProductRepository;
+import com.ecommerce.core.domain.product.repository.ProductReviewRepository;
+import com.ecommerce.shared.exception.BusinessException;
+import com.ecommerce.shared.exception.NotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stores a new review as pending; it only counts towards the product rating once approved
+ */
+@Service
+@Transactional
+public class SubmitProductReviewUseCase {
+
+    private final ProductRepository productRepository;
+    private final ProductReviewRepository productReviewRepository;
+
+    public SubmitProductReviewUseCase(ProductRepository productRepository,
+                                      ProductReviewRepository productReviewRepository) {
+        this.productRepository = productRepository;
+        this.productReviewRepository = productReviewRepository;
+    }
+
+    public ProductReview execute(Long userId, Long productId, int rating, String title, String comment) {
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> new NotFoundException("Product not found"));
+        if (!product.isActive()) {
+            throw new BusinessException("Product is no longer available");
+        }
+        if (productReviewRepository.existsByProductIdAndUserId(productId, userId)) {
+            throw new BusinessException("You have already reviewed this product");
+        }
+
+        return productReviewRepository.save(new ProductReview(productId, userId, rating, title, comment));
+    }
+}
@@ -1,5 +1,7 @@
 package com.ecommerce.core.usecase.search;
 
+import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.core.domain.product.repository.ProductRepository;
 import com.ecommerce.core.domain.recommendation.entity.ProductRecommendation;
 import com.ecommerce.core.domain.recommendation.entity.RecommendationType;
 import com.ecommerce.core.domain.recommendation.repository.RecommendationRepository;
@@ -8,17 +10,23 @@ import com.ecommerce.shared.exception.NotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class GetRecommendationsUseCase {
     
     private final RecommendationRepository recommendationRepository;
     private final UserRepository userRepository;
+    private final ProductRepository productRepository;
 
     public GetRecommendationsUseCase(RecommendationRepository recommendationRepository,
-                                   UserRepository userRepository) {
+                                   UserRepository userRepository,
+                                   ProductRepository productRepository) {
         this.recommendationRepository = recommendationRepository;
         this.userRepository = userRepository;
+        this.productRepository = productRepository;
     }
 
     public GetRecommendationsResponse execute(GetRecommendationsRequest request) {
@@ -44,7 +52,7 @@ public class GetRecommendationsUseCase {
                     request.getLimit() != null ? request.getLimit() : 10
                 );
         
-        return GetRecommendationsResponse.success(recommendations, "PERSONALIZED");
+        return GetRecommendationsResponse.success(hydrate(recommendations), "PERSONALIZED");
     }
 
     private GetRecommendationsResponse getProductRecommendations(GetRecommendationsRequest request) {
@@ -58,7 +66,7 @@ public class GetRecommendationsUseCase {
                     request.getLimit() != null ? request.getLimit() : 10
                 );
         
-        return GetRecommendationsResponse.success(recommendations, type.name());
+        return GetRecommendationsResponse.success(hydrate(recommendations), type.name());
     }
 
     private GetRecommendationsResponse getTrendingRecommendations(GetRecommendationsRequest request) {
@@ -68,7 +76,38 @@ public class GetRecommendationsUseCase {
                     request.getLimit() != null ? request.getLimit() : 10
                 );
         
-        return GetRecommendationsResponse.success(recommendations, "TRENDING");
+        return GetRecommendationsResponse.success(hydrate(recommendations), "TRENDING");
+    }
+
+    /**
+     * Refreshes name, price and image from the catalog with one batch lookup
+     * and drops recommendations whose product is gone or inactive
+     */
+    private List<ProductRecommendation> hydrate(List<ProductRecommendation> recommendations) {
+        if (recommendations.isEmpty()) {
+            return recommendations;
+        }
+        Map<Long, Product> products = productRepository.findAllByIds(recommendations.stream()
+                        .map(ProductRecommendation::getProductId)
+                        .collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        return recommendations.stream()
+                .filter(recommendation -> {
+                    Product product = products.get(recommendation.getProductId());
+                    return product != null && product.isActive();
+                })
+                .map(recommendation -> {
+                    Product product = products.get(recommendation.getProductId());
+                    recommendation.setProductName(product.getName());
+                    recommendation.setProductPrice(product.getPrice() != null ? product.getPrice().getAmount() : null);
+                    if (product.getImageUrls() != null && !product.getImageUrls().isEmpty()) {
+                        recommendation.setProductImageUrl(product.getImageUrls().get(0));
+                    }
+                    return recommendation;
+                })
+                .collect(Collectors.toList());
     }
 
     private void validateUser(Long userId) {
@@ -16,11 +16,14 @@ public class SearchProductsResponse {
     private List<SearchResult> results;
     private List<SearchResult> products; // Alias for results
     private Integer totalElements;
+    private boolean totalExact; // false when totalElements is a lower bound
     private Integer totalPages;
     private Integer currentPage;
     private Integer size;
     private boolean hasNext;
     private boolean hasPrevious;
+    private String correctedQuery; // set when the typed query found nothing and these results are for the correction
+    private String suggestedQuery; // "did you mean" for a query that matched as typed
 
     public List<SearchResult> getProducts() {
         return results != null ? results : products;
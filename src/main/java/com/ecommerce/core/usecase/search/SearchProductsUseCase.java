@@ -1,34 +1,55 @@
 package com.ecommerce.core.usecase.search;
 
-import com.ecommerce.core.domain.search.entity.SearchResult;
+import com.ecommerce.core.domain.search.entity.SearchResultPage;
 import com.ecommerce.core.domain.search.repository.SearchRepository;
+import com.ecommerce.infrastructure.search.SearchSuggestionService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class SearchProductsUseCase {
 
     private final SearchRepository searchRepository;
+    private final SearchSuggestionService searchSuggestionService;
     
     public SearchProductsResponse execute(SearchProductsRequest request) {
-        List<SearchResult> results = searchRepository.searchProducts(request);
-        int totalCount = searchRepository.countSearchResults(request);
+        SearchResultPage page = searchRepository.searchProducts(request);
+        String correctedQuery = null;
+        String suggestedQuery = null;
+        if (page.getTotalHits() == 0) {
+            // Nothing matched as typed, so search the correction instead
+            Optional<String> correction = searchSuggestionService.correct(request.getQuery());
+            if (correction.isPresent()) {
+                SearchResultPage corrected = searchRepository.searchProducts(
+                        request.toBuilder().query(correction.get()).build());
+                if (corrected.getTotalHits() > 0) {
+                    page = corrected;
+                    correctedQuery = correction.get();
+                }
+            }
+        } else {
+            // Results exist, so only hint from the dictionary; a second search would double the cost
+            suggestedQuery = searchSuggestionService.didYouMean(request.getQuery()).orElse(null);
+        }
+        int totalCount = (int) Math.min(Integer.MAX_VALUE, page.getTotalHits());
         
         int totalPages = (int) Math.ceil((double) totalCount / request.getSize());
         
         return SearchProductsResponse.builder()
-                .results(results)
-                .products(results)
+                .results(page.getResults())
+                .products(page.getResults())
                 .totalElements(totalCount)
+                .totalExact(page.isTotalExact())
                 .totalPages(totalPages)
                 .currentPage(request.getPage())
                 .size(request.getSize())
                 .hasNext(request.getPage() < totalPages - 1)
                 .hasPrevious(request.getPage() > 0)
+                .correctedQuery(correctedQuery)
+                .suggestedQuery(suggestedQuery)
                 .build();
     }
-}
\ No newline at end of file
+}
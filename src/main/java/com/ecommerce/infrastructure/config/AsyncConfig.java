@@ -1,5 +1,6 @@
 package com.ecommerce.infrastructure.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -8,7 +9,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import java.util.concurrent.Executor;
 
 /**
- * Configuration for asynchronous processing of Elasticsearch sync operations
+ * Configuration for asynchronous processing of Elasticsearch sync operations, image derivatives and search index rebuilds
  */
 @Configuration
 @EnableAsync
@@ -26,4 +27,55 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Resizing is CPU-bound, so the pool stays small and the queue bounded; overflow is rejected
+     * rather than queued without limit, and variant requests fall back to the original meanwhile
+     */
+    @Bean(name = "imageDerivativeExecutor")
+    public Executor imageDerivativeExecutor(@Value("${app.media.derivatives.threads:2}") int threads,
+                                            @Value("${app.media.derivatives.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-derivative-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * One rebuild at a time with room for a single follow-up: further requests are rejected,
+     * since the queued rebuild will already see their changes
+     */
+    @Bean(name = "searchIndexExecutor")
+    public Executor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("search-index-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Shared by every bulk session (outbox relay, full sync, rebuild replay). Each session keeps at most
+     * the bulk concurrency in flight, and a batch this pool rejects runs on the session's own thread
+     */
+    @Bean(name = "elasticsearchBulkExecutor")
+    public Executor elasticsearchBulkExecutor(@Value("${app.elasticsearch.bulk.concurrency:4}") int concurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(concurrency);
+        executor.setThreadNamePrefix("es-bulk-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,33 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.adapter.persistence.cache.CatalogVersion;
+import com.ecommerce.adapter.persistence.cache.ProductCache;
+import com.ecommerce.adapter.persistence.cache.SearchResultCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration for in-process caches sitting in front of the persistence adapters;
+ * the catalog version they are validated against comes from {@link CatalogVersionConfig}
+ */
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public ProductCache productCache(
+            @Value("${app.cache.product.max-size:10000}") int maxSize,
+            @Value("${app.cache.product.ttl:PT5M}") Duration ttl) {
+        return new ProductCache(maxSize, ttl);
+    }
+
+    @Bean
+    public SearchResultCache searchResultCache(
+            CatalogVersion catalogVersion,
+            @Value("${app.cache.search.max-size:5000}") int maxSize,
+            @Value("${app.cache.search.ttl:PT1M}") Duration ttl) {
+        return new SearchResultCache(catalogVersion, maxSize, ttl);
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.adapter.persistence.cache.CatalogVersion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * The catalog version on its own, so web slices that load the conditional GET interceptor
+ * through {@link WebConfig} get it without the rest of the cache configuration
+ */
+@Configuration
+public class CatalogVersionConfig {
+
+    @Bean
+    public CatalogVersion catalogVersion(@Value("${app.cache.catalog-version.max-age:PT1M}") Duration maxAge) {
+        return new CatalogVersion(maxAge);
+    }
+}
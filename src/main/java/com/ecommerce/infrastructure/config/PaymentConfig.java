@@ -9,6 +9,7 @@ import com.ecommerce.core.usecase.payment.GetPaymentUseCase;
 import com.ecommerce.core.usecase.order.CreateOrderUseCase;
 import com.ecommerce.core.usecase.order.GetOrderUseCase;
 import com.ecommerce.core.usecase.checkout.CheckoutWorkflowUseCase;
+import com.ecommerce.core.usecase.product.CategoryTreeService;
 import com.ecommerce.core.usecase.product.GetProductUseCase;
 import com.ecommerce.core.usecase.product.GetProductsUseCase;
 import com.ecommerce.core.usecase.cart.GetCartUseCase;
@@ -61,13 +62,17 @@ public class PaymentConfig {
     }
 
     @Bean
-    public GetProductsUseCase getProductsUseCase(com.ecommerce.core.domain.product.repository.ProductRepository productRepository) {
-        return new GetProductsUseCase(productRepository);
+    public GetProductsUseCase getProductsUseCase(
+            com.ecommerce.core.domain.product.repository.ProductRepository productRepository,
+            CategoryTreeService categoryTreeService) {
+        return new GetProductsUseCase(productRepository, categoryTreeService);
     }
 
     @Bean
-    public GetCartUseCase getCartUseCase(CartRepository cartRepository) {
-        return new GetCartUseCase(cartRepository);
+    public GetCartUseCase getCartUseCase(
+            CartRepository cartRepository,
+            com.ecommerce.core.domain.product.repository.ProductRepository productRepository) {
+        return new GetCartUseCase(cartRepository, productRepository);
     }
 
     @Bean
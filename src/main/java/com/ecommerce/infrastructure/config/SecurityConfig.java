@@ -56,6 +56,8 @@ public class SecurityConfig {
 
                 // Product search and browsing - public access
                 .requestMatchers(HttpMethod.GET, "/api/products/**", "/api/search/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/images/**").permitAll()
+                .requestMatchers(HttpMethod.HEAD, "/images/**").permitAll()
 
                 // Admin-only endpoints
                 .requestMatchers("/api/admin/**", "/api/analytics/**", "/api/elasticsearch/**").hasRole("ADMIN")
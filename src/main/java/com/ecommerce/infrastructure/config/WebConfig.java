@@ -0,0 +1,32 @@
+package com.ecommerce.infrastructure.config;
+
+import com.ecommerce.adapter.web.interceptor.CatalogConditionalGetInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC configuration for request interceptors. Imports the catalog version the
+ * conditional GET interceptor reads, since MVC test slices load this class but not CacheConfig.
+ */
+@Configuration
+@Import(CatalogVersionConfig.class)
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+    private final CatalogConditionalGetInterceptor catalogConditionalGetInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Product detail endpoints carry per-product validators and are handled in ProductController
+        registry.addInterceptor(catalogConditionalGetInterceptor)
+                .addPathPatterns(
+                        "/api/products",
+                        "/api/products/scroll",
+                        "/api/products/featured",
+                        "/api/products/category/**",
+                        "/api/v1/search/products/**");
+    }
+}
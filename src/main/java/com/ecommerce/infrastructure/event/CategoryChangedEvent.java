@@ -0,0 +1,13 @@
+package com.ecommerce.infrastructure.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event published when a category is created, updated or deleted
+ */
+@Getter
+@RequiredArgsConstructor
+public class CategoryChangedEvent {
+    private final Long categoryId;
+}
@@ -0,0 +1,66 @@
+package com.ecommerce.infrastructure.event;
+
+import com.ecommerce.adapter.persistence.cache.CatalogVersion;
+import com.ecommerce.adapter.persistence.cache.ProductCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event listener that evicts changed products from the product near-cache and bumps the catalog version.
+ * Runs after commit so a concurrent reader cannot re-cache the pre-commit row.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCacheInvalidationListener {
+
+    private final ProductCache productCache;
+    private final CatalogVersion catalogVersion;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductCreated(ProductCreatedEvent event) {
+        evict(event.getProduct().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductUpdated(ProductUpdatedEvent event) {
+        evict(event.getProduct().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductDeleted(ProductDeletedEvent event) {
+        evict(event.getProductId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductStockUpdated(ProductStockUpdatedEvent event) {
+        evict(event.getProduct().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductStatusChanged(ProductStatusChangedEvent event) {
+        evict(event.getProduct().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductsBulkImported(ProductsBulkImportedEvent event) {
+        log.debug("Clearing product cache after bulk import of {} products", event.getUpsertedCount());
+        productCache.invalidateAll();
+        catalogVersion.bump();
+    }
+
+    // Listings that include subcategories change with the hierarchy even though no product did
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCategoryChanged(CategoryChangedEvent event) {
+        catalogVersion.bump();
+    }
+
+    private void evict(Long productId) {
+        log.debug("Evicting product {} from product cache", productId);
+        productCache.invalidate(productId);
+        catalogVersion.bump();
+    }
+}
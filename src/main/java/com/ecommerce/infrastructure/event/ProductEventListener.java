@@ -1,18 +1,15 @@
 package com.ecommerce.infrastructure.event;
 
-import com.ecommerce.core.domain.product.entity.Product;
-import com.ecommerce.infrastructure.service.ProductSyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
- * Event listener for product changes to automatically sync with Elasticsearch
+ * Event listener for product changes to automatically sync with Elasticsearch.
+ * Every change, single products and bulk import chunks alike, is recorded in the {@link SearchOutbox}
+ * synchronously, inside the transaction that publishes it, and reaches the index through the outbox relay.
  */
 @Component
 @ConditionalOnProperty(name = "spring.elasticsearch.enabled", havingValue = "true", matchIfMissing = false)
@@ -20,59 +17,59 @@ import org.springframework.transaction.event.TransactionalEventListener;
 @Slf4j
 public class ProductEventListener {
 
-    private final ProductSyncService productSyncService;
+    private final SearchOutbox searchOutbox;
 
     /**
      * Handle product creation events
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void handleProductCreated(ProductCreatedEvent event) {
-        log.info("Handling product created event for product ID: {}", event.getProduct().getId());
-        productSyncService.syncProductToElasticsearch(event.getProduct());
+        log.debug("Recording product created event for product ID: {}", event.getProduct().getId());
+        searchOutbox.append(event.getProduct().getId(), "PRODUCT_CREATED");
     }
 
     /**
      * Handle product update events
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void handleProductUpdated(ProductUpdatedEvent event) {
-        log.info("Handling product updated event for product ID: {}", event.getProduct().getId());
-        productSyncService.syncProductToElasticsearch(event.getProduct());
+        log.debug("Recording product updated event for product ID: {}", event.getProduct().getId());
+        searchOutbox.append(event.getProduct().getId(), "PRODUCT_UPDATED");
     }
 
     /**
      * Handle product deletion events
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void handleProductDeleted(ProductDeletedEvent event) {
-        log.info("Handling product deleted event for product ID: {}", event.getProductId());
-        productSyncService.removeProductFromElasticsearch(event.getProductId().toString());
+        log.debug("Recording product deleted event for product ID: {}", event.getProductId());
+        searchOutbox.append(event.getProductId(), "PRODUCT_DELETED");
     }
 
     /**
      * Handle product stock update events
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void handleProductStockUpdated(ProductStockUpdatedEvent event) {
-        log.info("Handling product stock updated event for product ID: {}", event.getProduct().getId());
-        productSyncService.syncProductToElasticsearch(event.getProduct());
+        log.debug("Recording product stock updated event for product ID: {}", event.getProduct().getId());
+        searchOutbox.append(event.getProduct().getId(), "PRODUCT_STOCK_UPDATED");
     }
 
     /**
      * Handle product activation/deactivation events
      */
-    @Async
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @EventListener
     public void handleProductStatusChanged(ProductStatusChangedEvent event) {
-        log.info("Handling product status changed event for product ID: {}", event.getProduct().getId());
-        if (event.getProduct().isActive()) {
-            productSyncService.syncProductToElasticsearch(event.getProduct());
-        } else {
-            productSyncService.removeProductFromElasticsearch(event.getProduct().getId().toString());
-        }
+        log.debug("Recording product status changed event for product ID: {}", event.getProduct().getId());
+        searchOutbox.append(event.getProduct().getId(), "PRODUCT_STATUS_CHANGED");
+    }
+
+    /**
+     * Handle one imported chunk; runs inside the chunk's transaction, so the import and its outbox rows commit together
+     */
+    @EventListener
+    public void handleProductsImported(ProductsImportedEvent event) {
+        log.debug("Recording products imported event for {} products", event.getSkus().size());
+        searchOutbox.appendBySku(event.getSkus(), "PRODUCT_IMPORTED");
     }
 }
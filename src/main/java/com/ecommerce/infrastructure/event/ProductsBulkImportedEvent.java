@@ -0,0 +1,13 @@
+package com.ecommerce.infrastructure.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Event published once after a bulk import, instead of one event per imported product
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductsBulkImportedEvent {
+    private final long upsertedCount;
+}
@@ -0,0 +1,15 @@
+package com.ecommerce.infrastructure.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Event published inside the transaction that upserts one chunk of a bulk import, naming its products by SKU
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductsImportedEvent {
+    private final List<String> skus;
+}
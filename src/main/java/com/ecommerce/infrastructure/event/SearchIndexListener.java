@@ -0,0 +1,71 @@
+package com.ecommerce.infrastructure.event;
+
+import com.ecommerce.adapter.persistence.cache.CatalogVersion;
+import com.ecommerce.core.usecase.product.CategoryTreeService;
+import com.ecommerce.infrastructure.search.EmbeddedSearchEngine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Event listener that keeps the embedded search index in step with the catalog.
+ * Single-product changes are applied in place after commit; bulk imports and category changes,
+ * which can touch any number of documents, schedule a background rebuild.
+ * Bumps the catalog version once the index reflects the change, so cached search results revalidate.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "embedded", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class SearchIndexListener {
+
+    private final EmbeddedSearchEngine searchEngine;
+    private final CategoryTreeService categoryTreeService;
+    private final CatalogVersion catalogVersion;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductCreated(ProductCreatedEvent event) {
+        searchEngine.index(event.getProduct());
+        catalogVersion.bump();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductUpdated(ProductUpdatedEvent event) {
+        searchEngine.index(event.getProduct());
+        catalogVersion.bump();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductDeleted(ProductDeletedEvent event) {
+        searchEngine.remove(event.getProductId());
+        catalogVersion.bump();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductStockUpdated(ProductStockUpdatedEvent event) {
+        searchEngine.index(event.getProduct());
+        catalogVersion.bump();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductStatusChanged(ProductStatusChangedEvent event) {
+        searchEngine.index(event.getProduct());
+        catalogVersion.bump();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleProductsBulkImported(ProductsBulkImportedEvent event) {
+        log.debug("Scheduling search index rebuild after bulk import of {} products", event.getUpsertedCount());
+        searchEngine.requestRebuild();
+    }
+
+    // Category names are indexed with each product, so a rename means re-indexing its products
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void handleCategoryChanged(CategoryChangedEvent event) {
+        categoryTreeService.refresh();
+        searchEngine.requestRebuild();
+    }
+}
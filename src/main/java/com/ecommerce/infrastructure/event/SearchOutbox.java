@@ -0,0 +1,103 @@
+package com.ecommerce.infrastructure.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC access to the search_outbox table. Rows are appended inside the transaction that changes
+ * the product, so a committed change always leaves a row behind, and removed only once the
+ * search index has applied it.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.elasticsearch.enabled", havingValue = "true", matchIfMissing = false)
+@RequiredArgsConstructor
+public class SearchOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String APPEND_SQL =
+        "INSERT INTO search_outbox (product_id, event_type, created_at, next_attempt_at) VALUES (?, ?, ?, ?)";
+
+    private static final String APPEND_BY_SKU_SQL =
+        "INSERT INTO search_outbox (product_id, event_type, created_at, next_attempt_at) " +
+        "SELECT product_id, ?, ?, ? FROM products WHERE sku = ?";
+
+    // Concurrent relays (one per node) skip each other's claimed rows instead of waiting on them
+    private static final String CLAIM_SQL =
+        "SELECT id, product_id, attempts FROM search_outbox WHERE next_attempt_at <= ? ORDER BY id LIMIT ? " +
+        "FOR UPDATE SKIP LOCKED";
+
+    private static final String DELETE_SQL = "DELETE FROM search_outbox WHERE id = ?";
+
+    private static final String RESCHEDULE_SQL =
+        "UPDATE search_outbox SET attempts = attempts + 1, next_attempt_at = ?, last_error = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(Long productId, String eventType) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(APPEND_SQL, productId, eventType, now, now);
+    }
+
+    /**
+     * One row per product, resolved by SKU, for writes that never loaded the products (bulk imports)
+     */
+    public void appendBySku(Collection<String> skus, String eventType) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(APPEND_BY_SKU_SQL, skus.stream()
+                .map(sku -> new Object[] {eventType, now, now, sku})
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Lock up to limit due rows, oldest first; must run inside the transaction that later deletes them
+     */
+    public List<Entry> claim(int limit) {
+        return jdbcTemplate.query(CLAIM_SQL,
+                (rs, rowNum) -> new Entry(rs.getLong(1), rs.getLong(2), rs.getInt(3)),
+                Timestamp.valueOf(LocalDateTime.now()), limit);
+    }
+
+    public void delete(Collection<Entry> entries) {
+        jdbcTemplate.batchUpdate(DELETE_SQL, entries.stream()
+                .map(entry -> new Object[] {entry.getId()})
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Push failed rows back by a delay that grows with their attempt count
+     */
+    public void reschedule(Collection<Entry> entries, String error, Duration initialBackoff, Duration maxBackoff) {
+        String message = error == null || error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(RESCHEDULE_SQL, entries.stream()
+                .map(entry -> new Object[] {
+                        Timestamp.valueOf(now.plus(backoff(entry.getAttempts(), initialBackoff, maxBackoff))),
+                        message,
+                        entry.getId()})
+                .collect(Collectors.toList()));
+    }
+
+    static Duration backoff(int attempts, Duration initialBackoff, Duration maxBackoff) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final long id;
+        private final long productId;
+        private final int attempts;
+    }
+}
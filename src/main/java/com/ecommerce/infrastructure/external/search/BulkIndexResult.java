@@ -0,0 +1,88 @@
+package com.ecommerce.infrastructure.external.search;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outcome of a bulk indexing run. Counters are updated from concurrent bulk requests;
+ * only the first failures are kept in full, the rest are counted.
+ */
+public class BulkIndexResult {
+
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    private final AtomicLong indexed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final Map<String, String> failures = Collections.synchronizedMap(new LinkedHashMap<>());
+    private volatile long durationMillis;
+
+    void batchSent(long batchBytes) {
+        batches.incrementAndGet();
+        bytes.addAndGet(batchBytes);
+    }
+
+    void indexed(int documents) {
+        indexed.addAndGet(documents);
+    }
+
+    void retried(int documents) {
+        retried.addAndGet(documents);
+    }
+
+    void failed(String documentId, String reason) {
+        failed.incrementAndGet();
+        if (failures.size() < MAX_REPORTED_FAILURES) {
+            failures.put(documentId, reason);
+        }
+    }
+
+    void finished(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public long getIndexedCount() {
+        return indexed.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    public long getRetriedCount() {
+        return retried.get();
+    }
+
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    public long getBytesSent() {
+        return bytes.get();
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public Map<String, String> getFailures() {
+        synchronized (failures) {
+            return new LinkedHashMap<>(failures);
+        }
+    }
+
+    public long getDocumentsPerSecond() {
+        return durationMillis == 0 ? indexed.get() : indexed.get() * 1000 / durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d indexed, %d failed, %d retried in %d batches (%d KB) in %d ms, %d docs/s",
+                getIndexedCount(), getFailedCount(), getRetriedCount(), getBatchCount(), getBytesSent() / 1024,
+                durationMillis, getDocumentsPerSecond());
+    }
+}
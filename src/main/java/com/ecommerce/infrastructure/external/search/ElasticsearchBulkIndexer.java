@@ -0,0 +1,235 @@
+package com.ecommerce.infrastructure.external.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.BulkOptions;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+import org.springframework.data.elasticsearch.core.query.IndexQueryBuilder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Sends documents to Elasticsearch in bulk requests bounded by action count and payload size.
+ * Up to {@code concurrency} requests are in flight at once; adding a document blocks while they are,
+ * so a fast producer cannot pile serialized batches up in memory. When the shared bulk executor is
+ * saturated by other sessions, a batch is sent on the producer's own thread rather than dropped.
+ * Items rejected with a retryable status (429, 5xx) are resent with exponential backoff, the rest
+ * are reported as failures.
+ */
+@Service
+@ConditionalOnProperty(name = "spring.elasticsearch.enabled", havingValue = "true", matchIfMissing = false)
+@Slf4j
+public class ElasticsearchBulkIndexer {
+
+    // Action metadata line ({"index":{"_id":...}}) plus newlines, added to each source's size
+    private static final int ACTION_OVERHEAD_BYTES = 64;
+    private static final int PROGRESS_LOG_INTERVAL = 20;
+
+    private final ElasticsearchOperations operations;
+    private final Executor executor;
+    private final int maxActions;
+    private final long maxBytes;
+    private final int concurrency;
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final BulkOptions bulkOptions;
+
+    public ElasticsearchBulkIndexer(ElasticsearchOperations operations,
+                                    @Qualifier("elasticsearchBulkExecutor") Executor executor,
+                                    @Value("${app.elasticsearch.bulk.max-actions:1000}") int maxActions,
+                                    @Value("${app.elasticsearch.bulk.max-bytes:5242880}") long maxBytes,
+                                    @Value("${app.elasticsearch.bulk.concurrency:4}") int concurrency,
+                                    @Value("${app.elasticsearch.bulk.max-retries:3}") int maxRetries,
+                                    @Value("${app.elasticsearch.bulk.initial-backoff:PT0.5S}") Duration initialBackoff,
+                                    @Value("${app.elasticsearch.bulk.timeout:PT1M}") Duration timeout) {
+        this.operations = operations;
+        this.executor = executor;
+        this.maxActions = maxActions;
+        this.maxBytes = maxBytes;
+        this.concurrency = concurrency;
+        this.maxRetries = maxRetries;
+        this.initialBackoff = initialBackoff;
+        this.bulkOptions = BulkOptions.builder().withTimeout(timeout).build();
+    }
+
+    /**
+     * Start a bulk run into the index mapped for the given document class
+     */
+    public Session open(Class<?> documentClass) {
+        return open(operations.getIndexCoordinatesFor(documentClass));
+    }
+
+    public Session open(IndexCoordinates index) {
+        return new Session(index);
+    }
+
+    /**
+     * One bulk run. Not thread-safe: documents are added from a single producer thread,
+     * while the batches themselves are sent concurrently.
+     */
+    public final class Session implements AutoCloseable {
+
+        private final IndexCoordinates index;
+        private final Semaphore inFlight = new Semaphore(concurrency);
+        private final BulkIndexResult result = new BulkIndexResult();
+        private final long started = System.currentTimeMillis();
+        private List<IndexQuery> buffer = new ArrayList<>();
+        private long bufferBytes;
+        private boolean finished;
+
+        private Session(IndexCoordinates index) {
+            this.index = index;
+        }
+
+        /**
+         * Live counters, updated as batches complete
+         */
+        public BulkIndexResult getResult() {
+            return result;
+        }
+
+        /**
+         * Serialize the document now, on the caller's thread, and queue it for the next bulk request
+         */
+        public void add(String id, Object document) {
+            String source = operations.getElasticsearchConverter().mapObject(document).toJson();
+            long size = source.length() + id.length() + ACTION_OVERHEAD_BYTES;
+            if (!buffer.isEmpty() && bufferBytes + size > maxBytes) {
+                flush();
+            }
+            buffer.add(new IndexQueryBuilder().withId(id).withSource(source).build());
+            bufferBytes += size;
+            if (buffer.size() >= maxActions) {
+                flush();
+            }
+        }
+
+        /**
+         * Send what is buffered and wait for every in-flight request to complete
+         */
+        public BulkIndexResult finish() {
+            if (finished) {
+                return result;
+            }
+            finished = true;
+            flush();
+            inFlight.acquireUninterruptibly(concurrency);
+            inFlight.release(concurrency);
+            result.finished(System.currentTimeMillis() - started);
+            log.info("Bulk indexing into {} finished: {}", index.getIndexName(), result);
+            return result;
+        }
+
+        @Override
+        public void close() {
+            finish();
+        }
+
+        private void flush() {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            List<IndexQuery> batch = buffer;
+            long batchBytes = bufferBytes;
+            buffer = new ArrayList<>();
+            bufferBytes = 0;
+
+            // Backpressure: wait here until one of the in-flight requests completes
+            inFlight.acquireUninterruptibly();
+            try {
+                executor.execute(() -> {
+                    try {
+                        send(batch, batchBytes);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // The pool is shared with other sessions; sending on this thread slows the producer instead of dropping
+                try {
+                    send(batch, batchBytes);
+                } finally {
+                    inFlight.release();
+                }
+            }
+        }
+
+        private void send(List<IndexQuery> batch, long batchBytes) {
+            result.batchSent(batchBytes);
+            List<IndexQuery> pending = batch;
+            for (int attempt = 0; ; attempt++) {
+                String lastError;
+                try {
+                    operations.bulkIndex(pending, bulkOptions, index);
+                    result.indexed(pending.size());
+                    break;
+                } catch (BulkFailureException e) {
+                    Map<String, BulkFailureException.FailureDetails> failures = e.getFailedDocuments();
+                    List<IndexQuery> retryable = new ArrayList<>();
+                    for (IndexQuery query : pending) {
+                        BulkFailureException.FailureDetails failure = failures.get(query.getId());
+                        if (failure == null) {
+                            result.indexed(1);
+                        } else if (isRetryable(failure.status())) {
+                            retryable.add(query);
+                        } else {
+                            result.failed(query.getId(), failure.status() + " " + failure.errorMessage());
+                        }
+                    }
+                    pending = retryable;
+                    lastError = "Bulk item rejected";
+                } catch (RuntimeException e) {
+                    // Transport-level failure: nothing in the request is known to have been applied
+                    lastError = e.getMessage();
+                    log.warn("Bulk request of {} documents to {} failed (attempt {}): {}",
+                            pending.size(), index.getIndexName(), attempt + 1, lastError);
+                }
+
+                if (pending.isEmpty()) {
+                    break;
+                }
+                if (attempt >= maxRetries || !backoff(attempt)) {
+                    String reason = "Gave up after " + (attempt + 1) + " attempts: " + lastError;
+                    pending.forEach(query -> result.failed(query.getId(), reason));
+                    break;
+                }
+                result.retried(pending.size());
+            }
+
+            long batches = result.getBatchCount();
+            if (batches % PROGRESS_LOG_INTERVAL == 0) {
+                long elapsed = Math.max(1, System.currentTimeMillis() - started);
+                log.info("Bulk indexing into {}: {} documents in {} batches, {} docs/s",
+                        index.getIndexName(), result.getIndexedCount(), batches,
+                        result.getIndexedCount() * 1000 / elapsed);
+            }
+        }
+
+        private boolean backoff(int attempt) {
+            try {
+                Thread.sleep(initialBackoff.toMillis() << Math.min(attempt, 10));
+                return true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    // Rejected by a busy or failing node rather than for the document itself; a missing status means no response
+    static boolean isRetryable(Integer status) {
+        return status == null || status == 429 || status >= 500;
+    }
+}
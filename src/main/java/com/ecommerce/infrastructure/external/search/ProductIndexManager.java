@@ -0,0 +1,113 @@
+package com.ecommerce.infrastructure.external.search;
+
+import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import com.ecommerce.adapter.persistence.elasticsearch.document.ProductDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+/**
+ * Blue/green management of the product index.
+ * Searches and live updates address the {@link ProductDocument} index name, which is an alias onto one
+ * timestamped physical index. A reindex builds a fresh physical index tuned for bulk loading, then
+ * moves the alias onto it and deletes the previous index in one atomic alias request.
+ */
+@Service
+@ConditionalOnProperty(name = "spring.elasticsearch.enabled", havingValue = "true", matchIfMissing = false)
+@Slf4j
+public class ProductIndexManager {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS");
+    private static final String REPLICAS = "index.number_of_replicas";
+    private static final String REFRESH_INTERVAL = "index.refresh_interval";
+
+    private final ElasticsearchOperations operations;
+    private final ElasticsearchClient client;
+    private final String alias;
+
+    public ProductIndexManager(ElasticsearchOperations operations, ElasticsearchClient client) {
+        this.operations = operations;
+        this.client = client;
+        this.alias = operations.getIndexCoordinatesFor(ProductDocument.class).getIndexName();
+    }
+
+    /**
+     * Create an empty physical index with the product mapping, no replicas and refresh disabled
+     */
+    public IndexCoordinates createBuildIndex() {
+        IndexCoordinates target = IndexCoordinates.of(alias + "-" + ZonedDateTime.now(ZoneOffset.UTC).format(SUFFIX));
+        IndexOperations indexOps = operations.indexOps(target);
+        Settings settings = indexOps.createSettings(ProductDocument.class).flatten();
+        settings.put(REPLICAS, "0");
+        settings.put(REFRESH_INTERVAL, "-1");
+        indexOps.create(settings, indexOps.createMapping(ProductDocument.class));
+        log.info("Created build index {} for alias {}", target.getIndexName(), alias);
+        return target;
+    }
+
+    /**
+     * Restore the replica count and refresh interval the document declares, then make everything searchable
+     */
+    public void finishBuild(IndexCoordinates target) {
+        Settings declared = operations.indexOps(target).createSettings(ProductDocument.class).flatten();
+        String replicas = String.valueOf(declared.getOrDefault(REPLICAS, "1"));
+        String refreshInterval = String.valueOf(declared.getOrDefault(REFRESH_INTERVAL, "1s"));
+        try {
+            client.indices().putSettings(request -> request
+                    .index(target.getIndexName())
+                    .settings(settings -> settings
+                            .numberOfReplicas(replicas)
+                            .refreshInterval(time -> time.time(refreshInterval))));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to restore settings of " + target.getIndexName(), e);
+        }
+        operations.indexOps(target).refresh();
+    }
+
+    /**
+     * Point the alias at the target and delete whatever it resolved to before, atomically.
+     * A concrete index that still carries the alias name (created before indexes were versioned)
+     * is replaced the same way.
+     */
+    public void swapAlias(IndexCoordinates target) {
+        IndexOperations current = operations.indexOps(IndexCoordinates.of(alias));
+        AliasActions actions = new AliasActions(new AliasAction.Add(AliasActionParameters.builder()
+                .withIndices(target.getIndexName())
+                .withAliases(alias)
+                .build()));
+        Set<String> previous = current.exists() ? current.getAliasesForIndex(alias).keySet() : Set.of();
+        for (String index : previous) {
+            actions.add(new AliasAction.RemoveIndex(AliasActionParameters.builder().withIndices(index).build()));
+        }
+        operations.indexOps(target).alias(actions);
+        log.info("Alias {} now points at {}, removed {}", alias, target.getIndexName(), previous);
+    }
+
+    public void deleteDocument(String id, IndexCoordinates index) {
+        operations.delete(id, index);
+    }
+
+    /**
+     * Drop a build index that will not be swapped in
+     */
+    public void discard(IndexCoordinates target) {
+        try {
+            operations.indexOps(target).delete();
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete abandoned build index {}: {}", target.getIndexName(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ecommerce.infrastructure.external.storage;
+
+/**
+ * A single satisfiable byte range of a file, resolved from an HTTP Range header.
+ * Only one range is honoured; multi-range requests are answered with the full body, which RFC 9110 allows.
+ */
+public final class ByteRange {
+
+    /** Marker for a syntactically valid range that lies entirely outside the file */
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    private static final String UNIT = "bytes=";
+
+    private final long start;
+    private final long end;
+
+    private ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Resolves the header against the file length. Returns null when the whole file should be sent:
+     * no header, an unknown unit, a malformed or multi-range specification.
+     */
+    public static ByteRange parse(String header, long length) {
+        if (header == null || !header.startsWith(UNIT) || header.indexOf(',') >= 0) {
+            return null;
+        }
+        String spec = header.substring(UNIT.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                // Suffix range: the final N bytes
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffix = Long.parseLong(last);
+                if (suffix <= 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                return new ByteRange(Math.max(0, length - suffix), length - 1);
+            }
+            long start = Long.parseLong(first);
+            long end = last.isEmpty() ? Long.MAX_VALUE : Long.parseLong(last);
+            if (start < 0 || end < start) {
+                return null;
+            }
+            if (start >= length) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(start, Math.min(end, length - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public boolean isSatisfiable() {
+        return this != UNSATISFIABLE;
+    }
+
+    public long getStart() {
+        return start;
+    }
+
+    /** Inclusive, as in the Content-Range header */
+    public long getEnd() {
+        return end;
+    }
+
+    public long getLength() {
+        return end - start + 1;
+    }
+
+    public String toContentRange(long length) {
+        return "bytes " + start + "-" + end + "/" + length;
+    }
+}
@@ -0,0 +1,211 @@
+package com.ecommerce.infrastructure.external.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Generates resized, recompressed renditions of uploaded images on a bounded background executor.
+ * Variant keys are derived from the original key ("<sha256>-w320.jpg"), so their URLs are known
+ * up front and can be handed to clients before the renditions exist.
+ */
+@Service
+@Slf4j
+public class ImageDerivativeService {
+
+    private static final Set<String> RASTER_EXTENSIONS = Set.of("jpg", "jpeg", "png", "gif");
+
+    private final LocalFileStorageService storageService;
+    private final Executor executor;
+    private final float jpegQuality;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ImageDerivativeService(LocalFileStorageService storageService,
+                                  @Qualifier("imageDerivativeExecutor") Executor executor,
+                                  @Value("${app.media.derivatives.jpeg-quality:0.82}") float jpegQuality) {
+        this.storageService = storageService;
+        this.executor = executor;
+        this.jpegQuality = jpegQuality;
+    }
+
+    /**
+     * Queues generation of every variant of an original; a full queue is logged and skipped,
+     * since variant requests fall back to the original and re-queue the work
+     */
+    public void schedule(String originalKey) {
+        if (!supports(originalKey) || !inFlight.add(originalKey)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(originalKey);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Failed to generate image variants for {}: {}", originalKey, e.getMessage());
+                } finally {
+                    inFlight.remove(originalKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(originalKey);
+            log.warn("Image derivative queue full, deferring variants for {}", originalKey);
+        }
+    }
+
+    /**
+     * Variant URLs for an image URL, keyed by variant label; empty for external or non-raster images
+     */
+    public Map<String, String> variantUrls(String imageUrl) {
+        Optional<String> key = LocalFileStorageService.keyOf(imageUrl);
+        if (key.isEmpty() || !supports(key.get())) {
+            return Collections.emptyMap();
+        }
+        Map<String, String> urls = new LinkedHashMap<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            urls.put(variant.getLabel(), LocalFileStorageService.URL_PREFIX + variantKey(key.get(), variant));
+        }
+        return urls;
+    }
+
+    /**
+     * The stored original a variant key was derived from, or empty if the key is not exactly the key of
+     * one of its {@link ImageVariant}s. The variant extension does not always match the original's, so
+     * each raster type is probed.
+     */
+    public Optional<LocalFileStorageService.MediaFile> findOriginalOf(String variantKey) {
+        int marker = variantKey.indexOf("-w");
+        if (marker < 0) {
+            return Optional.empty();
+        }
+        String hash = variantKey.substring(0, marker);
+        for (ImageVariant variant : ImageVariant.values()) {
+            for (String extension : RASTER_EXTENSIONS) {
+                String originalKey = hash + "." + extension;
+                // Arbitrary widths would let anyone queue decodes of large originals
+                if (!variantKey(originalKey, variant).equals(variantKey)) {
+                    continue;
+                }
+                Optional<LocalFileStorageService.MediaFile> original = storageService.find(originalKey);
+                if (original.isPresent()) {
+                    return original;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    // Transparent sources stay PNG, everything else becomes a compressed JPEG
+    static String variantKey(String originalKey, ImageVariant variant) {
+        String hash = originalKey.substring(0, originalKey.indexOf('.'));
+        String extension = originalKey.substring(originalKey.indexOf('.') + 1);
+        String target = extension.equals("png") || extension.equals("gif") ? "png" : "jpg";
+        return hash + "-w" + variant.getWidth() + "." + target;
+    }
+
+    void generate(String originalKey) throws IOException {
+        LocalFileStorageService.MediaFile original = storageService.find(originalKey).orElse(null);
+        if (original == null) {
+            return;
+        }
+        List<ImageVariant> missing = new ArrayList<>();
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (storageService.find(variantKey(originalKey, variant)).isEmpty()) {
+                missing.add(variant);
+            }
+        }
+        // Decoding is the expensive part, so an original whose variants all exist is never read
+        if (missing.isEmpty()) {
+            return;
+        }
+        BufferedImage source = ImageIO.read(original.getPath().toFile());
+        if (source == null) {
+            log.warn("Unreadable image {}, no variants generated", originalKey);
+            return;
+        }
+        long started = System.currentTimeMillis();
+        for (ImageVariant variant : missing) {
+            String key = variantKey(originalKey, variant);
+            boolean png = key.endsWith(".png");
+            // Never upscale: narrow originals are only recompressed
+            BufferedImage resized = resize(source, Math.min(variant.getWidth(), source.getWidth()), png);
+            storageService.storeDerivative(key, png ? encodePng(resized) : encodeJpeg(resized));
+        }
+        log.debug("Generated image variants for {} in {} ms", originalKey, System.currentTimeMillis() - started);
+    }
+
+    private static BufferedImage resize(BufferedImage source, int width, boolean keepAlpha) {
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        int type = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        // Halve in steps first; a single bilinear pass from a much larger image aliases badly
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                if (!keepAlpha) {
+                    graphics.setColor(Color.WHITE);
+                    graphics.fillRect(0, 0, currentWidth, currentHeight);
+                }
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] encodePng(BufferedImage image) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", bytes);
+        return bytes.toByteArray();
+    }
+
+    private static boolean supports(String key) {
+        return RASTER_EXTENSIONS.contains(key.substring(key.lastIndexOf('.') + 1)) && !key.contains("-w");
+    }
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.infrastructure.external.storage;
+
+import java.util.Locale;
+
+/**
+ * Responsive renditions generated for every uploaded product image, by target width in pixels
+ */
+public enum ImageVariant {
+    THUMBNAIL(160),
+    SMALL(320),
+    MEDIUM(640),
+    LARGE(1280);
+
+    private final int width;
+
+    ImageVariant(int width) {
+        this.width = width;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    /** Name used in API payloads, e.g. "thumbnail" */
+    public String getLabel() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
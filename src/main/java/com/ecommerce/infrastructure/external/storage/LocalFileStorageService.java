@@ -0,0 +1,296 @@
+package com.ecommerce.infrastructure.external.storage;
+
+import com.ecommerce.shared.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Content-addressed media store on the local file system.
+ * Files are named after the SHA-256 of their bytes, so a stored file never changes and can be
+ * cached by clients forever; identical uploads are stored once.
+ * Reads avoid the Java heap: large files are sent with {@link FileChannel#transferTo}, small hot
+ * files are served from a bounded cache of memory-mapped buffers.
+ */
+@Service
+@Slf4j
+public class LocalFileStorageService {
+
+    public static final String URL_PREFIX = "/images/";
+
+    // Originals are "<sha256>.<ext>", derivatives add the target width: "<sha256>-w320.jpg"
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{64}(-w[0-9]{1,5})?\\.[a-z0-9]{1,5}");
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+        "jpg", "image/jpeg",
+        "jpeg", "image/jpeg",
+        "png", "image/png",
+        "gif", "image/gif",
+        "webp", "image/webp",
+        "avif", "image/avif",
+        "svg", "image/svg+xml",
+        "mp4", "video/mp4");
+
+    private final Path root;
+    private final long mmapMaxBytes;
+    private final Map<String, MappedByteBuffer> mapped;
+
+    public LocalFileStorageService(@Value("${app.storage.local.root:./storage/media}") String root,
+                                   @Value("${app.storage.local.mmap-max-bytes:262144}") long mmapMaxBytes,
+                                   @Value("${app.storage.local.mmap-cache-entries:1024}") int mmapCacheEntries) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+        this.mmapMaxBytes = mmapMaxBytes;
+        // Access-ordered LRU; dropped buffers are unmapped by the GC once no response still holds them
+        this.mapped = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, MappedByteBuffer> eldest) {
+                return size() > mmapCacheEntries;
+            }
+        };
+    }
+
+    /**
+     * Streams the upload to disk while hashing it, then publishes it under its content address
+     */
+    public StoredFile store(InputStream content, String originalFilename) throws IOException {
+        String extension = extensionOf(originalFilename);
+        if (!CONTENT_TYPES.containsKey(extension)) {
+            throw new ValidationException("Unsupported media type: " + originalFilename);
+        }
+        Files.createDirectories(root);
+        Path temp = Files.createTempFile(root, "upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (DigestInputStream in = new DigestInputStream(content, digest)) {
+                size = Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String key = HexFormat.of().formatHex(digest.digest()) + "." + extension;
+            Path target = pathOf(key);
+            Files.createDirectories(target.getParent());
+            if (Files.exists(target)) {
+                log.debug("Media {} already stored, discarding duplicate upload", key);
+            } else {
+                moveIntoPlace(temp, target);
+            }
+            return new StoredFile(key, URL_PREFIX + key, CONTENT_TYPES.get(extension), size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Publishes a derived rendition (e.g. a resized image) under its deterministic key.
+     * Derivatives are a pure function of the original's bytes, so an existing file is left untouched.
+     */
+    public void storeDerivative(String key, byte[] content) throws IOException {
+        if (!KEY.matcher(key).matches()) {
+            throw new ValidationException("Invalid media key: " + key);
+        }
+        Path target = pathOf(key);
+        if (Files.exists(target)) {
+            return;
+        }
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(root, "derivative-", ".tmp");
+        try {
+            Files.write(temp, content);
+            moveIntoPlace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Extracts the storage key from a media URL, empty for URLs this store does not serve
+     */
+    public static Optional<String> keyOf(String url) {
+        if (url == null || !url.startsWith(URL_PREFIX)) {
+            return Optional.empty();
+        }
+        String key = url.substring(URL_PREFIX.length());
+        return KEY.matcher(key).matches() ? Optional.of(key) : Optional.empty();
+    }
+
+    /**
+     * Looks up a stored file; unknown or malformed keys resolve to empty
+     */
+    public Optional<MediaFile> find(String key) {
+        if (key == null || !KEY.matcher(key).matches()) {
+            return Optional.empty();
+        }
+        Path path = pathOf(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return Optional.of(new MediaFile(key, path, contentTypeOf(key), attributes.size(),
+                    attributes.lastModifiedTime().toInstant()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes bytes [position, position + count) of the file to the target channel without staging them on the heap
+     */
+    public void transfer(MediaFile file, long position, long count, WritableByteChannel target) throws IOException {
+        if (file.getSize() <= mmapMaxBytes) {
+            ByteBuffer buffer = mappedBuffer(file).duplicate();
+            buffer.position((int) position).limit((int) (position + count));
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+            long sent = 0;
+            // transferTo may move fewer bytes than asked, e.g. when the socket buffer is full
+            while (sent < count) {
+                long n = channel.transferTo(position + sent, count - sent, target);
+                if (n <= 0 && channel.size() <= position + sent) {
+                    throw new IOException("Media file truncated: " + file.getKey());
+                }
+                sent += n;
+            }
+        }
+    }
+
+    /**
+     * Whether the file is served from the memory-mapped cache rather than streamed from disk
+     */
+    public boolean isMemoryMapped(MediaFile file) {
+        return file.getSize() <= mmapMaxBytes;
+    }
+
+    private MappedByteBuffer mappedBuffer(MediaFile file) throws IOException {
+        synchronized (mapped) {
+            MappedByteBuffer buffer = mapped.get(file.getKey());
+            if (buffer != null) {
+                return buffer;
+            }
+        }
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, file.getSize());
+        }
+        synchronized (mapped) {
+            MappedByteBuffer existing = mapped.putIfAbsent(file.getKey(), buffer);
+            return existing != null ? existing : buffer;
+        }
+    }
+
+    // Two levels of fan-out keep directories small: ab/cd/abcd...ef.jpg
+    private Path pathOf(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            try {
+                Files.move(temp, target);
+            } catch (FileAlreadyExistsException ignored) {
+                // A concurrent upload of the same bytes won; the content is identical
+            }
+        } catch (FileAlreadyExistsException ignored) {
+            // Same as above
+        }
+    }
+
+    private static String extensionOf(String filename) {
+        if (filename == null || filename.lastIndexOf('.') < 0) {
+            throw new ValidationException("Media file name must have an extension");
+        }
+        return filename.substring(filename.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+    }
+
+    private static String contentTypeOf(String key) {
+        return CONTENT_TYPES.getOrDefault(key.substring(key.lastIndexOf('.') + 1), "application/octet-stream");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Result of an upload: the content address and the public URL it is served under
+     */
+    public static final class StoredFile {
+        private final String key;
+        private final String url;
+        private final String contentType;
+        private final long size;
+
+        StoredFile(String key, String url, String contentType, long size) {
+            this.key = key;
+            this.url = url;
+            this.contentType = contentType;
+            this.size = size;
+        }
+
+        public String getKey() { return key; }
+        public String getUrl() { return url; }
+        public String getContentType() { return contentType; }
+        public long getSize() { return size; }
+    }
+
+    /**
+     * A stored file ready to be served. The content hash doubles as a strong ETag.
+     */
+    public static final class MediaFile {
+        private final String key;
+        private final Path path;
+        private final String contentType;
+        private final long size;
+        private final Instant lastModified;
+
+        MediaFile(String key, Path path, String contentType, long size, Instant lastModified) {
+            this.key = key;
+            this.path = path;
+            this.contentType = contentType;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+
+        public String getKey() { return key; }
+        public Path getPath() { return path; }
+        public String getContentType() { return contentType; }
+        public long getSize() { return size; }
+        public Instant getLastModified() { return lastModified; }
+
+        public String getETag() {
+            return "\"" + key.substring(0, key.indexOf('.')) + "\"";
+        }
+    }
+}
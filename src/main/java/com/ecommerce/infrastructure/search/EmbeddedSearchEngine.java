@@ -0,0 +1,220 @@
+package com.ecommerce.infrastructure.search;
+
+import com.ecommerce.adapter.persistence.cache.CatalogVersion;
+import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.core.domain.product.repository.ProductRepository;
+import com.ecommerce.core.domain.product.valueobject.CategoryTree;
+import com.ecommerce.core.usecase.product.CategoryTreeService;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Embedded product search used when no Elasticsearch cluster is available.
+ * The index is built from the catalog at startup and kept current from product change events;
+ * writes are serialized behind a read-write lock so queries only wait for single-document updates.
+ * Full rebuilds run on a background thread against a fresh index, which is compacted and swapped in
+ * when complete; an index with too many deleted documents is cleaned up the same way, so the write
+ * lock is never held while documents are re-analyzed.
+ */
+@Service
+@ConditionalOnProperty(name = "app.search.backend", havingValue = "embedded", matchIfMissing = true)
+@Slf4j
+public class EmbeddedSearchEngine {
+
+    private static final int REBUILD_PAGE_SIZE = 100;
+
+    private final ProductRepository productRepository;
+    private final CategoryTreeService categoryTreeService;
+    private final CatalogVersion catalogVersion;
+    private final Executor rebuildExecutor;
+    private final double compactionThreshold;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private InvertedIndex index = new InvertedIndex();
+    // Changes that arrive while a rebuild is reading the catalog, replayed onto the new index
+    private List<Consumer<InvertedIndex>> pendingDuringRebuild;
+    private boolean compactionRequested;
+
+    public EmbeddedSearchEngine(ProductRepository productRepository,
+                                CategoryTreeService categoryTreeService,
+                                CatalogVersion catalogVersion,
+                                @Qualifier("searchIndexExecutor") Executor rebuildExecutor,
+                                @Value("${app.search.embedded.compaction-threshold:0.3}") double compactionThreshold) {
+        this.productRepository = productRepository;
+        this.categoryTreeService = categoryTreeService;
+        this.catalogVersion = catalogVersion;
+        this.rebuildExecutor = rebuildExecutor;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        requestRebuild();
+    }
+
+    public IndexHits search(IndexQuery query) {
+        lock.readLock().lock();
+        try {
+            return index.search(query);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexed documents for the given products, keyed by id; products not in the index are absent
+     */
+    public Map<Long, IndexedProduct> documents(Collection<Long> productIds) {
+        Map<Long, IndexedProduct> found = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (Long productId : productIds) {
+                IndexedProduct document = index.get(productId);
+                if (document != null) {
+                    found.put(productId, document);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return found;
+    }
+
+    /**
+     * Adds or replaces a product; inactive products are removed since they are never searchable
+     */
+    public void index(Product product) {
+        if (product == null || product.getId() == null) {
+            return;
+        }
+        if (!product.isActive()) {
+            remove(product.getId());
+            return;
+        }
+        IndexedProduct document = toDocument(product, categoryTreeService.getTree());
+        apply(target -> target.upsert(document));
+    }
+
+    public void remove(Long productId) {
+        apply(target -> target.delete(productId));
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Schedules a full rebuild; requests arriving while one is queued collapse into it
+     */
+    public void requestRebuild() {
+        try {
+            rebuildExecutor.execute(this::rebuild);
+        } catch (RejectedExecutionException e) {
+            log.debug("Search index rebuild already queued");
+        }
+    }
+
+    /**
+     * Reads the whole active catalog into a new index and swaps it in
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        InvertedIndex rebuilt = new InvertedIndex();
+        try {
+            CategoryTree tree = categoryTreeService.getTree();
+            Cursor cursor = null;
+            CursorPage<Product> page;
+            do {
+                page = productRepository.findActiveAfter(cursor, REBUILD_PAGE_SIZE);
+                for (Product product : page.getContent()) {
+                    rebuilt.upsert(toDocument(product, tree));
+                }
+                cursor = page.isHasNext() ? Cursor.decode(page.getNextCursor()) : null;
+            } while (cursor != null);
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringRebuild = null;
+                compactionRequested = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.error("Search index rebuild failed, keeping the current index", e);
+            return;
+        }
+
+        // The new index is not shared yet, so it is compacted before searches have to wait for it
+        InvertedIndex compacted = rebuilt.compact();
+        int size;
+        long postingsBytes;
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(change -> change.accept(compacted));
+            pendingDuringRebuild = null;
+            compactionRequested = false;
+            index = compacted;
+            size = index.size();
+            postingsBytes = index.postingsBytes();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        catalogVersion.bump();
+        log.info("Search index rebuilt with {} products ({} KB of postings) in {} ms",
+                size, postingsBytes / 1024, System.currentTimeMillis() - started);
+    }
+
+    private void apply(Consumer<InvertedIndex> change) {
+        double deletedRatio = 0;
+        lock.writeLock().lock();
+        try {
+            change.accept(index);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            } else if (!compactionRequested && index.maxDoc() > 1000 && index.deletedRatio() > compactionThreshold) {
+                compactionRequested = true;
+                deletedRatio = index.deletedRatio();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (deletedRatio > 0) {
+            log.debug("Search index is {}% deleted documents, scheduling a rebuild", Math.round(deletedRatio * 100));
+            requestRebuild();
+        }
+    }
+
+    private static IndexedProduct toDocument(Product product, CategoryTree tree) {
+        String categoryName = tree.find(product.getCategoryId()).map(CategoryTree.Node::getName).orElse(null);
+        return IndexedProduct.of(product, categoryName);
+    }
+}
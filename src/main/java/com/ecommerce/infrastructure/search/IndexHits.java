@@ -0,0 +1,24 @@
+package com.ecommerce.infrastructure.search;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of hits plus the total number of matching documents
+ */
+@Getter
+@RequiredArgsConstructor
+public class IndexHits {
+
+    private final List<Hit> hits;
+    private final int totalHits;
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Hit {
+        private final IndexedProduct product;
+        private final float score;
+    }
+}
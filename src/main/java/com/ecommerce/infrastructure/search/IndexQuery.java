@@ -0,0 +1,29 @@
+package com.ecommerce.infrastructure.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * A search against the embedded index: free text plus filters, sort and the requested page window
+ */
+@Getter
+@Builder
+public class IndexQuery {
+
+    public enum Sort { RELEVANCE, PRICE_ASC, PRICE_DESC, NAME_ASC, NAME_DESC, NEWEST, RATING, POPULARITY }
+
+    private final String text;
+    /** Matching categories, already expanded to their subtrees; null means any category */
+    private final Set<Long> categoryIds;
+    private final BigDecimal minPrice;
+    private final BigDecimal maxPrice;
+    private final boolean inStockOnly;
+    @Builder.Default
+    private final Sort sort = Sort.RELEVANCE;
+    private final int offset;
+    @Builder.Default
+    private final int limit = 20;
+}
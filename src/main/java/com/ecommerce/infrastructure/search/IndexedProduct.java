@@ -0,0 +1,61 @@
+package com.ecommerce.infrastructure.search;
+
+import com.ecommerce.core.domain.product.entity.Product;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Stored fields of an indexed product: what the index needs to filter, sort and render a hit
+ * without going back to the database
+ */
+@Getter
+@Builder
+public class IndexedProduct {
+    private final Long productId;
+    private final String name;
+    private final String description;
+    private final String sku;
+    private final String brand;
+    private final Long categoryId;
+    private final String categoryName;
+    private final BigDecimal price;
+    private final String currency;
+    private final int stockQuantity;
+    private final String imageUrl;
+    private final boolean featured;
+    private final BigDecimal averageRating;
+    private final int reviewCount;
+    private final LocalDateTime createdAt;
+
+    public static IndexedProduct of(Product product, String categoryName) {
+        return IndexedProduct.builder()
+                .productId(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .sku(product.getSku())
+                .brand(product.getBrand())
+                .categoryId(product.getCategoryId())
+                .categoryName(categoryName)
+                .price(product.getPrice() != null ? product.getPrice().getAmount() : BigDecimal.ZERO)
+                .currency(product.getPrice() != null ? product.getPrice().getCurrency() : null)
+                .stockQuantity(product.getStockQuantity())
+                .imageUrl(product.getImageUrls() != null && !product.getImageUrls().isEmpty()
+                        ? product.getImageUrls().get(0) : null)
+                .featured(product.isFeatured())
+                .averageRating(product.getReviews().getAverageRating())
+                .reviewCount(product.getReviews().getReviewCount())
+                .createdAt(product.getCreatedAt())
+                .build();
+    }
+
+    public boolean isInStock() {
+        return stockQuantity > 0;
+    }
+
+    long priceCents() {
+        return price.movePointRight(2).longValue();
+    }
+}
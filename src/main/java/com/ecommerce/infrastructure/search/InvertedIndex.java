@@ -0,0 +1,299 @@
+package com.ecommerce.infrastructure.search;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * In-memory inverted index over products with BM25 scoring.
+ * Documents get sequential ids; an update appends a new document and tombstones the old one, so
+ * postings stay append-only and sorted. Deleted documents are dropped by {@link #compact()}.
+ * Category and stock filters are bitsets, prices a flat array of cents, so filtering never touches
+ * the stored documents. Not thread-safe: the owner serializes writes against reads.
+ */
+final class InvertedIndex {
+
+    static final float K1 = 1.2f;
+    static final float B = 0.75f;
+
+    // Field boosts folded into term frequency (a simplified BM25F): a name match outweighs a description match
+    private static final int NAME_WEIGHT = 3;
+    private static final int SKU_WEIGHT = 3;
+    private static final int BRAND_WEIGHT = 2;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    private final Map<String, PostingsList> postings = new HashMap<>();
+    private final List<IndexedProduct> docs = new ArrayList<>();
+    private final Map<Long, Integer> docByProduct = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final BitSet inStock = new BitSet();
+    private final Map<Long, BitSet> byCategory = new HashMap<>();
+    private int[] lengths = new int[64];
+    private long[] prices = new long[64];
+    private int liveCount;
+    private long liveLength;
+
+    void upsert(IndexedProduct product) {
+        delete(product.getProductId());
+        int doc = docs.size();
+        docs.add(product);
+        ensureCapacity(doc + 1);
+
+        Map<String, Integer> freqs = new HashMap<>();
+        addField(freqs, product.getName(), NAME_WEIGHT);
+        addField(freqs, product.getSku(), SKU_WEIGHT);
+        addField(freqs, product.getBrand(), BRAND_WEIGHT);
+        addField(freqs, product.getCategoryName(), CATEGORY_WEIGHT);
+        addField(freqs, product.getDescription(), DESCRIPTION_WEIGHT);
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : freqs.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new PostingsList()).add(doc, entry.getValue());
+            length += entry.getValue();
+        }
+
+        lengths[doc] = length;
+        prices[doc] = product.priceCents();
+        live.set(doc);
+        if (product.isInStock()) {
+            inStock.set(doc);
+        }
+        if (product.getCategoryId() != null) {
+            byCategory.computeIfAbsent(product.getCategoryId(), id -> new BitSet()).set(doc);
+        }
+        docByProduct.put(product.getProductId(), doc);
+        liveCount++;
+        liveLength += length;
+    }
+
+    boolean delete(Long productId) {
+        Integer doc = docByProduct.remove(productId);
+        if (doc == null) {
+            return false;
+        }
+        live.clear(doc);
+        docs.set(doc, null);
+        liveCount--;
+        liveLength -= lengths[doc];
+        return true;
+    }
+
+    IndexedProduct get(Long productId) {
+        Integer doc = docByProduct.get(productId);
+        return doc == null ? null : docs.get(doc);
+    }
+
+    int size() {
+        return liveCount;
+    }
+
+    int maxDoc() {
+        return docs.size();
+    }
+
+    double deletedRatio() {
+        return docs.isEmpty() ? 0 : 1.0 - (double) liveCount / docs.size();
+    }
+
+    long postingsBytes() {
+        long bytes = 0;
+        for (PostingsList list : postings.values()) {
+            bytes += list.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    /**
+     * A copy holding only live documents, renumbered densely, with postings trimmed to size
+     */
+    InvertedIndex compact() {
+        InvertedIndex compacted = new InvertedIndex();
+        for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+            compacted.upsert(docs.get(doc));
+        }
+        compacted.postings.values().forEach(PostingsList::trim);
+        return compacted;
+    }
+
+    /**
+     * Documents must contain every query term; if none does, any term is enough.
+     * An empty query matches every document that passes the filters.
+     */
+    IndexHits search(IndexQuery query) {
+        BitSet accept = filter(query);
+        Set<String> terms = new LinkedHashSet<>(TextAnalyzer.analyze(query.getText()));
+
+        float[] scores = null;
+        int[] candidates;
+        if (terms.isEmpty()) {
+            candidates = accept.stream().toArray();
+        } else {
+            scores = new float[docs.size()];
+            int[] matched = new int[docs.size()];
+            float avgLength = liveCount == 0 ? 1f : (float) liveLength / liveCount;
+            for (String term : terms) {
+                PostingsList list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                float idf = idf(list.docFreq());
+                PostingsList.Reader reader = list.reader();
+                while (reader.next()) {
+                    int doc = reader.doc();
+                    if (!accept.get(doc)) {
+                        continue;
+                    }
+                    float tf = reader.freq();
+                    float norm = K1 * (1 - B + B * lengths[doc] / avgLength);
+                    scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                    matched[doc]++;
+                }
+            }
+            candidates = matching(matched, terms.size());
+            if (candidates.length == 0) {
+                candidates = matching(matched, 1);
+            }
+        }
+
+        List<Integer> page = topDocs(candidates, order(query.getSort(), scores), query.getOffset() + query.getLimit());
+        List<IndexHits.Hit> hits = new ArrayList<>();
+        for (int i = query.getOffset(); i < page.size(); i++) {
+            int doc = page.get(i);
+            hits.add(new IndexHits.Hit(docs.get(doc), scores != null ? scores[doc] : 0f));
+        }
+        return new IndexHits(hits, candidates.length);
+    }
+
+    private BitSet filter(IndexQuery query) {
+        BitSet accept = (BitSet) live.clone();
+        if (query.getCategoryIds() != null) {
+            BitSet categories = new BitSet();
+            for (Long categoryId : query.getCategoryIds()) {
+                BitSet members = byCategory.get(categoryId);
+                if (members != null) {
+                    categories.or(members);
+                }
+            }
+            accept.and(categories);
+        }
+        if (query.isInStockOnly()) {
+            accept.and(inStock);
+        }
+        if (query.getMinPrice() != null || query.getMaxPrice() != null) {
+            long min = cents(query.getMinPrice(), RoundingMode.CEILING, Long.MIN_VALUE);
+            long max = cents(query.getMaxPrice(), RoundingMode.FLOOR, Long.MAX_VALUE);
+            for (int doc = accept.nextSetBit(0); doc >= 0; doc = accept.nextSetBit(doc + 1)) {
+                if (prices[doc] < min || prices[doc] > max) {
+                    accept.clear(doc);
+                }
+            }
+        }
+        return accept;
+    }
+
+    // Probabilistic BM25 idf; deleted-but-uncompacted postings may push df past the live count
+    private float idf(int docFreq) {
+        int df = Math.min(docFreq, liveCount);
+        return (float) Math.log(1 + (liveCount - df + 0.5) / (df + 0.5));
+    }
+
+    private static int[] matching(int[] matched, int required) {
+        int count = 0;
+        for (int value : matched) {
+            if (value >= required) {
+                count++;
+            }
+        }
+        int[] docs = new int[count];
+        int next = 0;
+        for (int doc = 0; doc < matched.length; doc++) {
+            if (matched[doc] >= required) {
+                docs[next++] = doc;
+            }
+        }
+        return docs;
+    }
+
+    // Bounded heap keeps selection at O(n log k) for the first pages, which is what users look at
+    private static List<Integer> topDocs(int[] candidates, Comparator<Integer> order, int k) {
+        if (k <= 0 || candidates.length == 0) {
+            return Collections.emptyList();
+        }
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(k, candidates.length) + 1, order.reversed());
+        for (int doc : candidates) {
+            heap.offer(doc);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<Integer> top = new ArrayList<>(heap);
+        top.sort(order);
+        return top;
+    }
+
+    private Comparator<Integer> order(IndexQuery.Sort sort, float[] scores) {
+        Comparator<Integer> byId = Comparator.comparing(doc -> docs.get(doc).getProductId());
+        Comparator<Integer> newest = Comparator.comparing((Integer doc) -> docs.get(doc).getCreatedAt(),
+                Comparator.nullsLast(Comparator.reverseOrder()));
+        switch (sort) {
+            case PRICE_ASC:
+                return Comparator.comparingLong((Integer doc) -> prices[doc]).thenComparing(byId);
+            case PRICE_DESC:
+                return Comparator.comparingLong((Integer doc) -> -prices[doc]).thenComparing(byId);
+            case NAME_ASC:
+                return Comparator.comparing((Integer doc) -> nameOf(doc), String.CASE_INSENSITIVE_ORDER).thenComparing(byId);
+            case NAME_DESC:
+                return Comparator.comparing((Integer doc) -> nameOf(doc), String.CASE_INSENSITIVE_ORDER.reversed())
+                        .thenComparing(byId);
+            case NEWEST:
+                return newest.thenComparing(byId);
+            case RATING:
+                return Comparator.comparing((Integer doc) -> docs.get(doc).getAverageRating(), Comparator.reverseOrder())
+                        .thenComparing((Integer doc) -> -docs.get(doc).getReviewCount())
+                        .thenComparing(byId);
+            case POPULARITY:
+                return Comparator.comparingInt((Integer doc) -> -docs.get(doc).getReviewCount()).thenComparing(byId);
+            case RELEVANCE:
+            default:
+                if (scores == null) {
+                    // Nothing to score against: featured first, then newest
+                    return Comparator.comparing((Integer doc) -> !docs.get(doc).isFeatured())
+                            .thenComparing(newest).thenComparing(byId);
+                }
+                return Comparator.comparingDouble((Integer doc) -> -scores[doc]).thenComparing(byId);
+        }
+    }
+
+    private String nameOf(int doc) {
+        String name = docs.get(doc).getName();
+        return name != null ? name : "";
+    }
+
+    private static void addField(Map<String, Integer> freqs, String text, int weight) {
+        for (String term : TextAnalyzer.analyze(text)) {
+            freqs.merge(term, weight, Integer::sum);
+        }
+    }
+
+    private static long cents(BigDecimal amount, RoundingMode rounding, long unbounded) {
+        return amount == null ? unbounded : amount.movePointRight(2).setScale(0, rounding).longValue();
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > lengths.length) {
+            int capacity = Math.max(size, lengths.length * 2);
+            lengths = Arrays.copyOf(lengths, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+        }
+    }
+}
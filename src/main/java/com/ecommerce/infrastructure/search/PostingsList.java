@@ -0,0 +1,97 @@
+package com.ecommerce.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * Documents containing one term, as (doc id, term frequency) pairs in ascending doc order.
+ * Doc ids are stored as gaps from the previous id and both numbers as variable-length integers,
+ * so a typical posting takes two bytes instead of eight.
+ */
+final class PostingsList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int docFreq;
+    private int lastDoc = -1;
+
+    void add(int doc, int freq) {
+        if (doc <= lastDoc) {
+            throw new IllegalArgumentException("Postings must be appended in doc order: " + doc + " after " + lastDoc);
+        }
+        ensureCapacity(10);
+        writeVInt(doc - lastDoc);
+        writeVInt(freq);
+        lastDoc = doc;
+        docFreq++;
+    }
+
+    /** Number of documents in the list, including ones deleted since it was built */
+    int docFreq() {
+        return docFreq;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    void trim() {
+        data = Arrays.copyOf(data, length);
+    }
+
+    Reader reader() {
+        return new Reader();
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    private void writeVInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * Forward-only decoder over a snapshot of the list
+     */
+    final class Reader {
+        private final int end = length;
+        private int position;
+        private int doc = -1;
+        private int freq;
+
+        boolean next() {
+            if (position >= end) {
+                return false;
+            }
+            doc += readVInt();
+            freq = readVInt();
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int freq() {
+            return freq;
+        }
+
+        private int readVInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.ecommerce.infrastructure.search;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking capture of search telemetry into search_analytics and user_search_history.
+ * Request threads only offer a record to a bounded in-memory buffer; a scheduled flush drains it
+ * in multi-row batches. When the buffer is full the record is dropped and counted rather than
+ * making the search wait, so search latency never includes tracking I/O. Signed-in users are
+ * recorded by principal name and resolved to user ids in bulk when the batch is written.
+ */
+@Service
+@Slf4j
+public class SearchAnalyticsRecorder implements MeterBinder {
+
+    private static final int MAX_QUERY_LENGTH = 255;
+
+    private static final String ANALYTICS_SQL =
+        "INSERT INTO search_analytics (query, user_id, session_id, results_count, clicked_result_position, " +
+        "clicked_product_id, timestamp) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String HISTORY_SQL =
+        "INSERT INTO user_search_history (user_id, query, results_count, clicked_product_id, search_filters, " +
+        "created_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String EXISTING_PRODUCTS_SQL = "SELECT product_id FROM products WHERE product_id IN (%s)";
+
+    private static final String USER_IDS_SQL = "SELECT user_id, email FROM users WHERE email IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<Record> buffer;
+    private final int batchSize;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public SearchAnalyticsRecorder(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.search.analytics.buffer-capacity:10000}") int bufferCapacity,
+                                   @Value("${app.search.analytics.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Queue a search; never blocks
+     *
+     * @param user    the signed-in user's principal name (their email), or null for anonymous searches
+     * @param filters compact description of the applied filters, kept in the user's search history
+     */
+    public void recordSearch(String query, String user, String sessionId, int resultsCount, String filters) {
+        offer(new Record(query, user, sessionId, resultsCount, null, null, filters));
+    }
+
+    /**
+     * Queue a click on a search result; position is the hit's zero-based rank in the result list
+     */
+    public void recordClick(String query, String user, String sessionId, Integer position, Long productId) {
+        offer(new Record(query, user, sessionId, null, position, productId, null));
+    }
+
+    /**
+     * Write everything buffered so far, one batch at a time
+     */
+    @Scheduled(fixedDelayString = "${app.search.analytics.flush-interval:PT1S}",
+               initialDelayString = "${app.search.analytics.flush-interval:PT1S}")
+    public void flush() {
+        List<Record> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    public int buffered() { return buffer.size(); }
+    public long recordedCount() { return recorded.sum(); }
+    public long droppedCount() { return dropped.sum(); }
+    public long failedCount() { return failed.sum(); }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("search.analytics.records", recorded, LongAdder::sum)
+                .tag("result", "written")
+                .description("Search telemetry records written to the database")
+                .register(registry);
+        FunctionCounter.builder("search.analytics.records", dropped, LongAdder::sum)
+                .tag("result", "dropped")
+                .description("Search telemetry records dropped because the buffer was full")
+                .register(registry);
+        FunctionCounter.builder("search.analytics.records", failed, LongAdder::sum)
+                .tag("result", "failed")
+                .description("Search telemetry records lost to failed batch writes")
+                .register(registry);
+        Gauge.builder("search.analytics.buffer.size", this, SearchAnalyticsRecorder::buffered)
+                .description("Search telemetry records waiting to be written")
+                .register(registry);
+    }
+
+    private void offer(Record record) {
+        if (record.query == null || record.query.isBlank()) {
+            return;
+        }
+        if (!buffer.offer(record)) {
+            dropped.increment();
+        }
+    }
+
+    private void write(List<Record> batch) {
+        batch = withoutUnknownProducts(batch);
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<String, Long> userIds = userIdsOf(batch);
+        try {
+            jdbcTemplate.batchUpdate(ANALYTICS_SQL, batch.stream()
+                    .map(r -> new Object[] {r.query, userIds.get(r.user), r.sessionId, r.resultsCount,
+                            r.clickedPosition, r.clickedProductId, r.at})
+                    .collect(Collectors.toList()));
+            recorded.add(batch.size());
+        } catch (DataAccessException e) {
+            failed.add(batch.size());
+            log.warn("Failed to write {} search analytics records: {}", batch.size(), e.getMessage());
+        }
+
+        List<Object[]> history = batch.stream()
+                .filter(r -> userIds.containsKey(r.user) && r.resultsCount != null)
+                .map(r -> new Object[] {userIds.get(r.user), r.query, r.resultsCount, r.clickedProductId, r.filters, r.at})
+                .collect(Collectors.toList());
+        if (history.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(HISTORY_SQL, history);
+        } catch (DataAccessException e) {
+            log.warn("Failed to write {} user search history records: {}", history.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * One lookup per flush for every signed-in user in the batch. Principals that no longer map to
+     * a user are left out, so their records stay anonymous and never reach user_search_history.
+     */
+    private Map<String, Long> userIdsOf(List<Record> batch) {
+        Set<String> users = batch.stream()
+                .filter(r -> r.user != null)
+                .map(r -> r.user)
+                .collect(Collectors.toSet());
+        Map<String, Long> userIds = new HashMap<>();
+        if (users.isEmpty()) {
+            return userIds;
+        }
+        try {
+            String placeholders = users.stream().map(user -> "?").collect(Collectors.joining(", "));
+            for (Map<String, Object> row : jdbcTemplate.queryForList(
+                    String.format(USER_IDS_SQL, placeholders), users.toArray())) {
+                userIds.put((String) row.get("email"), ((Number) row.get("user_id")).longValue());
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to resolve {} search users, recording them anonymously: {}", users.size(), e.getMessage());
+        }
+        return userIds;
+    }
+
+    /**
+     * clicked_product_id references products, so a single click on a deleted or made-up product
+     * would fail the whole batch. Such clicks are dropped up front (and counted as failed) with one
+     * lookup per flush, instead of losing every other record written alongside them.
+     */
+    private List<Record> withoutUnknownProducts(List<Record> batch) {
+        Set<Long> clicked = batch.stream()
+                .filter(r -> r.clickedProductId != null)
+                .map(r -> r.clickedProductId)
+                .collect(Collectors.toSet());
+        if (clicked.isEmpty()) {
+            return batch;
+        }
+        Set<Long> existing;
+        try {
+            String placeholders = clicked.stream().map(id -> "?").collect(Collectors.joining(", "));
+            existing = new HashSet<>(jdbcTemplate.queryForList(
+                    String.format(EXISTING_PRODUCTS_SQL, placeholders), Long.class, clicked.toArray()));
+        } catch (DataAccessException e) {
+            log.warn("Failed to check clicked products, writing {} records unchecked: {}", batch.size(), e.getMessage());
+            return batch;
+        }
+        if (existing.size() == clicked.size()) {
+            return batch;
+        }
+        List<Record> valid = batch.stream()
+                .filter(r -> r.clickedProductId == null || existing.contains(r.clickedProductId))
+                .collect(Collectors.toList());
+        failed.add(batch.size() - valid.size());
+        log.warn("Dropped {} search clicks on unknown products", batch.size() - valid.size());
+        return valid;
+    }
+
+    private static final class Record {
+        private final String query;
+        private final String user;
+        private final String sessionId;
+        private final Integer resultsCount;
+        private final Integer clickedPosition;
+        private final Long clickedProductId;
+        private final String filters;
+        private final Timestamp at = Timestamp.valueOf(LocalDateTime.now());
+
+        private Record(String query, String user, String sessionId, Integer resultsCount,
+                       Integer clickedPosition, Long clickedProductId, String filters) {
+            this.query = query != null && query.length() > MAX_QUERY_LENGTH ? query.substring(0, MAX_QUERY_LENGTH) : query;
+            this.user = user;
+            this.sessionId = sessionId;
+            this.resultsCount = resultsCount;
+            this.clickedPosition = clickedPosition;
+            this.clickedProductId = clickedProductId;
+            this.filters = filters;
+        }
+    }
+}
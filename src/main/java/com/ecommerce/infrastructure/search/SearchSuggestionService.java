@@ -0,0 +1,117 @@
+package com.ecommerce.infrastructure.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Typeahead suggestions served from an in-memory {@link SuggestionTrie}, and spelling correction from a
+ * {@link SpellingCorrector} built from the same rows.
+ * The trie is rebuilt in the background from curated suggestions, recent successful searches and
+ * active product names, then swapped in whole, so keystroke lookups never touch the database.
+ */
+@Service
+@Slf4j
+public class SearchSuggestionService {
+
+    public static final int MAX_SUGGESTIONS = 20;
+
+    private static final String CURATED_SQL =
+        "SELECT suggestion, category, SUM(frequency) FROM search_suggestions GROUP BY suggestion, category";
+
+    // Only searches that found something are worth suggesting
+    private static final String SEARCHED_SQL =
+        "SELECT query, COUNT(*) FROM search_analytics WHERE timestamp >= ? AND results_count > 0 GROUP BY query";
+
+    private static final String PRODUCTS_SQL =
+        "SELECT p.name, c.name, p.review_count, p.brand, p.description, p.tags " +
+        "FROM products p LEFT JOIN categories c ON c.id = p.category_id WHERE p.is_active = TRUE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration analyticsWindow;
+    private final long didYouMeanMinWeight;
+
+    private volatile SuggestionTrie trie = SuggestionTrie.EMPTY;
+    private volatile SpellingCorrector corrector = SpellingCorrector.EMPTY;
+
+    public SearchSuggestionService(JdbcTemplate jdbcTemplate,
+                                   @Value("${app.search.suggestions.analytics-window:P30D}") Duration analyticsWindow,
+                                   @Value("${app.search.suggestions.did-you-mean-min-weight:10}") long didYouMeanMinWeight) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.analyticsWindow = analyticsWindow;
+        this.didYouMeanMinWeight = didYouMeanMinWeight;
+    }
+
+    public List<SuggestionTrie.Suggestion> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    /**
+     * The query with misspelled words replaced by the closest catalog words, or empty when it looks right
+     */
+    public Optional<String> correct(String query) {
+        return corrector.correct(query);
+    }
+
+    /**
+     * A "did you mean" for a query that already found products: only corrections made of words
+     * common enough in the dictionary, decided without running the corrected query
+     */
+    public Optional<String> didYouMean(String query) {
+        return corrector.correct(query, didYouMeanMinWeight);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.search.suggestions.refresh-interval:PT5M}",
+               initialDelayString = "${app.search.suggestions.refresh-interval:PT5M}")
+    public void refresh() {
+        long started = System.currentTimeMillis();
+        SuggestionTrie.Builder builder = SuggestionTrie.builder(MAX_SUGGESTIONS);
+        // Spelling dictionary: every catalog field the search matches, with curated suggestion frequency
+        // boosting the words people look for; descriptions and tags only make their words known
+        SpellingCorrector.Builder dictionary = SpellingCorrector.builder();
+        try {
+            jdbcTemplate.query(CURATED_SQL, rs -> {
+                builder.add(rs.getString(1), rs.getString(2), rs.getLong(3));
+                dictionary.add(rs.getString(1), rs.getLong(3));
+            });
+            Timestamp since = Timestamp.valueOf(LocalDateTime.now().minus(analyticsWindow));
+            jdbcTemplate.query(SEARCHED_SQL, rs -> {
+                builder.add(rs.getString(1), null, rs.getLong(2));
+            }, since);
+            // Every product name is a valid completion; reviews stand in for popularity
+            jdbcTemplate.query(PRODUCTS_SQL, rs -> {
+                builder.add(rs.getString(1), rs.getString(2), 1 + rs.getLong(3));
+                dictionary.add(rs.getString(1), 1 + rs.getLong(3));
+                dictionary.add(rs.getString(4), 1 + rs.getLong(3));
+                dictionary.add(rs.getString(5), 1);
+                dictionary.add(rs.getString(6), 1);
+            });
+        } catch (DataAccessException e) {
+            log.warn("Failed to refresh search suggestions, keeping the previous set: {}", e.getMessage());
+            return;
+        }
+        SuggestionTrie rebuilt = builder.build();
+        SpellingCorrector rebuiltCorrector = dictionary.build();
+        trie = rebuilt;
+        corrector = rebuiltCorrector;
+        log.debug("Loaded {} search suggestions ({} trie nodes) and {} spelling words ({} deletes) in {} ms",
+                rebuilt.size(), rebuilt.nodeCount(), rebuiltCorrector.size(), rebuiltCorrector.deleteCount(),
+                System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,240 @@
+package com.ecommerce.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Immutable spelling corrector over a weighted word dictionary, using symmetric-delete candidate generation.
+ * Every dictionary word is indexed under all variants reachable by deleting up to MAX_DISTANCE characters
+ * from its first PREFIX_LENGTH characters. A misspelled word then finds its candidates by generating its
+ * own deletes and looking each one up, with no scan over the dictionary; candidates are verified with
+ * Damerau-Levenshtein distance and ranked by distance, then by weight.
+ */
+public final class SpellingCorrector {
+
+    public static final SpellingCorrector EMPTY = builder().build();
+
+    static final int MAX_DISTANCE = 2;
+    private static final int PREFIX_LENGTH = 7;
+    private static final int MIN_WORD_LENGTH = 3;
+    private static final int[] NO_WORDS = new int[0];
+
+    private final String[] words;
+    private final long[] weights;
+    private final Map<String, Integer> wordIndex;
+    private final Map<String, int[]> deletes;
+
+    private SpellingCorrector(String[] words, long[] weights, Map<String, Integer> wordIndex, Map<String, int[]> deletes) {
+        this.words = words;
+        this.weights = weights;
+        this.wordIndex = wordIndex;
+        this.deletes = deletes;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The query with every unknown word replaced by its best correction, or empty when nothing changed
+     */
+    public Optional<String> correct(String query) {
+        return correct(query, 1);
+    }
+
+    /**
+     * Like {@link #correct(String)}, but only dictionary words weighing at least minWeight may replace
+     * an unknown word, so rare catalog words are not offered over what the user typed
+     */
+    public Optional<String> correct(String query, long minWeight) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return Optional.empty();
+        }
+        boolean changed = false;
+        List<String> corrected = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            String word = correctWord(token, minWeight);
+            changed |= !word.equals(token);
+            corrected.add(word);
+        }
+        return changed ? Optional.of(String.join(" ", corrected)) : Optional.empty();
+    }
+
+    /**
+     * Best dictionary word within the allowed distance, or the word itself when it is known, too short,
+     * numeric or has no close match
+     */
+    public String correctWord(String word) {
+        return correctWord(word, 1);
+    }
+
+    private String correctWord(String word, long minWeight) {
+        if (word.length() < MIN_WORD_LENGTH || wordIndex.containsKey(word) || !hasLetter(word)) {
+            return word;
+        }
+        // One edit for short words, two for longer ones, so "cat" never turns into "car"
+        int maxDistance = word.length() <= 4 ? 1 : MAX_DISTANCE;
+        String prefix = word.length() > PREFIX_LENGTH ? word.substring(0, PREFIX_LENGTH) : word;
+
+        Set<Integer> seen = new HashSet<>();
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (String variant : deletesOf(prefix, maxDistance)) {
+            for (int candidate : deletes.getOrDefault(variant, NO_WORDS)) {
+                if (!seen.add(candidate)) {
+                    continue;
+                }
+                String dictionaryWord = words[candidate];
+                if (weights[candidate] < minWeight || Math.abs(dictionaryWord.length() - word.length()) > maxDistance) {
+                    continue;
+                }
+                int distance = distance(word, dictionaryWord, maxDistance);
+                if (distance <= maxDistance && (distance < bestDistance
+                        || (distance == bestDistance && weights[candidate] > weights[best]))) {
+                    best = candidate;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best >= 0 ? words[best] : word;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public int deleteCount() {
+        return deletes.size();
+    }
+
+    /**
+     * Lowercase, accents folded, split on anything that is not a letter or digit
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        for (String token : folded.split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // The word itself plus every variant with up to maxDistance characters removed
+    private static Set<String> deletesOf(String word, int maxDistance) {
+        Set<String> variants = new HashSet<>();
+        variants.add(word);
+        List<String> frontier = List.of(word);
+        for (int d = 0; d < maxDistance; d++) {
+            List<String> next = new ArrayList<>();
+            for (String current : frontier) {
+                for (int i = 0; i < current.length(); i++) {
+                    String variant = current.substring(0, i) + current.substring(i + 1);
+                    if (variants.add(variant)) {
+                        next.add(variant);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return variants;
+    }
+
+    /**
+     * Optimal string alignment distance (Levenshtein plus adjacent transpositions), giving up early
+     * with maxDistance + 1 once every alignment is already further apart than maxDistance
+     */
+    static int distance(String a, String b, int maxDistance) {
+        int[] previousPrevious = new int[b.length() + 1];
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxDistance) {
+                return maxDistance + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[b.length()];
+    }
+
+    private static boolean hasLetter(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isLetter(word.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects words from weighted text; the same word seen again accumulates its weight
+     */
+    public static final class Builder {
+        private final Map<String, Long> weightByWord = new HashMap<>();
+
+        private Builder() {
+        }
+
+        public Builder add(String text, long weight) {
+            if (weight <= 0) {
+                return this;
+            }
+            for (String token : tokenize(text)) {
+                if (token.length() >= MIN_WORD_LENGTH && hasLetter(token)) {
+                    weightByWord.merge(token, weight, Long::sum);
+                }
+            }
+            return this;
+        }
+
+        public SpellingCorrector build() {
+            String[] words = weightByWord.keySet().toArray(new String[0]);
+            long[] weights = new long[words.length];
+            Map<String, Integer> wordIndex = new HashMap<>();
+            Map<String, List<Integer>> collected = new HashMap<>();
+            for (int i = 0; i < words.length; i++) {
+                String word = words[i];
+                weights[i] = weightByWord.get(word);
+                wordIndex.put(word, i);
+                String prefix = word.length() > PREFIX_LENGTH ? word.substring(0, PREFIX_LENGTH) : word;
+                for (String variant : deletesOf(prefix, MAX_DISTANCE)) {
+                    collected.computeIfAbsent(variant, v -> new ArrayList<>(1)).add(i);
+                }
+            }
+            Map<String, int[]> deletes = new HashMap<>(collected.size() * 4 / 3 + 1);
+            collected.forEach((variant, ids) -> deletes.put(variant, ids.stream().mapToInt(Integer::intValue).toArray()));
+            return new SpellingCorrector(words, weights, wordIndex, deletes);
+        }
+    }
+}
@@ -0,0 +1,255 @@
+package com.ecommerce.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable prefix index for typeahead.
+ * Every node stores the ids of the k heaviest suggestions below it, so a lookup is a walk down
+ * the prefix plus a copy of at most k entries, independent of how many suggestions share the prefix.
+ * Nodes live in flat arrays with siblings contiguous and sorted, found by binary search.
+ * Multi-word suggestions are also reachable from each later word, so "lap" finds "Gaming Laptop".
+ */
+public final class SuggestionTrie {
+
+    public static final SuggestionTrie EMPTY = builder(1).build();
+
+    private static final int MAX_WORD_ENTRY_POINTS = 4;
+
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] childCount;
+    private final int[][] topK;
+    private final String[] texts;
+    private final String[] categories;
+    private final long[] weights;
+
+    private SuggestionTrie(char[] labels, int[] firstChild, int[] childCount, int[][] topK,
+                           String[] texts, String[] categories, long[] weights) {
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.childCount = childCount;
+        this.topK = topK;
+        this.texts = texts;
+        this.categories = categories;
+        this.weights = weights;
+    }
+
+    public static Builder builder(int k) {
+        return new Builder(k);
+    }
+
+    /**
+     * The heaviest suggestions starting with the prefix, at most the k the trie was built with
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        int node = 0;
+        for (int i = 0; i < key.length(); i++) {
+            node = child(node, key.charAt(i));
+            if (node < 0) {
+                return Collections.emptyList();
+            }
+        }
+        int[] best = topK[node];
+        int count = Math.min(limit, best.length);
+        List<Suggestion> suggestions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int entry = best[i];
+            suggestions.add(new Suggestion(texts[entry], categories[entry], weights[entry]));
+        }
+        return suggestions;
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    public int nodeCount() {
+        return labels.length;
+    }
+
+    private int child(int node, char c) {
+        int low = firstChild[node];
+        int high = low + childCount[node] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (labels[mid] < c) {
+                low = mid + 1;
+            } else if (labels[mid] > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Lowercase, accents folded and whitespace collapsed, so typed prefixes match regardless of case
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT)
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    public static final class Suggestion {
+        private final String text;
+        private final String category;
+        private final long weight;
+
+        Suggestion(String text, String category, long weight) {
+            this.text = text;
+            this.category = category;
+            this.weight = weight;
+        }
+
+        public String getText() { return text; }
+        public String getCategory() { return category; }
+        public long getWeight() { return weight; }
+    }
+
+    /**
+     * Collects weighted suggestions; the same text added twice accumulates its weight
+     */
+    public static final class Builder {
+        private final int k;
+        private final Map<String, Integer> entryByKey = new HashMap<>();
+        private final List<String> texts = new ArrayList<>();
+        private final List<String> categories = new ArrayList<>();
+        private final List<Long> weights = new ArrayList<>();
+
+        private Builder(int k) {
+            this.k = k;
+        }
+
+        public Builder add(String text, String category, long weight) {
+            String key = normalize(text);
+            if (key.isEmpty() || weight <= 0) {
+                return this;
+            }
+            Integer entry = entryByKey.get(key);
+            if (entry == null) {
+                entryByKey.put(key, texts.size());
+                texts.add(text.trim());
+                categories.add(category);
+                weights.add(weight);
+            } else {
+                weights.set(entry, weights.get(entry) + weight);
+                if (categories.get(entry) == null) {
+                    categories.set(entry, category);
+                }
+            }
+            return this;
+        }
+
+        public SuggestionTrie build() {
+            MutableNode root = new MutableNode();
+            for (Map.Entry<String, Integer> entry : entryByKey.entrySet()) {
+                String key = entry.getKey();
+                insert(root, key, entry.getValue());
+                int entryPoints = 1;
+                for (int i = key.indexOf(' '); i >= 0 && entryPoints < MAX_WORD_ENTRY_POINTS; i = key.indexOf(' ', i + 1)) {
+                    insert(root, key.substring(i + 1), entry.getValue());
+                    entryPoints++;
+                }
+            }
+            long[] weightArray = weights.stream().mapToLong(Long::longValue).toArray();
+            computeTopK(root, weightArray);
+            return freeze(root, weightArray);
+        }
+
+        private static void insert(MutableNode root, String key, int entry) {
+            MutableNode node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new MutableNode());
+            }
+            node.entries.add(entry);
+        }
+
+        // Post-order merge of the children's top-k lists; an entry reachable along two paths counts once
+        private void computeTopK(MutableNode root, long[] weightArray) {
+            Deque<MutableNode> stack = new ArrayDeque<>();
+            List<MutableNode> postOrder = new ArrayList<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                MutableNode node = stack.pop();
+                postOrder.add(node);
+                node.children.values().forEach(stack::push);
+            }
+            Collections.reverse(postOrder);
+            for (MutableNode node : postOrder) {
+                List<Integer> candidates = new ArrayList<>(node.entries);
+                for (MutableNode child : node.children.values()) {
+                    for (int entry : child.topK) {
+                        candidates.add(entry);
+                    }
+                }
+                node.topK = candidates.stream()
+                        .distinct()
+                        .sorted((a, b) -> weightArray[a] != weightArray[b]
+                                ? Long.compare(weightArray[b], weightArray[a])
+                                : texts.get(a).compareToIgnoreCase(texts.get(b)))
+                        .limit(k)
+                        .mapToInt(Integer::intValue)
+                        .toArray();
+            }
+        }
+
+        // Breadth-first numbering keeps every node's children in one contiguous, sorted run
+        private SuggestionTrie freeze(MutableNode root, long[] weightArray) {
+            List<MutableNode> order = new ArrayList<>();
+            List<Character> labelList = new ArrayList<>();
+            order.add(root);
+            labelList.add('\0');
+            int[] first = new int[16];
+            int[] count = new int[16];
+            for (int index = 0; index < order.size(); index++) {
+                MutableNode node = order.get(index);
+                if (index >= first.length) {
+                    first = Arrays.copyOf(first, first.length * 2);
+                    count = Arrays.copyOf(count, count.length * 2);
+                }
+                first[index] = order.size();
+                count[index] = node.children.size();
+                for (Map.Entry<Character, MutableNode> child : node.children.entrySet()) {
+                    order.add(child.getValue());
+                    labelList.add(child.getKey());
+                }
+            }
+            int size = order.size();
+            char[] labelArray = new char[size];
+            int[][] topKArray = new int[size][];
+            for (int i = 0; i < size; i++) {
+                labelArray[i] = labelList.get(i);
+                topKArray[i] = order.get(i).topK;
+            }
+            return new SuggestionTrie(labelArray, Arrays.copyOf(first, size), Arrays.copyOf(count, size), topKArray,
+                    texts.toArray(new String[0]), categories.toArray(new String[0]), weightArray);
+        }
+    }
+
+    private static final class MutableNode {
+        private final TreeMap<Character, MutableNode> children = new TreeMap<>();
+        private final List<Integer> entries = new ArrayList<>(1);
+        private int[] topK;
+    }
+}
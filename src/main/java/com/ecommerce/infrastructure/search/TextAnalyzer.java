@@ -0,0 +1,65 @@
+package com.ecommerce.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Turns product text and queries into index terms: lowercase, accents folded, split on anything
+ * that is not a letter or digit, stopwords dropped and plurals reduced with a light S-stemmer.
+ * Indexing and querying must go through the same analyzer so their terms line up.
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOPWORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "into",
+        "is", "it", "of", "on", "or", "the", "to", "with");
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        String folded = Normalizer.normalize(text, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}+", "")
+                .toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= folded.length(); i++) {
+            boolean wordChar = i < folded.length() && Character.isLetterOrDigit(folded.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = folded.substring(start, i);
+                if (!STOPWORDS.contains(token)) {
+                    terms.add(stem(token));
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    // Harman's S-stemmer: only plural endings ("batteries" -> "battery", "cables" -> "cable"), so brand names
+    // are not over-stemmed; "-sses" plurals are left short of the singular ("glasses" -> "glasse")
+    static String stem(String token) {
+        int length = token.length();
+        if (length <= 3 || !Character.isLetter(token.charAt(length - 1))) {
+            return token;
+        }
+        if (token.endsWith("ies") && !token.endsWith("eies") && !token.endsWith("aies")) {
+            return token.substring(0, length - 3) + "y";
+        }
+        if (token.endsWith("es") && !token.endsWith("aes") && !token.endsWith("ees") && !token.endsWith("oes")) {
+            return token.substring(0, length - 1);
+        }
+        if (token.endsWith("s") && !token.endsWith("us") && !token.endsWith("ss")) {
+            return token.substring(0, length - 1);
+        }
+        return token;
+    }
+}
@@ -0,0 +1,80 @@
+package com.ecommerce.infrastructure.service;
+
+import com.ecommerce.core.domain.product.entity.Product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Collapses a window of product change notifications to one search index write per product,
+ * however often each product changed meanwhile. The write is decided by the product's current
+ * state rather than by the notifications: an active product is upserted, an inactive or deleted
+ * one is removed, so notifications arriving out of order can never leave an older copy indexed.
+ *
+ * @param <C> the notification type, e.g. a search outbox row
+ */
+public final class ProductChangeCoalescer<C> {
+
+    private final Map<Long, List<C>> changesByProduct;
+
+    private ProductChangeCoalescer(Map<Long, List<C>> changesByProduct) {
+        this.changesByProduct = changesByProduct;
+    }
+
+    public static <C> ProductChangeCoalescer<C> of(Collection<C> changes, Function<C, Long> productIdOf) {
+        Map<Long, List<C>> changesByProduct = new LinkedHashMap<>();
+        for (C change : changes) {
+            changesByProduct.computeIfAbsent(productIdOf.apply(change), id -> new ArrayList<>()).add(change);
+        }
+        return new ProductChangeCoalescer<>(changesByProduct);
+    }
+
+    /**
+     * Every changed product once, in first-seen order
+     */
+    public Set<Long> getProductIds() {
+        return Collections.unmodifiableSet(changesByProduct.keySet());
+    }
+
+    /**
+     * The notifications that were collapsed into the given product's write
+     */
+    public List<C> changesOf(Long productId) {
+        return changesByProduct.getOrDefault(productId, List.of());
+    }
+
+    /**
+     * One write per changed product, given the current rows of those products
+     */
+    public Writes writesFor(Collection<Product> current) {
+        List<Product> upserts = new ArrayList<>();
+        Set<Long> removals = new LinkedHashSet<>(changesByProduct.keySet());
+        for (Product product : current) {
+            if (changesByProduct.containsKey(product.getId()) && product.isActive()) {
+                upserts.add(product);
+                removals.remove(product.getId());
+            }
+        }
+        return new Writes(upserts, removals);
+    }
+
+    public static final class Writes {
+        private final List<Product> upserts;
+        private final Set<Long> removals;
+
+        private Writes(List<Product> upserts, Set<Long> removals) {
+            this.upserts = upserts;
+            this.removals = removals;
+        }
+
+        public List<Product> getUpserts() { return upserts; }
+        public Set<Long> getRemovals() { return removals; }
+    }
+}
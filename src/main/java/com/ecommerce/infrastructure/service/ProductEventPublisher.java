@@ -7,6 +7,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Service for publishing product-related events
  */
@@ -56,4 +58,20 @@ public class ProductEventPublisher {
         log.debug("Publishing product status changed event for product ID: {}", product.getId());
         eventPublisher.publishEvent(new ProductStatusChangedEvent(product, previousStatus, newStatus));
     }
+
+    /**
+     * Publish the SKUs of one imported chunk; must be called inside the transaction that wrote them
+     */
+    public void publishProductsImported(List<String> skus) {
+        log.debug("Publishing products imported event for {} products", skus.size());
+        eventPublisher.publishEvent(new ProductsImportedEvent(skus));
+    }
+
+    /**
+     * Publish a single event for a whole bulk import
+     */
+    public void publishProductsBulkImported(long upsertedCount) {
+        log.debug("Publishing bulk import event for {} products", upsertedCount);
+        eventPublisher.publishEvent(new ProductsBulkImportedEvent(upsertedCount));
+    }
 }
@@ -0,0 +1,317 @@
+package com.ecommerce.infrastructure.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Parses and validates single lines of a product import file.
+ * Stateless once constructed, so lines of a chunk can be validated in parallel.
+ */
+public class ProductImportParser {
+
+    public enum Format { CSV, JSONL }
+
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private final String[] header;
+
+    private ProductImportParser(Format format, ObjectMapper objectMapper, String[] header) {
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.header = header;
+    }
+
+    public static ProductImportParser jsonl(ObjectMapper objectMapper) {
+        return new ProductImportParser(Format.JSONL, objectMapper, null);
+    }
+
+    /**
+     * Column names are matched case-insensitively and without underscores, so "base_price" and "price" both work
+     */
+    public static ProductImportParser csv(String headerLine) {
+        List<String> columns = splitCsv(headerLine);
+        String[] header = new String[columns.size()];
+        for (int i = 0; i < header.length; i++) {
+            header[i] = normalize(columns.get(i));
+        }
+        return new ProductImportParser(Format.CSV, null, header);
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * Parses one line; never throws, invalid input is reported through {@link Result#getError()}
+     */
+    public Result parse(long lineNumber, String line) {
+        try {
+            Map<String, String> fields = format == Format.CSV ? csvFields(line) : jsonFields(line);
+            return Result.ok(lineNumber, toRow(fields));
+        } catch (IllegalArgumentException e) {
+            return Result.error(lineNumber, e.getMessage());
+        } catch (Exception e) {
+            return Result.error(lineNumber, "Malformed " + format + " line");
+        }
+    }
+
+    private Map<String, String> csvFields(String line) {
+        List<String> values = splitCsv(line);
+        if (values.size() != header.length) {
+            throw new IllegalArgumentException("Expected " + header.length + " columns but found " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < header.length; i++) {
+            fields.put(header[i], values.get(i));
+        }
+        return fields;
+    }
+
+    private Map<String, String> jsonFields(String line) throws Exception {
+        JsonNode node = objectMapper.readTree(line);
+        if (node == null || !node.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        Map<String, String> fields = new HashMap<>();
+        node.properties().forEach(entry -> {
+            if (!entry.getValue().isNull()) {
+                fields.put(normalize(entry.getKey()), entry.getValue().asText());
+            }
+        });
+        return fields;
+    }
+
+    // Same limits as the Product entity, so an import accepts exactly what the API would
+    private static Row toRow(Map<String, String> fields) {
+        String sku = required(fields, "sku", 50);
+        if (!sku.matches("^[A-Z0-9-_]+$")) {
+            throw new IllegalArgumentException("sku can only contain uppercase letters, numbers, hyphens, and underscores");
+        }
+        String name = required(fields, "name", 255);
+        String description = required(fields, "description", 1000);
+        String slug = optional(fields, "slug");
+        if (slug == null) {
+            slug = slugify(name) + "-" + slugify(sku);
+        } else if (slug.length() > 255) {
+            throw new IllegalArgumentException("slug must be at most 255 characters");
+        }
+
+        BigDecimal price = decimal(first(fields, "price", "baseprice"));
+        if (price == null) {
+            throw new IllegalArgumentException("price is required");
+        }
+        if (price.signum() < 0 || price.scale() > 2) {
+            throw new IllegalArgumentException("price must be non-negative with at most two decimals");
+        }
+
+        String currency = optional(fields, "currency");
+        currency = currency == null ? "USD" : currency.toUpperCase(Locale.ROOT);
+        if (!currency.matches("[A-Z]{3}")) {
+            throw new IllegalArgumentException("currency must be a three letter ISO code");
+        }
+
+        Integer stock = integer(first(fields, "stockquantity", "stock"), "stockQuantity");
+        if (stock != null && stock < 0) {
+            throw new IllegalArgumentException("stockQuantity must not be negative");
+        }
+
+        String brand = optional(fields, "brand");
+        if (brand != null && brand.length() > 100) {
+            throw new IllegalArgumentException("brand must be at most 100 characters");
+        }
+
+        String categoryId = optional(fields, "categoryid");
+        return new Row(sku, name, slug, description, price, currency,
+                categoryId == null ? null : parseLong(categoryId, "categoryId"), brand,
+                stock == null ? 0 : stock,
+                bool(optional(fields, "active"), true),
+                bool(optional(fields, "featured"), false));
+    }
+
+    private static String required(Map<String, String> fields, String key, int maxLength) {
+        String value = optional(fields, key);
+        if (value == null) {
+            throw new IllegalArgumentException(key + " is required");
+        }
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(key + " must be at most " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    private static String optional(Map<String, String> fields, String key) {
+        String value = fields.get(key);
+        if (value == null) {
+            return null;
+        }
+        value = value.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String first(Map<String, String> fields, String key, String alias) {
+        String value = optional(fields, key);
+        return value != null ? value : optional(fields, alias);
+    }
+
+    private static BigDecimal decimal(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("price is not a number: " + value);
+        }
+    }
+
+    private static Integer integer(String value, String field) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " is not an integer: " + value);
+        }
+    }
+
+    private static Long parseLong(String value, String field) {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " is not an integer: " + value);
+        }
+    }
+
+    private static boolean bool(String value, boolean defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        switch (value.toLowerCase(Locale.ROOT)) {
+            case "true": case "1": case "yes": return true;
+            case "false": case "0": case "no": return false;
+            default: throw new IllegalArgumentException("Not a boolean: " + value);
+        }
+    }
+
+    private static String normalize(String column) {
+        return column.trim().replace("_", "").replace("-", "").toLowerCase(Locale.ROOT);
+    }
+
+    private static String slugify(String value) {
+        return value.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+    }
+
+    /**
+     * Splits one RFC 4180 record; quoted fields may contain commas and doubled quotes but not line breaks
+     */
+    static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * A validated import row, ready to be bound to the upsert statement
+     */
+    public static final class Row {
+        private final String sku;
+        private final String name;
+        private final String slug;
+        private final String description;
+        private final BigDecimal price;
+        private final String currency;
+        private final Long categoryId;
+        private final String brand;
+        private final int stockQuantity;
+        private final boolean active;
+        private final boolean featured;
+
+        Row(String sku, String name, String slug, String description, BigDecimal price, String currency,
+            Long categoryId, String brand, int stockQuantity, boolean active, boolean featured) {
+            this.sku = sku;
+            this.name = name;
+            this.slug = slug;
+            this.description = description;
+            this.price = price;
+            this.currency = currency;
+            this.categoryId = categoryId;
+            this.brand = brand;
+            this.stockQuantity = stockQuantity;
+            this.active = active;
+            this.featured = featured;
+        }
+
+        public String getSku() { return sku; }
+        public String getName() { return name; }
+        public String getSlug() { return slug; }
+        public String getDescription() { return description; }
+        public BigDecimal getPrice() { return price; }
+        public String getCurrency() { return currency; }
+        public Long getCategoryId() { return categoryId; }
+        public String getBrand() { return brand; }
+        public int getStockQuantity() { return stockQuantity; }
+        public boolean isActive() { return active; }
+        public boolean isFeatured() { return featured; }
+    }
+
+    /**
+     * Outcome of parsing one line: either a row or an error message
+     */
+    public static final class Result {
+        private final long lineNumber;
+        private final Row row;
+        private final String error;
+
+        private Result(long lineNumber, Row row, String error) {
+            this.lineNumber = lineNumber;
+            this.row = row;
+            this.error = error;
+        }
+
+        static Result ok(long lineNumber, Row row) {
+            return new Result(lineNumber, row, null);
+        }
+
+        static Result error(long lineNumber, String error) {
+            return new Result(lineNumber, null, error);
+        }
+
+        public long getLineNumber() { return lineNumber; }
+        public Row getRow() { return row; }
+        public String getError() { return error; }
+        public boolean isValid() { return row != null; }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ecommerce.infrastructure.service;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Summary of a bulk product import. Only the first errors are kept so a bad file cannot exhaust memory.
+ */
+@Getter
+public class ProductImportResult {
+
+    static final int MAX_REPORTED_ERRORS = 100;
+
+    private long linesRead;
+    private long upserted;
+    private long rejected;
+    private long durationMillis;
+    private final List<String> errors = new ArrayList<>();
+
+    void lineRead() {
+        linesRead++;
+    }
+
+    void upserted(long count) {
+        upserted += count;
+    }
+
+    void rejected(long lineNumber, String error) {
+        rejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add("line " + lineNumber + ": " + error);
+        }
+    }
+
+    void finished(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public List<String> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+}
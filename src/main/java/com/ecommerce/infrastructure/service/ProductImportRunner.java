@@ -0,0 +1,38 @@
+package com.ecommerce.infrastructure.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Imports a product file on startup, e.g. {@code --app.import.file=/data/vendor.csv}.
+ * Only active when the property is set.
+ */
+@Component
+@ConditionalOnProperty(name = "app.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class ProductImportRunner implements CommandLineRunner {
+
+    private final ProductImportService productImportService;
+
+    @Value("${app.import.file}")
+    private String file;
+
+    @Override
+    public void run(String... args) throws Exception {
+        Path path = Path.of(file);
+        log.info("Importing products from {}", path);
+        try (InputStream input = Files.newInputStream(path)) {
+            ProductImportResult result = productImportService.importProducts(input, path.getFileName().toString(), null);
+            result.getErrors().forEach(error -> log.warn("Import error: {}", error));
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.ecommerce.infrastructure.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Streams a CSV or JSONL product file into the catalog.
+ * The file is read one chunk at a time, each chunk is validated in parallel and written as a single
+ * JDBC batch of upserts keyed on SKU, so memory stays bounded by the chunk size whatever the file size.
+ * When the database rejects a batch (a duplicate slug, an unknown category), its rows are retried one
+ * at a time so only the offending lines are reported and the rest of the chunk still lands.
+ * Each chunk publishes a {@link com.ecommerce.infrastructure.event.ProductsImportedEvent} inside its own
+ * transaction, and one {@link com.ecommerce.infrastructure.event.ProductsBulkImportedEvent} follows for the whole file.
+ */
+@Service
+@Slf4j
+public class ProductImportService {
+
+    // Keyed on the unique SKU so re-importing a vendor file updates rows instead of failing
+    private static final String UPSERT_SQL =
+        "INSERT INTO products (sku, name, slug, description, base_price, currency, category_id, brand, " +
+        "stock_quantity, is_active, is_featured, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+        "ON CONFLICT (sku) DO UPDATE SET name = EXCLUDED.name, slug = EXCLUDED.slug, " +
+        "description = EXCLUDED.description, base_price = EXCLUDED.base_price, currency = EXCLUDED.currency, " +
+        "category_id = EXCLUDED.category_id, brand = EXCLUDED.brand, stock_quantity = EXCLUDED.stock_quantity, " +
+        "is_active = EXCLUDED.is_active, is_featured = EXCLUDED.is_featured, updated_at = EXCLUDED.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductEventPublisher productEventPublisher;
+    private final int batchSize;
+
+    public ProductImportService(JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                ProductEventPublisher productEventPublisher,
+                                @Value("${app.import.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.productEventPublisher = productEventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Imports every line of the stream; the format is taken from the file name unless given explicitly
+     */
+    public ProductImportResult importProducts(InputStream input, String fileName, ProductImportParser.Format format)
+            throws IOException {
+        ProductImportParser.Format resolved = format != null ? format : formatOf(fileName);
+        ProductImportResult result = new ProductImportResult();
+        long started = System.currentTimeMillis();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            ProductImportParser parser;
+            if (resolved == ProductImportParser.Format.CSV) {
+                String header = reader.readLine();
+                lineNumber++;
+                if (header == null) {
+                    result.finished(System.currentTimeMillis() - started);
+                    return result;
+                }
+                parser = ProductImportParser.csv(stripBom(header));
+            } else {
+                parser = ProductImportParser.jsonl(objectMapper);
+            }
+
+            List<String> lines = new ArrayList<>(batchSize);
+            List<Long> lineNumbers = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                result.lineRead();
+                lines.add(line);
+                lineNumbers.add(lineNumber);
+                if (lines.size() == batchSize) {
+                    importChunk(parser, lines, lineNumbers, result);
+                    lines.clear();
+                    lineNumbers.clear();
+                }
+            }
+            if (!lines.isEmpty()) {
+                importChunk(parser, lines, lineNumbers, result);
+            }
+        }
+
+        result.finished(System.currentTimeMillis() - started);
+        log.info("Product import finished: {} lines read, {} upserted, {} rejected in {} ms",
+                result.getLinesRead(), result.getUpserted(), result.getRejected(), result.getDurationMillis());
+        if (result.getUpserted() > 0) {
+            productEventPublisher.publishProductsBulkImported(result.getUpserted());
+        }
+        return result;
+    }
+
+    private void importChunk(ProductImportParser parser, List<String> lines, List<Long> lineNumbers,
+                             ProductImportResult result) {
+        List<ProductImportParser.Result> parsed = IntStream.range(0, lines.size()).parallel()
+                .mapToObj(i -> parser.parse(lineNumbers.get(i), lines.get(i)))
+                .collect(Collectors.toList());
+
+        // Later lines win when a SKU repeats, matching what row-by-row upserts would have produced
+        Map<String, ProductImportParser.Result> rows = new LinkedHashMap<>();
+        for (ProductImportParser.Result parsedLine : parsed) {
+            if (parsedLine.isValid()) {
+                rows.remove(parsedLine.getRow().getSku());
+                rows.put(parsedLine.getRow().getSku(), parsedLine);
+            } else {
+                result.rejected(parsedLine.getLineNumber(), parsedLine.getError());
+            }
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<ProductImportParser.Row> batch = rows.values().stream()
+                .map(ProductImportParser.Result::getRow)
+                .collect(Collectors.toList());
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(batch));
+            result.upserted(batch.size());
+        } catch (DataAccessException e) {
+            log.debug("Import batch at lines {}-{} rejected, retrying row by row: {}",
+                    lineNumbers.get(0), lineNumbers.get(lineNumbers.size() - 1), e.getMostSpecificCause().getMessage());
+            for (ProductImportParser.Result row : rows.values()) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> write(List.of(row.getRow())));
+                    result.upserted(1);
+                } catch (DataAccessException rowError) {
+                    result.rejected(row.getLineNumber(), rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    // The event lets the search outbox record the chunk in this same transaction
+    private void write(List<ProductImportParser.Row> batch) {
+        upsert(batch);
+        productEventPublisher.publishProductsImported(batch.stream()
+                .map(ProductImportParser.Row::getSku)
+                .collect(Collectors.toList()));
+    }
+
+    private void upsert(List<ProductImportParser.Row> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batch.size(), (PreparedStatement ps, ProductImportParser.Row row) -> {
+            ps.setString(1, row.getSku());
+            ps.setString(2, row.getName());
+            ps.setString(3, row.getSlug());
+            ps.setString(4, row.getDescription());
+            ps.setBigDecimal(5, row.getPrice());
+            ps.setString(6, row.getCurrency());
+            setNullableLong(ps, 7, row.getCategoryId());
+            ps.setString(8, row.getBrand());
+            ps.setInt(9, row.getStockQuantity());
+            ps.setBoolean(10, row.isActive());
+            ps.setBoolean(11, row.isFeatured());
+            ps.setTimestamp(12, now);
+            ps.setTimestamp(13, now);
+        });
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    static ProductImportParser.Format formatOf(String fileName) {
+        if (fileName != null && fileName.toLowerCase().endsWith(".csv")) {
+            return ProductImportParser.Format.CSV;
+        }
+        return ProductImportParser.Format.JSONL;
+    }
+
+    private static String stripBom(String header) {
+        return header.startsWith("\uFEFF") ? header.substring(1) : header;
+    }
+}
@@ -5,41 +5,98 @@ import com.ecommerce.adapter.persistence.elasticsearch.mapper.ProductDocumentMap
 import com.ecommerce.core.domain.product.entity.Product;
 import com.ecommerce.core.domain.product.repository.ProductRepository;
 import com.ecommerce.core.usecase.product.ProductSearchService;
-import lombok.RequiredArgsConstructor;
+import com.ecommerce.infrastructure.external.search.BulkIndexResult;
+import com.ecommerce.infrastructure.external.search.ElasticsearchBulkIndexer;
+import com.ecommerce.infrastructure.external.search.ProductIndexManager;
+import com.ecommerce.shared.exception.BusinessException;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
 @ConditionalOnProperty(name = "spring.elasticsearch.enabled", havingValue = "true", matchIfMissing = false)
-@RequiredArgsConstructor
 @Slf4j
 public class ProductSyncService {
 
     private final ProductSearchService productSearchService;
     private final ProductDocumentMapper productDocumentMapper;
     private final ProductRepository productRepository;
+    private final ElasticsearchBulkIndexer bulkIndexer;
+    private final Executor syncExecutor;
+    private final int syncBatchSize;
+    private final ProductIndexManager indexManager;
+    private final AtomicReference<SyncProgress> currentSync = new AtomicReference<>();
+    // Ids of products written or removed while a blue/green rebuild runs; null otherwise
+    private volatile Set<String> changedDuringRebuild;
+
+    public ProductSyncService(ProductSearchService productSearchService,
+                              ProductDocumentMapper productDocumentMapper,
+                              ProductRepository productRepository,
+                              ElasticsearchBulkIndexer bulkIndexer,
+                              ProductIndexManager indexManager,
+                              @Qualifier("elasticsearchSyncExecutor") Executor syncExecutor,
+                              @Value("${app.elasticsearch.sync.batch-size:500}") int syncBatchSize) {
+        this.productSearchService = productSearchService;
+        this.productDocumentMapper = productDocumentMapper;
+        this.productRepository = productRepository;
+        this.bulkIndexer = bulkIndexer;
+        this.indexManager = indexManager;
+        this.syncExecutor = syncExecutor;
+        this.syncBatchSize = syncBatchSize;
+    }
 
     /**
      * Sync a single product to Elasticsearch
      */
     public void syncProductToElasticsearch(Product product) {
         try {
+            recordChange(String.valueOf(product.getId()));
             ProductDocument document = productDocumentMapper.toDocument(product);
             productSearchService.indexProduct(document);
-            log.info("Successfully synced product {} to Elasticsearch", product.getId());
+            log.debug("Successfully synced product {} to Elasticsearch", product.getId());
         } catch (Exception e) {
             log.error("Failed to sync product {} to Elasticsearch: {}", product.getId(), e.getMessage(), e);
         }
     }
 
+    /**
+     * Sync a batch of products to Elasticsearch in bulk requests
+     */
+    public BulkIndexResult syncProductsToElasticsearch(Collection<Product> products) {
+        try (ElasticsearchBulkIndexer.Session session = bulkIndexer.open(ProductDocument.class)) {
+            for (Product product : products) {
+                recordChange(String.valueOf(product.getId()));
+                addToBulk(session, product);
+            }
+            return session.finish();
+        }
+    }
+
+    /**
+     * Remove a product from the index, propagating failures so the caller can retry
+     */
+    public void deleteProductFromIndex(String productId) {
+        recordChange(productId);
+        productSearchService.deleteProduct(productId);
+    }
+
     /**
      * Sync a product by ID to Elasticsearch
      */
@@ -59,6 +116,7 @@ public class ProductSyncService {
      */
     public void removeProductFromElasticsearch(String productId) {
         try {
+            recordChange(productId);
             productSearchService.deleteProduct(productId);
             log.info("Successfully removed product {} from Elasticsearch", productId);
         } catch (Exception e) {
@@ -70,107 +128,223 @@ public class ProductSyncService {
      * Sync all products from database to Elasticsearch
      * This method should be called during application startup or manually for full reindex
      */
-    @Transactional(readOnly = true)
-    public void syncAllProductsToElasticsearch() {
-        try {
-            log.info("Starting full sync of products to Elasticsearch");
-
-            List<Product> allProducts = productRepository.findAll();
-            int totalProducts = allProducts.size();
-            int syncedProducts = 0;
-
-            for (Product product : allProducts) {
-                try {
-                    syncProductToElasticsearch(product);
-                    syncedProducts++;
-
-                    if (syncedProducts % 100 == 0) {
-                        log.info("Synced {}/{} products to Elasticsearch", syncedProducts, totalProducts);
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to sync product {} during bulk sync: {}", product.getId(), e.getMessage());
-                }
-            }
-
-            log.info("Completed full sync of products to Elasticsearch. Synced {}/{} products", syncedProducts, totalProducts);
-        } catch (Exception e) {
-            log.error("Failed to sync all products to Elasticsearch: {}", e.getMessage(), e);
-        }
+    public BulkIndexResult syncAllProductsToElasticsearch() {
+        return sync(SyncProgress.Scope.ALL);
     }
 
     /**
      * Sync only active products to Elasticsearch
      */
-    @Transactional(readOnly = true)
-    public void syncActiveProductsToElasticsearch() {
+    public BulkIndexResult syncActiveProductsToElasticsearch() {
+        return sync(SyncProgress.Scope.ACTIVE);
+    }
+
+    /**
+     * Rebuild the index blue/green: shoppers keep searching the current index until the new one
+     * is complete, then the alias moves over atomically
+     */
+    public BulkIndexResult reindexAllProducts() {
+        return sync(SyncProgress.Scope.REINDEX);
+    }
+
+    /**
+     * Start a sync in the background; its progress is available from {@link #getCurrentSync()}
+     */
+    public SyncProgress startSync(SyncProgress.Scope scope) {
+        SyncProgress progress = begin(scope);
         try {
-            log.info("Starting sync of active products to Elasticsearch");
-
-            Page<Product> activeProductsPage = productRepository.findByActive(true, PageRequest.of(0, 1000));
-            int totalPages = activeProductsPage.getTotalPages();
-            int syncedProducts = 0;
-
-            for (int page = 0; page < totalPages; page++) {
-                Page<Product> products = productRepository.findByActive(true, PageRequest.of(page, 1000));
-
-                for (Product product : products.getContent()) {
-                    try {
-                        syncProductToElasticsearch(product);
-                        syncedProducts++;
-                    } catch (Exception e) {
-                        log.error("Failed to sync active product {} during bulk sync: {}", product.getId(), e.getMessage());
-                    }
-                }
+            syncExecutor.execute(() -> run(progress));
+        } catch (RejectedExecutionException e) {
+            progress.failed(e);
+            throw new BusinessException("Product sync could not be scheduled", e);
+        }
+        return progress;
+    }
 
-                log.info("Synced page {}/{} of active products", page + 1, totalPages);
-            }
+    public Optional<SyncProgress> getCurrentSync() {
+        return Optional.ofNullable(currentSync.get());
+    }
 
-            log.info("Completed sync of active products to Elasticsearch. Synced {} products", syncedProducts);
-        } catch (Exception e) {
-            log.error("Failed to sync active products to Elasticsearch: {}", e.getMessage(), e);
+    private BulkIndexResult sync(SyncProgress.Scope scope) {
+        return run(begin(scope));
+    }
+
+    // One sync of any scope at a time, so a rebuild's progress and change tracking are never shared
+    private SyncProgress begin(SyncProgress.Scope scope) {
+        SyncProgress progress = new SyncProgress(scope);
+        SyncProgress previous = currentSync.get();
+        if ((previous != null && previous.isRunning()) || !currentSync.compareAndSet(previous, progress)) {
+            throw new BusinessException("A product sync is already running");
+        }
+        return progress;
+    }
+
+    private BulkIndexResult run(SyncProgress progress) {
+        log.info("Starting streaming sync of {} products to Elasticsearch", progress.getScope());
+        if (progress.getScope() == SyncProgress.Scope.REINDEX) {
+            return rebuild(progress);
+        }
+        try (ElasticsearchBulkIndexer.Session session = bulkIndexer.open(ProductDocument.class)) {
+            progress.attach(session.getResult());
+            stream(session, progress);
+            return completed(progress, session.finish());
+        } catch (RuntimeException e) {
+            throw failed(progress, e);
         }
     }
 
     /**
-     * Check if Elasticsearch is healthy and reachable
+     * Loads everything into a fresh index while live updates keep going to the current one through the alias.
+     * Products those updates touched are recorded and replayed into the new index before and after the swap;
+     * after the swap the alias routes updates to the new index directly.
      */
-    public boolean isElasticsearchHealthy() {
+    private BulkIndexResult rebuild(SyncProgress progress) {
+        IndexCoordinates target;
         try {
-            // Simple check to see if we can connect to Elasticsearch
-            productSearchService.getAllActiveProducts(PageRequest.of(0, 1));
-            return true;
-        } catch (Exception e) {
-            log.warn("Elasticsearch health check failed: {}", e.getMessage());
-            return false;
+            target = indexManager.createBuildIndex();
+        } catch (RuntimeException e) {
+            throw failed(progress, e);
+        }
+        progress.building(target.getIndexName());
+        changedDuringRebuild = ConcurrentHashMap.newKeySet();
+        boolean swapped = false;
+        try {
+            BulkIndexResult result;
+            try (ElasticsearchBulkIndexer.Session session = bulkIndexer.open(target)) {
+                progress.attach(session.getResult());
+                stream(session, progress);
+                result = session.finish();
+            }
+            // An incomplete index must never replace the complete one behind the alias
+            requireComplete(result, target);
+            indexManager.finishBuild(target);
+            requireComplete(replayChanges(target), target);
+            indexManager.swapAlias(target);
+            swapped = true;
+            // Updates recorded just before the swap reached the old index only
+            BulkIndexResult replayed = replayChanges(target);
+            if (replayed.getFailedCount() > 0) {
+                log.warn("{} product changes failed to replay into {} after the swap: {}",
+                        replayed.getFailedCount(), target.getIndexName(), replayed.getFailures());
+            }
+            return completed(progress, result);
+        } catch (RuntimeException e) {
+            if (!swapped) {
+                indexManager.discard(target);
+            }
+            throw failed(progress, e);
+        } finally {
+            changedDuringRebuild = null;
+        }
+    }
+
+    private BulkIndexResult replayChanges(IndexCoordinates target) {
+        Set<String> changed = changedDuringRebuild;
+        if (changed.isEmpty()) {
+            return new BulkIndexResult();
+        }
+        int replayed = 0;
+        BulkIndexResult result;
+        try (ElasticsearchBulkIndexer.Session session = bulkIndexer.open(target)) {
+            for (Iterator<String> ids = changed.iterator(); ids.hasNext(); replayed++) {
+                String id = ids.next();
+                ids.remove();
+                List<Product> product = productRepository.findAllByIdsUncached(List.of(Long.valueOf(id)));
+                if (!product.isEmpty()) {
+                    addToBulk(session, product.get(0));
+                } else {
+                    indexManager.deleteDocument(id, target);
+                }
+            }
+            result = session.finish();
+        }
+        log.info("Replayed {} product changes into {}", replayed, target.getIndexName());
+        return result;
+    }
+
+    private static void requireComplete(BulkIndexResult result, IndexCoordinates target) {
+        if (result.getFailedCount() > 0) {
+            throw new BusinessException(result.getFailedCount() + " products failed to index into " +
+                    target.getIndexName() + ", keeping the current index: " + result.getFailures());
         }
     }
 
     /**
-     * Clear all products from Elasticsearch index
+     * Streams the table in keyset batches. There is deliberately no surrounding transaction: each batch
+     * is read in its own, so neither the persistence context nor this loop holds more than one batch,
+     * and heap use stays flat however large the catalog is.
      */
-    public void clearElasticsearchIndex() {
+    private void stream(ElasticsearchBulkIndexer.Session session, SyncProgress progress) {
+        if (progress.getScope() == SyncProgress.Scope.ACTIVE) {
+            Cursor cursor = null;
+            CursorPage<Product> page;
+            do {
+                page = productRepository.findActiveAfter(cursor, syncBatchSize);
+                addBatch(session, progress, page.getContent());
+                cursor = page.isHasNext() ? Cursor.decode(page.getNextCursor()) : null;
+            } while (cursor != null);
+        } else {
+            Long afterId = null;
+            List<Product> batch;
+            do {
+                batch = productRepository.findBatchAfterId(afterId, syncBatchSize);
+                addBatch(session, progress, batch);
+                afterId = progress.getLastProductId();
+            } while (batch.size() == syncBatchSize);
+        }
+    }
+
+    private BulkIndexResult completed(SyncProgress progress, BulkIndexResult result) {
+        progress.completed();
+        log.info("Completed streaming sync of {} products ({} scanned): {}",
+                progress.getScope(), progress.getScanned().get(), result);
+        return result;
+    }
+
+    private RuntimeException failed(SyncProgress progress, RuntimeException e) {
+        progress.failed(e);
+        log.error("Streaming sync of {} products failed after {} scanned: {}",
+                progress.getScope(), progress.getScanned().get(), e.getMessage(), e);
+        return e;
+    }
+
+    private void addBatch(ElasticsearchBulkIndexer.Session session, SyncProgress progress, List<Product> batch) {
+        batch.forEach(product -> addToBulk(session, product));
+        if (!batch.isEmpty()) {
+            progress.scannedBatch(batch.size(), batch.get(batch.size() - 1).getId());
+        }
+    }
+
+    private void addToBulk(ElasticsearchBulkIndexer.Session session, Product product) {
+        ProductDocument document;
         try {
-            log.info("Clearing all products from Elasticsearch index");
-            // Note: This will delete all documents in the products index
-            // Implementation depends on your specific needs
-            log.info("Elasticsearch index cleared successfully");
-        } catch (Exception e) {
-            log.error("Failed to clear Elasticsearch index: {}", e.getMessage(), e);
+            document = productDocumentMapper.toDocument(product);
+        } catch (RuntimeException e) {
+            log.error("Failed to map product {} for bulk sync: {}", product.getId(), e.getMessage());
+            return;
+        }
+        session.add(document.getId(), document);
+    }
+
+    // Recorded before the write, so a change either reaches the alias after the swap or is replayed
+    private void recordChange(String productId) {
+        Set<String> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(productId);
         }
     }
 
     /**
-     * Reindex all products (clear and sync all)
+     * Check if Elasticsearch is healthy and reachable
      */
-    @Transactional(readOnly = true)
-    public void reindexAllProducts() {
+    public boolean isElasticsearchHealthy() {
         try {
-            log.info("Starting full reindex of products");
-            clearElasticsearchIndex();
-            syncAllProductsToElasticsearch();
-            log.info("Full reindex completed successfully");
+            // Simple check to see if we can connect to Elasticsearch
+            productSearchService.countIndexedProducts();
+            return true;
         } catch (Exception e) {
-            log.error("Failed to reindex products: {}", e.getMessage(), e);
+            log.warn("Elasticsearch health check failed: {}", e.getMessage());
+            return false;
         }
     }
 
@@ -0,0 +1,141 @@
+package com.ecommerce.infrastructure.service;
+
+import com.ecommerce.adapter.persistence.cache.CatalogVersion;
+import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.core.domain.product.repository.ProductRepository;
+import com.ecommerce.infrastructure.event.SearchOutbox;
+import com.ecommerce.infrastructure.external.search.BulkIndexResult;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Drains the search outbox into Elasticsearch.
+ * Each batch is collapsed by {@link ProductChangeCoalescer} to one write per product, decided by the
+ * product's current row. Applying the current state makes every write idempotent, so rows may be
+ * retried or relayed twice without harm.
+ * Rows leave the outbox only after the index accepted them; failures are retried with backoff.
+ */
+@Service
+@ConditionalOnProperty(name = "spring.elasticsearch.enabled", havingValue = "true", matchIfMissing = false)
+@Slf4j
+public class SearchOutboxRelay {
+
+    private static final int WARN_AFTER_ATTEMPTS = 5;
+
+    private final SearchOutbox outbox;
+    private final ProductRepository productRepository;
+    private final ProductSyncService productSyncService;
+    private final CatalogVersion catalogVersion;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    public SearchOutboxRelay(SearchOutbox outbox,
+                             ProductRepository productRepository,
+                             ProductSyncService productSyncService,
+                             CatalogVersion catalogVersion,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.search.outbox.batch-size:500}") int batchSize,
+                             @Value("${app.search.outbox.initial-backoff:PT1S}") Duration initialBackoff,
+                             @Value("${app.search.outbox.max-backoff:PT5M}") Duration maxBackoff) {
+        this.outbox = outbox;
+        this.productRepository = productRepository;
+        this.productSyncService = productSyncService;
+        this.catalogVersion = catalogVersion;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+
+    /**
+     * Relay due rows until the backlog is smaller than one batch
+     */
+    @Scheduled(fixedDelayString = "${app.search.outbox.poll-interval:PT1S}",
+               initialDelayString = "${app.search.outbox.poll-interval:PT1S}")
+    public void drain() {
+        int relayed;
+        do {
+            Integer claimed = transactionTemplate.execute(status -> relayBatch());
+            relayed = claimed == null ? 0 : claimed;
+        } while (relayed == batchSize);
+    }
+
+    /**
+     * Claim, apply and acknowledge one batch; runs inside the claiming transaction
+     */
+    int relayBatch() {
+        List<SearchOutbox.Entry> entries = outbox.claim(batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        ProductChangeCoalescer<SearchOutbox.Entry> changes =
+                ProductChangeCoalescer.of(entries, SearchOutbox.Entry::getProductId);
+        // Read past the per-node product cache: indexing a stale copy and then deleting the row would never be repaired
+        ProductChangeCoalescer.Writes writes =
+                changes.writesFor(productRepository.findAllByIdsUncached(changes.getProductIds()));
+        List<Product> upserts = writes.getUpserts();
+        Set<Long> removals = writes.getRemovals();
+
+        Set<Long> failed = new HashSet<>();
+        String error = null;
+        if (!upserts.isEmpty()) {
+            try {
+                BulkIndexResult result = productSyncService.syncProductsToElasticsearch(upserts);
+                if (result.getFailedCount() > result.getFailures().size()) {
+                    // Not every failed id was reported; retrying the whole batch is safe since writes are idempotent
+                    upserts.forEach(product -> failed.add(product.getId()));
+                } else {
+                    result.getFailures().keySet().forEach(id -> failed.add(Long.valueOf(id)));
+                }
+                if (result.getFailedCount() > 0) {
+                    error = result.getFailures().values().stream().findFirst().orElse("Bulk indexing failed");
+                }
+            } catch (RuntimeException e) {
+                upserts.forEach(product -> failed.add(product.getId()));
+                error = e.getMessage();
+            }
+        }
+        for (Long productId : removals) {
+            try {
+                productSyncService.deleteProductFromIndex(productId.toString());
+            } catch (RuntimeException e) {
+                failed.add(productId);
+                error = e.getMessage();
+            }
+        }
+
+        List<SearchOutbox.Entry> done = new ArrayList<>();
+        List<SearchOutbox.Entry> retry = new ArrayList<>();
+        for (Long productId : changes.getProductIds()) {
+            (failed.contains(productId) ? retry : done).addAll(changes.changesOf(productId));
+        }
+        if (!done.isEmpty()) {
+            outbox.delete(done);
+            catalogVersion.bump();
+        }
+        if (!retry.isEmpty()) {
+            outbox.reschedule(retry, error, initialBackoff, maxBackoff);
+            int attempts = retry.stream().mapToInt(SearchOutbox.Entry::getAttempts).max().orElse(0) + 1;
+            if (attempts >= WARN_AFTER_ATTEMPTS) {
+                log.warn("{} search outbox rows still failing after {} attempts: {}", retry.size(), attempts, error);
+            } else {
+                log.debug("Rescheduled {} search outbox rows: {}", retry.size(), error);
+            }
+        }
+        log.debug("Relayed {} outbox rows as {} upserts and {} removals", entries.size(), upserts.size(), removals.size());
+        return entries.size();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecommerce.infrastructure.service;
+
+import com.ecommerce.infrastructure.external.search.BulkIndexResult;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live state of a streaming product sync, polled through the admin API while the sync runs
+ */
+@Getter
+public class SyncProgress {
+
+    public enum Scope { ALL, ACTIVE, REINDEX }
+
+    public enum State { RUNNING, COMPLETED, FAILED }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Scope scope;
+    private final Instant startedAt = Instant.now();
+    private final AtomicLong scanned = new AtomicLong();
+    private volatile Long lastProductId;
+    private volatile String targetIndex;
+    private volatile BulkIndexResult result;
+    private volatile State state = State.RUNNING;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    SyncProgress(Scope scope) {
+        this.scope = scope;
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    void building(String targetIndex) {
+        this.targetIndex = targetIndex;
+    }
+
+    void attach(BulkIndexResult result) {
+        this.result = result;
+    }
+
+    void scannedBatch(int size, Long lastId) {
+        scanned.addAndGet(size);
+        lastProductId = lastId;
+    }
+
+    void completed() {
+        finishedAt = Instant.now();
+        state = State.COMPLETED;
+    }
+
+    void failed(Throwable cause) {
+        error = cause.getMessage();
+        finishedAt = Instant.now();
+        state = State.FAILED;
+    }
+}
@@ -0,0 +1,84 @@
+package com.ecommerce.shared.pagination;
+
+import com.ecommerce.shared.exception.ValidationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Keyset position for cursor pagination: the sort key and id of the last row returned.
+ * Exposed to clients only as an opaque URL-safe token.
+ */
+public final class Cursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime sortKey;
+    private final Long id;
+
+    private Cursor(LocalDateTime sortKey, Long id) {
+        this.sortKey = Objects.requireNonNull(sortKey, "sortKey");
+        this.id = Objects.requireNonNull(id, "id");
+    }
+
+    public static Cursor of(LocalDateTime sortKey, Long id) {
+        return new Cursor(sortKey, id);
+    }
+
+    /**
+     * Decodes a client token; a missing or blank token means "start from the first row"
+     */
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new ValidationException("Invalid pagination cursor");
+            }
+            return new Cursor(LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ValidationException("Invalid pagination cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = VERSION + SEPARATOR + sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * True when a row with the given key sorts after this cursor in newest-first order
+     */
+    public boolean isFollowedBy(LocalDateTime rowSortKey, Long rowId) {
+        int cmp = rowSortKey.compareTo(sortKey);
+        return cmp < 0 || (cmp == 0 && rowId < id);
+    }
+
+    public LocalDateTime getSortKey() { return sortKey; }
+    public Long getId() { return id; }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        Cursor cursor = (Cursor) obj;
+        return sortKey.equals(cursor.sortKey) && id.equals(cursor.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sortKey, id);
+    }
+
+    @Override
+    public String toString() {
+        return encode();
+    }
+}
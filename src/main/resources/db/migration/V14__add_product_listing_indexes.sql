@@ -0,0 +1,2 @@
+-- Composite index so category listings ordered by id are served by an index range scan
+CREATE INDEX idx_products_category_id_product_id ON products(category_id, product_id);
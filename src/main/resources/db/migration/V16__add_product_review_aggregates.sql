@@ -0,0 +1,24 @@
+-- Precomputed review aggregates, maintained incrementally when reviews are approved or removed
+ALTER TABLE products ADD COLUMN review_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE products ADD COLUMN rating_sum BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE products ADD COLUMN rating_1_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE products ADD COLUMN rating_2_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE products ADD COLUMN rating_3_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE products ADD COLUMN rating_4_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE products ADD COLUMN rating_5_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE products ADD COLUMN average_rating DECIMAL(3,2) NOT NULL DEFAULT 0;
+
+-- One-off backfill from the reviews approved so far
+UPDATE products SET
+    review_count = (SELECT COUNT(*) FROM product_reviews r WHERE r.product_id = products.product_id AND r.is_approved = TRUE),
+    rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM product_reviews r WHERE r.product_id = products.product_id AND r.is_approved = TRUE),
+    rating_1_count = (SELECT COUNT(*) FROM product_reviews r WHERE r.product_id = products.product_id AND r.is_approved = TRUE AND r.rating = 1),
+    rating_2_count = (SELECT COUNT(*) FROM product_reviews r WHERE r.product_id = products.product_id AND r.is_approved = TRUE AND r.rating = 2),
+    rating_3_count = (SELECT COUNT(*) FROM product_reviews r WHERE r.product_id = products.product_id AND r.is_approved = TRUE AND r.rating = 3),
+    rating_4_count = (SELECT COUNT(*) FROM product_reviews r WHERE r.product_id = products.product_id AND r.is_approved = TRUE AND r.rating = 4),
+    rating_5_count = (SELECT COUNT(*) FROM product_reviews r WHERE r.product_id = products.product_id AND r.is_approved = TRUE AND r.rating = 5);
+
+UPDATE products SET average_rating = CAST(rating_sum AS DECIMAL(12,2)) / review_count WHERE review_count > 0;
+
+CREATE INDEX idx_products_average_rating ON products(average_rating, review_count);
+CREATE INDEX idx_product_reviews_product_approved_created_at ON product_reviews(product_id, is_approved, created_at);
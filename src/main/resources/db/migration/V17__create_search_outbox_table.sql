@@ -0,0 +1,13 @@
+-- Transactional outbox for search index synchronization: one row per product change,
+-- written in the same transaction as the change and drained by the search outbox relay
+CREATE TABLE search_outbox (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    product_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_error VARCHAR(1000)
+);
+
+CREATE INDEX idx_search_outbox_next_attempt_id ON search_outbox(next_attempt_at, id);
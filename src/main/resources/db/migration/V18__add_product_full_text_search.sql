@@ -0,0 +1,3 @@
+-- Full-text search over products is PostgreSQL-specific (tsvector, GIN and pg_trgm); see the
+-- postgres/ version of this migration. H2 deployments use the embedded search backend, so this
+-- version only keeps the migration numbering aligned.
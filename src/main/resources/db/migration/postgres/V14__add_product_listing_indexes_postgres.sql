@@ -0,0 +1,3 @@
+-- PostgreSQL version of V14__add_product_listing_indexes.sql
+-- Composite index so category listings ordered by id are served by an index range scan
+CREATE INDEX idx_products_category_id_product_id ON products(category_id, product_id);
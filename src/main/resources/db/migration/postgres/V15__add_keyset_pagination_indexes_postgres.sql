@@ -0,0 +1,11 @@
+-- PostgreSQL version of V15__add_keyset_pagination_indexes.sql
+-- Composite indexes matching the newest-first keyset listings (sort key, then primary key as tie-breaker)
+CREATE INDEX idx_products_active_created_at_product_id ON products(is_active, created_at, product_id);
+CREATE INDEX idx_products_featured_created_at_product_id ON products(is_featured, created_at, product_id);
+CREATE INDEX idx_products_category_created_at_product_id ON products(category_id, created_at, product_id);
+
+CREATE INDEX idx_orders_user_created_at_id ON orders(user_id, created_at, id);
+CREATE INDEX idx_orders_status_created_at_id ON orders(status, created_at, id);
+CREATE INDEX idx_orders_created_at_id ON orders(created_at, id);
+
+CREATE INDEX idx_notifications_user_created_at_id ON notifications(user_id, created_at, id);
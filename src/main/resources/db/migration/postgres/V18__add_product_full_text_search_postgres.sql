@@ -0,0 +1,16 @@
+-- PostgreSQL version of V18__add_product_full_text_search.sql
+-- Weighted search document maintained by PostgreSQL itself, so no write path has to keep it current
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE products ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('english', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(sku, '')), 'A') ||
+    setweight(to_tsvector('english', coalesce(brand, '')), 'B') ||
+    setweight(to_tsvector('english', coalesce(tags, '')), 'C') ||
+    setweight(to_tsvector('english', coalesce(description, '')), 'D')
+) STORED;
+
+CREATE INDEX idx_products_search_vector ON products USING GIN (search_vector);
+
+-- Trigram index for partial and misspelled words in product names
+CREATE INDEX idx_products_name_trgm ON products USING GIN (name gin_trgm_ops);
@@ -0,0 +1,74 @@
+package com.ecommerce.adapter.persistence.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogVersionTest {
+
+    @Test
+    @DisplayName("Should change the ETag on every bump")
+    void shouldBumpGeneration() {
+        // Given
+        MutableClock clock = new MutableClock();
+        CatalogVersion version = new CatalogVersion(clock, Duration.ofMinutes(1));
+        String before = version.current().getETag();
+
+        // When
+        version.bump();
+
+        // Then
+        assertNotEquals(before, version.current().getETag());
+        assertEquals(1, version.current().getGeneration());
+    }
+
+    @Test
+    @DisplayName("Should roll the generation over once it is older than the max age")
+    void shouldExpireUnchangedGeneration() {
+        // Given
+        MutableClock clock = new MutableClock();
+        CatalogVersion version = new CatalogVersion(clock, Duration.ofMinutes(1));
+        String first = version.current().getETag();
+
+        // When
+        clock.advance(Duration.ofSeconds(59));
+        String withinMaxAge = version.current().getETag();
+        clock.advance(Duration.ofSeconds(1));
+        CatalogVersion.Stamp expired = version.current();
+
+        // Then
+        assertEquals(first, withinMaxAge);
+        assertNotEquals(first, expired.getETag());
+        assertSame(expired, version.current());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.ecommerce.adapter.persistence.cache;
+
+import com.ecommerce.core.domain.product.entity.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductCacheTest {
+
+    private ProductCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductCache(2, Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should load on miss and serve subsequent reads from memory")
+    void shouldLoadOnMissAndServeFromMemory() {
+        // When
+        Optional<Product> first = cache.get(1L, this::load);
+        Optional<Product> second = cache.get(1L, this::load);
+
+        // Then
+        assertTrue(first.isPresent());
+        assertTrue(second.isPresent());
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    @DisplayName("Should resolve slug and SKU lookups through the id entry")
+    void shouldResolveSecondaryKeys() {
+        // Given
+        cache.get(1L, this::load);
+
+        // When
+        Optional<Product> bySlug = cache.getBySlug("product-1", slug -> Optional.empty());
+        Optional<Product> bySku = cache.getBySku("SKU-1", sku -> Optional.empty());
+
+        // Then
+        assertEquals(1L, bySlug.orElseThrow().getId());
+        assertEquals(1L, bySku.orElseThrow().getId());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entry when full")
+    void shouldEvictLeastRecentlyUsedEntry() {
+        // Given
+        cache.get(1L, this::load);
+        cache.get(2L, this::load);
+        cache.get(1L, this::load);
+
+        // When
+        cache.get(3L, this::load);
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        cache.get(2L, this::load);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    @DisplayName("Should reload after invalidation")
+    void shouldReloadAfterInvalidation() {
+        // Given
+        cache.get(1L, this::load);
+
+        // When
+        cache.invalidate(1L);
+        cache.get(1L, this::load);
+
+        // Then
+        assertEquals(2, loads.get());
+        assertTrue(cache.getBySlug("product-1", slug -> Optional.empty()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Should not cache a value loaded concurrently with an invalidation")
+    void shouldNotCacheStaleLoad() {
+        // When
+        cache.get(1L, id -> {
+            cache.invalidate(id);
+            return load(id);
+        });
+
+        // Then
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should hand out copies so callers cannot mutate cached state")
+    void shouldReturnDefensiveCopies() {
+        // Given
+        cache.get(1L, this::load);
+
+        // When
+        cache.get(1L, this::load).orElseThrow().setStockQuantity(0);
+
+        // Then
+        assertEquals(10, cache.get(1L, this::load).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("Should load only missing ids with a single batch call")
+    void shouldBatchLoadMisses() {
+        // Given
+        cache.get(1L, this::load);
+        AtomicInteger batches = new AtomicInteger();
+
+        // When
+        Map<Long, Product> result = cache.getAll(List.of(1L, 2L, 2L), missing -> {
+            batches.incrementAndGet();
+            assertIterableEquals(List.of(2L), missing);
+            return missing.stream().map(id -> load(id).orElseThrow()).collect(Collectors.toList());
+        });
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals(1, batches.get());
+        assertEquals(1, cache.hitCount());
+    }
+
+    private Optional<Product> load(Long id) {
+        loads.incrementAndGet();
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setSlug("product-" + id);
+        product.setSku("SKU-" + id);
+        product.setPrice(BigDecimal.valueOf(9.99));
+        product.setStockQuantity(10);
+        return Optional.of(product);
+    }
+}
@@ -0,0 +1,113 @@
+package com.ecommerce.adapter.persistence.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchResultCacheTest {
+
+    private CatalogVersion catalogVersion;
+    private SearchResultCache cache;
+    private AtomicInteger searches;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion(Duration.ofHours(1));
+        cache = new SearchResultCache(catalogVersion, 2, Duration.ofMinutes(1));
+        searches = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should serve a repeated query from cached ids and scores")
+    void shouldServeRepeatedQueryFromMemory() {
+        // Given
+        SearchResultCache.Key key = SearchResultCache.Key.builder("test").text("q", "laptop").build();
+        get(key);
+
+        // When
+        SearchResultCache.Hits hits = get(key);
+
+        // Then
+        assertEquals(1, searches.get());
+        assertEquals(List.of(1L, 2L), hits.getIds());
+        assertEquals(0.5f, hits.getScore(1));
+        assertEquals(42, hits.getTotalHits());
+        assertEquals(0.5, cache.hitRatio());
+    }
+
+    @Test
+    @DisplayName("Should search again once the catalog generation moves on")
+    void shouldInvalidateOnCatalogChange() {
+        // Given
+        SearchResultCache.Key key = SearchResultCache.Key.builder("test").text("q", "laptop").build();
+        get(key);
+
+        // When
+        catalogVersion.bump();
+        get(key);
+
+        // Then
+        assertEquals(2, searches.get());
+        assertEquals(1, cache.evictionCount());
+    }
+
+    @Test
+    @DisplayName("Should share one entry between equivalent requests")
+    void shouldNormalizeKeys() {
+        // Given
+        SearchResultCache.Key first = SearchResultCache.Key.builder("test")
+                .text("q", "  Gaming   MOUSE ")
+                .terms("tags", List.of("wireless", "rgb", "wireless"))
+                .value("min", new BigDecimal("10.00"))
+                .build();
+        SearchResultCache.Key second = SearchResultCache.Key.builder("test")
+                .text("q", "gaming mouse")
+                .terms("tags", List.of("rgb", "wireless"))
+                .value("min", new BigDecimal("10"))
+                .build();
+
+        // Then
+        assertEquals(first, second);
+        assertNotEquals(first, SearchResultCache.Key.builder("other")
+                .text("q", "gaming mouse")
+                .terms("tags", List.of("rgb", "wireless"))
+                .value("min", new BigDecimal("10"))
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should evict the least recently used page beyond the size limit")
+    void shouldEvictLeastRecentlyUsed() {
+        // Given
+        SearchResultCache.Key a = SearchResultCache.Key.builder("test").text("q", "a").build();
+        SearchResultCache.Key b = SearchResultCache.Key.builder("test").text("q", "b").build();
+        SearchResultCache.Key c = SearchResultCache.Key.builder("test").text("q", "c").build();
+        get(a);
+        get(b);
+        get(a);
+
+        // When
+        get(c);
+        get(a);
+        get(b);
+
+        // Then
+        assertEquals(2, cache.size());
+        assertEquals(4, searches.get());
+    }
+
+    private SearchResultCache.Hits get(SearchResultCache.Key key) {
+        return cache.get(key, () -> {
+            searches.incrementAndGet();
+            return SearchResultCache.Hits.of(List.of(1L, 2L), new float[] {1.5f, 0.5f}, 42);
+        }, Function.identity(), Function.identity());
+    }
+}
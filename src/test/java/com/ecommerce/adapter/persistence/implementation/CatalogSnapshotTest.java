@@ -0,0 +1,148 @@
+package com.ecommerce.adapter.persistence.implementation;
+
+import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.shared.pagination.Cursor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogSnapshotTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    @Test
+    @DisplayName("Should answer key and secondary index lookups from the snapshot")
+    void shouldResolveIndexedLookups() {
+        // Given
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(
+                product(1L, 10L, "50.00", true, false, NOW),
+                product(2L, 20L, "15.00", true, true, NOW),
+                product(3L, 10L, "30.00", false, true, NOW)));
+
+        // Then
+        assertEquals(2L, snapshot.bySlug("product-2").orElseThrow().getId());
+        assertEquals(3L, snapshot.bySku("SKU-3").orElseThrow().getId());
+        assertEquals(List.of(1L, 3L), ids(snapshot.byCategory(10L, 0, 10)));
+        assertEquals(List.of(2L, 3L), ids(snapshot.byFlag(CatalogSnapshot.Flag.FEATURED, true, 0, 10)));
+        assertEquals(List.of(3L), ids(snapshot.byFlag(CatalogSnapshot.Flag.ACTIVE, false, 0, 10)));
+        assertEquals(2, snapshot.countByFlag(CatalogSnapshot.Flag.ACTIVE, true));
+    }
+
+    @Test
+    @DisplayName("Should return active products in a price range cheapest first")
+    void shouldQueryPriceRange() {
+        // Given
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(
+                product(1L, 10L, "50.00", true, false, NOW),
+                product(2L, 20L, "15.00", true, true, NOW),
+                product(3L, 10L, "30.00", false, true, NOW),
+                product(4L, 10L, "20.00", true, false, NOW)));
+
+        // When
+        List<Product> result = snapshot.activeInPriceRange(new BigDecimal("15.00"), new BigDecimal("40.00"));
+
+        // Then
+        assertEquals(List.of(2L, 4L), ids(result));
+    }
+
+    @Test
+    @DisplayName("Should leave the previous snapshot untouched when writing")
+    void shouldCopyOnWrite() {
+        // Given
+        CatalogSnapshot before = CatalogSnapshot.of(List.of(product(1L, 10L, "50.00", true, false, NOW)));
+
+        // When
+        CatalogSnapshot added = before.with(product(2L, 10L, "10.00", true, false, NOW));
+        CatalogSnapshot removed = added.without(1L);
+
+        // Then
+        assertEquals(1, before.size());
+        assertEquals(2, added.size());
+        assertFalse(removed.contains(1L));
+        assertTrue(removed.contains(2L));
+        assertTrue(before.bySlug("product-2").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should scroll newest first past the cursor")
+    void shouldScrollNewestFirst() {
+        // Given
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(
+                product(1L, 10L, "10.00", true, false, NOW.minusDays(1)),
+                product(2L, 10L, "10.00", true, false, NOW),
+                product(3L, 10L, "10.00", true, false, NOW)));
+
+        // When
+        List<Product> first = snapshot.newestFirst(null, 2, p -> true);
+        List<Product> rest = snapshot.newestFirst(Cursor.of(NOW, 2L), 2, p -> true);
+
+        // Then
+        assertEquals(List.of(3L, 2L), ids(first));
+        assertEquals(List.of(1L), ids(rest));
+    }
+
+    @Test
+    @DisplayName("Should scroll past a product without a creation time using its fallback sort key")
+    void shouldScrollPastProductWithoutCreatedAt() {
+        // Given
+        Product undated = product(1L, 10L, "10.00", true, false, null);
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(
+                undated,
+                product(2L, 10L, "10.00", true, false, NOW)));
+
+        // When
+        Cursor cursor = Cursor.decode(Cursor.of(CatalogSnapshot.createdAt(undated), undated.getId()).encode());
+        List<Product> first = snapshot.newestFirst(null, 2, p -> true);
+        List<Product> rest = snapshot.newestFirst(cursor, 2, p -> true);
+
+        // Then
+        assertEquals(List.of(2L, 1L), ids(first));
+        assertTrue(rest.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should return id-ordered batches after a given id, including inactive products")
+    void shouldBatchAfterId() {
+        // Given
+        CatalogSnapshot snapshot = CatalogSnapshot.of(List.of(
+                product(5L, 10L, "10.00", false, false, NOW),
+                product(2L, 10L, "10.00", true, false, NOW),
+                product(9L, 10L, "10.00", true, false, NOW)));
+
+        // When
+        List<Product> first = snapshot.afterId(null, 2);
+        List<Product> next = snapshot.afterId(5L, 2);
+        List<Product> gap = snapshot.afterId(6L, 2);
+
+        // Then
+        assertEquals(List.of(2L, 5L), ids(first));
+        assertEquals(List.of(9L), ids(next));
+        assertEquals(List.of(9L), ids(gap));
+        assertTrue(snapshot.afterId(9L, 2).isEmpty());
+    }
+
+    private static List<Long> ids(List<Product> products) {
+        return products.stream().map(Product::getId).collect(Collectors.toList());
+    }
+
+    private static Product product(Long id, Long categoryId, String price, boolean active, boolean featured,
+                                   LocalDateTime createdAt) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setSlug("product-" + id);
+        product.setSku("SKU-" + id);
+        product.setPrice(new BigDecimal(price));
+        product.setCategoryId(categoryId);
+        product.setActive(active);
+        product.setFeatured(featured);
+        product.setCreatedAt(createdAt);
+        return product;
+    }
+}
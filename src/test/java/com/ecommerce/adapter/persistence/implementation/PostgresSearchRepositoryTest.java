@@ -0,0 +1,63 @@
+package com.ecommerce.adapter.persistence.implementation;
+
+import com.ecommerce.adapter.persistence.cache.SearchResultCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostgresSearchRepositoryTest {
+
+    @Test
+    @DisplayName("Should turn every word into a required prefix term")
+    void shouldBuildPrefixQuery() {
+        // When
+        String query = PostgresSearchRepository.prefixQuery("  Gaming MOUSE ");
+
+        // Then
+        assertEquals("gaming:* & mouse:*", query);
+    }
+
+    @Test
+    @DisplayName("Should strip tsquery operators from user input")
+    void shouldStripOperators() {
+        // When
+        String query = PostgresSearchRepository.prefixQuery("usb-c & !cable:* | (hub)");
+
+        // Then
+        assertEquals("usb:* & c:* & cable:* & hub:*", query);
+        assertNull(PostgresSearchRepository.prefixQuery(" &!| "));
+    }
+
+    @Test
+    @DisplayName("Should report an exact total below the cap and a lower bound once the window fills")
+    void shouldCapTotal() {
+        // Given
+        int window = PostgresSearchRepository.countingWindow(0, 20, 100);
+        List<Long> ids = List.of(1L, 2L);
+        float[] scores = {0.9f, 0.5f};
+
+        // When
+        SearchResultCache.Hits exact = PostgresSearchRepository.toHits(ids, scores, 57, window);
+        SearchResultCache.Hits capped = PostgresSearchRepository.toHits(ids, scores, window, window);
+
+        // Then
+        assertEquals(101, window);
+        assertEquals(57, exact.getTotalHits());
+        assertTrue(exact.isTotalExact());
+        assertEquals(100, capped.getTotalHits());
+        assertFalse(capped.isTotalExact());
+    }
+
+    @Test
+    @DisplayName("Should widen the counting window to cover pages beyond the cap")
+    void shouldWidenWindowForDeepPages() {
+        // When
+        int window = PostgresSearchRepository.countingWindow(180, 40, 100);
+
+        // Then
+        assertEquals(221, window);
+    }
+}
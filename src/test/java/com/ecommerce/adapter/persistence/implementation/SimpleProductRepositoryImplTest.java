@@ -0,0 +1,45 @@
+package com.ecommerce.adapter.persistence.implementation;
+
+import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.shared.pagination.Cursor;
+import com.ecommerce.shared.pagination.CursorPage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleProductRepositoryImplTest {
+
+    @Test
+    @DisplayName("Should stamp a creation time on products saved with an explicit id and scroll past them")
+    void shouldStampCreatedAtForExplicitIds() {
+        // Given
+        SimpleProductRepositoryImpl repository = new SimpleProductRepositoryImpl();
+        Product product = new Product();
+        product.setId(100L);
+        product.setName("Imported Product");
+        product.setSlug("imported-product");
+        product.setSku("IMP-100");
+        product.setPrice(new BigDecimal("10.00"));
+        product.setActive(true);
+
+        // When
+        repository.save(product);
+        List<Long> scrolled = new ArrayList<>();
+        Cursor cursor = null;
+        do {
+            CursorPage<Product> page = repository.findActiveAfter(cursor, 1);
+            page.getContent().forEach(p -> scrolled.add(p.getId()));
+            cursor = page.getNextCursor() != null ? Cursor.decode(page.getNextCursor()) : null;
+        } while (cursor != null);
+
+        // Then
+        assertNotNull(product.getCreatedAt());
+        assertTrue(scrolled.contains(100L));
+        assertEquals(repository.findAll().stream().filter(Product::isActive).count(), scrolled.size());
+    }
+}
@@ -6,6 +6,7 @@ import com.ecommerce.core.usecase.product.GetProductRequest;
 import com.ecommerce.core.usecase.product.GetProductResponse;
 import com.ecommerce.core.usecase.product.GetProductsRequest;
 import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.infrastructure.external.storage.ImageDerivativeService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,6 +35,9 @@ class ProductControllerTest {
     @MockBean
     private GetProductsUseCase getProductsUseCase;
 
+    @MockBean
+    private ImageDerivativeService imageDerivativeService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -7,6 +7,9 @@ import com.ecommerce.core.usecase.search.SearchProductsResponse;
 import com.ecommerce.core.usecase.search.GetRecommendationsRequest;
 import com.ecommerce.core.usecase.search.GetRecommendationsResponse;
 import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.core.domain.user.repository.UserRepository;
+import com.ecommerce.infrastructure.search.SearchAnalyticsRecorder;
+import com.ecommerce.infrastructure.search.SearchSuggestionService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -35,6 +38,15 @@ class SearchControllerTest {
     @MockBean
     private GetRecommendationsUseCase getRecommendationsUseCase;
 
+    @MockBean
+    private SearchSuggestionService searchSuggestionService;
+
+    @MockBean
+    private SearchAnalyticsRecorder searchAnalyticsRecorder;
+
+    @MockBean
+    private UserRepository userRepository;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -0,0 +1,76 @@
+package com.ecommerce.core.domain.product.valueobject;
+
+import com.ecommerce.core.domain.product.entity.Category;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryTreeTest {
+
+    @Test
+    @DisplayName("Should precompute materialized paths and subtree ids")
+    void shouldBuildPathsAndSubtrees() {
+        // Given
+        CategoryTree tree = CategoryTree.of(List.of(
+                category(1L, null, "Electronics"),
+                category(2L, 1L, "Computers"),
+                category(3L, 2L, "Laptops"),
+                category(4L, 1L, "Audio"),
+                category(5L, null, "Books")));
+
+        // Then
+        assertEquals("/1/2/3/", tree.find(3L).orElseThrow().getPath());
+        assertEquals(2, tree.find(3L).orElseThrow().getDepth());
+        assertEquals(Set.of(1L, 2L, 3L, 4L), tree.subtreeIdsOf(1L));
+        assertEquals(Set.of(3L), tree.subtreeIdsOf(3L));
+        assertEquals(List.of(1L, 2L, 3L), ids(tree.pathTo(3L)));
+        assertEquals(List.of(5L, 1L), ids(tree.getRoots()));
+        assertTrue(tree.find(3L).orElseThrow().isDescendantOf(tree.find(1L).orElseThrow()));
+    }
+
+    @Test
+    @DisplayName("Should resolve unknown categories to themselves")
+    void shouldResolveUnknownCategory() {
+        // Given
+        CategoryTree tree = CategoryTree.of(List.of(category(1L, null, "Electronics")));
+
+        // Then
+        assertEquals(Set.of(99L), tree.subtreeIdsOf(99L));
+        assertTrue(tree.pathTo(99L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should promote orphans and break parent cycles instead of looping")
+    void shouldSurviveOrphansAndCycles() {
+        // Given
+        CategoryTree tree = CategoryTree.of(List.of(
+                category(1L, 42L, "Orphan"),
+                category(2L, 3L, "Cycle A"),
+                category(3L, 2L, "Cycle B")));
+
+        // Then
+        assertEquals(3, tree.size());
+        assertEquals("/1/", tree.find(1L).orElseThrow().getPath());
+        assertEquals(Set.of(2L, 3L), tree.subtreeIdsOf(2L));
+        assertEquals("/2/3/", tree.find(3L).orElseThrow().getPath());
+    }
+
+    private static List<Long> ids(List<CategoryTree.Node> nodes) {
+        return nodes.stream().map(CategoryTree.Node::getId).collect(Collectors.toList());
+    }
+
+    private static Category category(Long id, Long parentId, String name) {
+        return Category.builder()
+                .id(id)
+                .name(name)
+                .slug(name.toLowerCase().replace(' ', '-'))
+                .parent(parentId != null ? Category.builder().id(parentId).build() : null)
+                .isActive(true)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.ecommerce.core.domain.product.valueobject;
+
+import com.ecommerce.core.domain.product.entity.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSummaryTest {
+
+    @Test
+    @DisplayName("Should carry the first image as the listing image")
+    void shouldCarryPrimaryImage() {
+        // Given
+        Product product = new Product("Gaming Laptop", "Fast laptop", "LAP-001",
+                new Price(new BigDecimal("999.99"), "USD"), 1L, 5);
+        product.setImageUrls(List.of("/media/a.jpg", "/media/b.jpg"));
+
+        // When
+        ProductSummary summary = ProductSummary.from(product);
+
+        // Then
+        assertEquals("/media/a.jpg", summary.getImageUrl());
+        assertEquals(5, summary.getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("Should leave the listing image empty when the product has none")
+    void shouldAllowMissingImage() {
+        // Given
+        Product product = new Product("Mouse", "Wireless mouse", "MOU-001",
+                new Price(new BigDecimal("19.99"), "USD"), 1L, 0);
+
+        // When
+        ProductSummary summary = ProductSummary.from(product);
+
+        // Then
+        assertNull(summary.getImageUrl());
+    }
+}
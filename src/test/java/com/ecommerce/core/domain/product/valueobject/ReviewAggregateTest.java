@@ -0,0 +1,49 @@
+package com.ecommerce.core.domain.product.valueobject;
+
+import com.ecommerce.shared.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReviewAggregateTest {
+
+    @Test
+    @DisplayName("Should maintain count, sum, histogram and average incrementally")
+    void shouldAccumulateRatings() {
+        // When
+        ReviewAggregate aggregate = ReviewAggregate.EMPTY.withRating(5).withRating(4).withRating(4).withRating(1);
+
+        // Then
+        assertEquals(4, aggregate.getReviewCount());
+        assertEquals(14, aggregate.getRatingSum());
+        assertArrayEquals(new int[]{1, 0, 0, 2, 1}, aggregate.getHistogram());
+        assertEquals(new BigDecimal("3.50"), aggregate.getAverageRating());
+        assertEquals(0, ReviewAggregate.EMPTY.getReviewCount());
+    }
+
+    @Test
+    @DisplayName("Should undo a rating and never drop a bucket below zero")
+    void shouldRemoveRatings() {
+        // Given
+        ReviewAggregate aggregate = ReviewAggregate.ofHistogram(0, 0, 1, 0, 1);
+
+        // When
+        ReviewAggregate removed = aggregate.withoutRating(5).withoutRating(5);
+
+        // Then
+        assertEquals(1, removed.getReviewCount());
+        assertEquals(new BigDecimal("3.00"), removed.getAverageRating());
+        assertEquals(ReviewAggregate.EMPTY, removed.withoutRating(3));
+    }
+
+    @Test
+    @DisplayName("Should reject ratings outside one to five stars")
+    void shouldRejectInvalidRating() {
+        assertThrows(ValidationException.class, () -> ReviewAggregate.EMPTY.withRating(0));
+        assertThrows(ValidationException.class, () -> ReviewAggregate.EMPTY.withRating(6));
+        assertThrows(ValidationException.class, () -> ReviewAggregate.ofHistogram(1, 2));
+    }
+}
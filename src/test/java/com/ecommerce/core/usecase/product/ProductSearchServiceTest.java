@@ -0,0 +1,83 @@
+package com.ecommerce.core.usecase.product;
+
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.HistogramBucket;
+import co.elastic.clients.elasticsearch._types.aggregations.StringTermsBucket;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import com.ecommerce.core.domain.product.entity.Category;
+import com.ecommerce.core.domain.product.valueobject.CategoryTree;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductSearchServiceTest {
+
+    private final CategoryTree tree = CategoryTree.of(List.of(
+            Category.builder().id(3L).name("Laptops").slug("laptops").isActive(true).build(),
+            Category.builder().id(4L).name("Tablets").slug("tablets").isActive(true).build()));
+
+    @Test
+    @DisplayName("Should filter on every selected facet and aggregate all four facets in one query")
+    void shouldBuildFacetQuery() {
+        // Given
+        FacetedSearchRequest request = FacetedSearchRequest.builder()
+                .query("laptop")
+                .categories(List.of("Laptops"))
+                .brands(List.of("Acme"))
+                .minPrice(new BigDecimal("100"))
+                .page(2)
+                .size(10)
+                .build();
+
+        // When
+        NativeQuery query = ProductSearchService.facetQuery(request, tree, 25, 500);
+
+        // Then
+        BoolQuery bool = query.getQuery().bool();
+        assertEquals(1, bool.must().size());
+        assertEquals("laptop", bool.must().get(0).multiMatch().query());
+        // active, category, brand and price range
+        assertEquals(4, bool.filter().size());
+        assertEquals("categoryId", bool.filter().get(1).terms().field());
+        assertEquals("3", bool.filter().get(1).terms().terms().value().get(0).stringValue());
+        assertEquals("categoryId", query.getAggregations().get("category").terms().field());
+        assertEquals(List.of("category", "brand", "tag", "price"), List.copyOf(query.getAggregations().keySet()));
+        assertEquals(Double.valueOf(25), query.getAggregations().get("price").histogram().interval());
+        assertEquals(2, query.getPageable().getPageNumber());
+        assertEquals(Integer.valueOf(500), query.getTrackTotalHitsUpTo());
+    }
+
+    @Test
+    @DisplayName("Should label category buckets from the tree and skip aggregations missing from the response")
+    void shouldParseFacetBuckets() {
+        // Given
+        Aggregate categories = Aggregate.of(a -> a.sterms(t -> t
+                .sumOtherDocCount(0L)
+                .buckets(b -> b.array(List.of(
+                        StringTermsBucket.of(bucket -> bucket.key("3").docCount(12)),
+                        StringTermsBucket.of(bucket -> bucket.key("4").docCount(3)),
+                        StringTermsBucket.of(bucket -> bucket.key("99").docCount(1)))))));
+        Aggregate prices = Aggregate.of(a -> a.histogram(h -> h
+                .buckets(b -> b.array(List.of(HistogramBucket.of(bucket -> bucket.key(50.0).docCount(7)))))));
+        ElasticsearchAggregations aggregations = new ElasticsearchAggregations(
+                Map.of("category", categories, "price", prices));
+
+        // When
+        Map<String, List<FacetedSearchResult.FacetCount>> facets = ProductSearchService.facets(aggregations, tree);
+
+        // Then
+        assertEquals(List.of(new FacetedSearchResult.FacetCount("Laptops", 12),
+                new FacetedSearchResult.FacetCount("Tablets", 3),
+                new FacetedSearchResult.FacetCount("99", 1)), facets.get("category"));
+        assertEquals(List.of(new FacetedSearchResult.FacetCount("50", 7)), facets.get("price"));
+        assertFalse(facets.containsKey("brand"));
+        assertFalse(facets.containsKey("tag"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.ecommerce.core.usecase.search;
+
+import com.ecommerce.core.domain.search.entity.SearchResult;
+import com.ecommerce.core.domain.search.entity.SearchResultPage;
+import com.ecommerce.core.domain.search.repository.SearchRepository;
+import com.ecommerce.infrastructure.search.SearchSuggestionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchProductsUseCaseSpellingTest {
+
+    private final Map<String, Long> hitsByQuery = new HashMap<>();
+    private final List<String> searchedQueries = new ArrayList<>();
+    private final Set<String> commonCorrections = Set.of("headphones");
+
+    @Test
+    @DisplayName("Should search the corrected query when the typed query finds nothing")
+    void shouldRewriteZeroHitQuery() {
+        // Given
+        hitsByQuery.put("lapotp", 0L);
+        hitsByQuery.put("laptop", 12L);
+        SearchProductsUseCase useCase = useCase(Map.of("lapotp", "laptop"));
+
+        // When
+        SearchProductsResponse response = useCase.execute(SearchProductsRequest.of("lapotp"));
+
+        // Then
+        assertEquals("laptop", response.getCorrectedQuery());
+        assertNull(response.getSuggestedQuery());
+        assertEquals(12, response.getTotalElements());
+        assertEquals(1, response.getResults().size());
+        assertEquals(List.of("lapotp", "laptop"), searchedQueries);
+    }
+
+    @Test
+    @DisplayName("Should keep the empty result when the correction finds nothing either")
+    void shouldKeepZeroHitsWhenCorrectionAlsoEmpty() {
+        // Given
+        SearchProductsUseCase useCase = useCase(Map.of("xyzzy", "fuzzy"));
+
+        // When
+        SearchProductsResponse response = useCase.execute(SearchProductsRequest.of("xyzzy"));
+
+        // Then
+        assertNull(response.getCorrectedQuery());
+        assertNull(response.getSuggestedQuery());
+        assertEquals(0, response.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("Should hint from the dictionary without searching again when the query has results")
+    void shouldSuggestWithoutSecondSearch() {
+        // Given
+        hitsByQuery.put("hedphones", 1L);
+        hitsByQuery.put("headphones", 30L);
+        SearchProductsUseCase useCase = useCase(Map.of("hedphones", "headphones"));
+
+        // When
+        SearchProductsResponse response = useCase.execute(SearchProductsRequest.of("hedphones"));
+
+        // Then
+        assertEquals("headphones", response.getSuggestedQuery());
+        assertNull(response.getCorrectedQuery());
+        assertEquals(1, response.getTotalElements());
+        assertEquals(List.of("hedphones"), searchedQueries);
+    }
+
+    @Test
+    @DisplayName("Should not hint when the dictionary has no common enough correction")
+    void shouldNotSuggestRareCorrection() {
+        // Given
+        hitsByQuery.put("rtx", 40L);
+        SearchProductsUseCase useCase = useCase(Map.of("rtx", "rex"));
+
+        // When
+        SearchProductsResponse response = useCase.execute(SearchProductsRequest.of("rtx"));
+
+        // Then
+        assertNull(response.getSuggestedQuery());
+        assertNull(response.getCorrectedQuery());
+        assertEquals(40, response.getTotalElements());
+        assertEquals(List.of("rtx"), searchedQueries);
+    }
+
+    /**
+     * corrections drives correct(); didYouMean() only knows the ones that are also in commonCorrections
+     */
+    private SearchProductsUseCase useCase(Map<String, String> corrections) {
+        SearchRepository repository = (SearchRepository) Proxy.newProxyInstance(
+                SearchRepository.class.getClassLoader(), new Class<?>[] {SearchRepository.class},
+                (proxy, method, args) -> {
+                    if (!method.getName().equals("searchProducts")) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    String query = ((SearchProductsRequest) args[0]).getQuery();
+                    searchedQueries.add(query);
+                    long hits = hitsByQuery.getOrDefault(query, 0L);
+                    return SearchResultPage.builder()
+                            .results(hits == 0 ? Collections.emptyList()
+                                    : List.of(SearchResult.builder().id(1L).name(query).build()))
+                            .totalHits(hits)
+                            .build();
+                });
+        SearchSuggestionService suggestions = new SearchSuggestionService(null, Duration.ofDays(30), 10) {
+            @Override
+            public Optional<String> correct(String query) {
+                return Optional.ofNullable(corrections.get(query));
+            }
+
+            @Override
+            public Optional<String> didYouMean(String query) {
+                return Optional.ofNullable(corrections.get(query)).filter(commonCorrections::contains);
+            }
+        };
+        return new SearchProductsUseCase(repository, suggestions);
+    }
+}
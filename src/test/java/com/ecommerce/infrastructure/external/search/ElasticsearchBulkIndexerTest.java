@@ -0,0 +1,144 @@
+package com.ecommerce.infrastructure.external.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.IndexQuery;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElasticsearchBulkIndexerTest {
+
+    private static final IndexCoordinates INDEX = IndexCoordinates.of("products");
+
+    @Test
+    @DisplayName("Should resend retryable items and report the rest as failures")
+    void shouldRetryRetryableItems() {
+        // Given
+        FakeOperations operations = new FakeOperations(attempt -> attempt.size() == 3
+                ? new BulkFailureException("partial", Map.of(
+                        "2", new BulkFailureException.FailureDetails(429, "too many requests"),
+                        "3", new BulkFailureException.FailureDetails(400, "mapper_parsing_exception")))
+                : null);
+        ElasticsearchBulkIndexer indexer = indexer(operations, Runnable::run, 10);
+
+        // When
+        BulkIndexResult result = index(indexer, "1", "2", "3");
+
+        // Then
+        assertEquals(List.of(List.of("1", "2", "3"), List.of("2")), operations.requests);
+        assertEquals(2, result.getIndexedCount());
+        assertEquals(1, result.getRetriedCount());
+        assertEquals(1, result.getFailedCount());
+        assertTrue(result.getFailures().get("3").startsWith("400"));
+    }
+
+    @Test
+    @DisplayName("Should give up on a batch once transport failures exhaust the retries")
+    void shouldGiveUpAfterMaxRetries() {
+        // Given
+        FakeOperations operations = new FakeOperations(attempt -> new IllegalStateException("connection refused"));
+        ElasticsearchBulkIndexer indexer = indexer(operations, Runnable::run, 10);
+
+        // When
+        BulkIndexResult result = index(indexer, "1", "2");
+
+        // Then
+        assertEquals(3, operations.requests.size());
+        assertEquals(0, result.getIndexedCount());
+        assertEquals(2, result.getFailedCount());
+        assertTrue(result.getFailures().get("1").contains("connection refused"));
+    }
+
+    @Test
+    @DisplayName("Should send batches on the caller's thread when the shared executor rejects them")
+    void shouldRunRejectedBatchesOnCaller() {
+        // Given
+        FakeOperations operations = new FakeOperations(attempt -> null);
+        Executor saturated = task -> {
+            throw new RejectedExecutionException("queue full");
+        };
+        ElasticsearchBulkIndexer indexer = indexer(operations, saturated, 2);
+
+        // When
+        BulkIndexResult result = index(indexer, "1", "2", "3");
+
+        // Then
+        assertEquals(List.of(List.of("1", "2"), List.of("3")), operations.requests);
+        assertEquals(3, result.getIndexedCount());
+        assertEquals(0, result.getFailedCount());
+    }
+
+    private static BulkIndexResult index(ElasticsearchBulkIndexer indexer, String... ids) {
+        try (ElasticsearchBulkIndexer.Session session = indexer.open(INDEX)) {
+            for (String id : ids) {
+                session.add(id, "document " + id);
+            }
+            return session.finish();
+        }
+    }
+
+    private static ElasticsearchBulkIndexer indexer(FakeOperations operations, Executor executor, int maxActions) {
+        return new ElasticsearchBulkIndexer(operations.proxy(), executor, maxActions, 1_000_000, 2, 2,
+                Duration.ZERO, Duration.ofSeconds(5));
+    }
+
+    /**
+     * Records bulk requests by document id; the outcome of each request is decided by the given function
+     */
+    private static final class FakeOperations {
+        private final Function<List<String>, RuntimeException> outcome;
+        private final List<List<String>> requests = new ArrayList<>();
+
+        private FakeOperations(Function<List<String>, RuntimeException> outcome) {
+            this.outcome = outcome;
+        }
+
+        ElasticsearchOperations proxy() {
+            ElasticsearchConverter converter = (ElasticsearchConverter) Proxy.newProxyInstance(
+                    getClass().getClassLoader(), new Class<?>[] {ElasticsearchConverter.class},
+                    (proxy, method, args) -> {
+                        if (method.getName().equals("mapObject")) {
+                            return Document.from(Map.of("value", String.valueOf(args[0])));
+                        }
+                        throw new UnsupportedOperationException(method.getName());
+                    });
+            return (ElasticsearchOperations) Proxy.newProxyInstance(
+                    getClass().getClassLoader(), new Class<?>[] {ElasticsearchOperations.class},
+                    (proxy, method, args) -> {
+                        switch (method.getName()) {
+                            case "getElasticsearchConverter":
+                                return converter;
+                            case "bulkIndex":
+                                return bulkIndex((List<?>) args[0]);
+                            default:
+                                throw new UnsupportedOperationException(method.getName());
+                        }
+                    });
+        }
+
+        private synchronized List<?> bulkIndex(List<?> queries) {
+            List<String> ids = queries.stream().map(query -> ((IndexQuery) query).getId()).collect(Collectors.toList());
+            requests.add(ids);
+            RuntimeException failure = outcome.apply(ids);
+            if (failure != null) {
+                throw failure;
+            }
+            return List.of();
+        }
+    }
+}
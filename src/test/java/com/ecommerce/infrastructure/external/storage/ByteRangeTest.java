@@ -0,0 +1,46 @@
+package com.ecommerce.infrastructure.external.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteRangeTest {
+
+    @Test
+    @DisplayName("Should resolve closed, open-ended and suffix ranges against the file length")
+    void shouldResolveRanges() {
+        // When
+        ByteRange closed = ByteRange.parse("bytes=0-99", 1000);
+        ByteRange open = ByteRange.parse("bytes=900-", 1000);
+        ByteRange suffix = ByteRange.parse("bytes=-200", 1000);
+        ByteRange clamped = ByteRange.parse("bytes=500-5000", 1000);
+
+        // Then
+        assertEquals("bytes 0-99/1000", closed.toContentRange(1000));
+        assertEquals(100, closed.getLength());
+        assertEquals("bytes 900-999/1000", open.toContentRange(1000));
+        assertEquals("bytes 800-999/1000", suffix.toContentRange(1000));
+        assertEquals(999, clamped.getEnd());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the full body for missing, malformed or multi-range headers")
+    void shouldIgnoreUnsupportedHeaders() {
+        // When / Then
+        assertNull(ByteRange.parse(null, 1000));
+        assertNull(ByteRange.parse("items=0-1", 1000));
+        assertNull(ByteRange.parse("bytes=abc-", 1000));
+        assertNull(ByteRange.parse("bytes=10-5", 1000));
+        assertNull(ByteRange.parse("bytes=0-1,5-9", 1000));
+    }
+
+    @Test
+    @DisplayName("Should report ranges beyond the end of the file as unsatisfiable")
+    void shouldDetectUnsatisfiableRanges() {
+        // When / Then
+        assertFalse(ByteRange.parse("bytes=1000-", 1000).isSatisfiable());
+        assertFalse(ByteRange.parse("bytes=-0", 1000).isSatisfiable());
+        assertTrue(ByteRange.parse("bytes=999-", 1000).isSatisfiable());
+    }
+}
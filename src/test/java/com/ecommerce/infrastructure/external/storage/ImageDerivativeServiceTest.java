@@ -0,0 +1,71 @@
+package com.ecommerce.infrastructure.external.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageDerivativeServiceTest {
+
+    @Test
+    @DisplayName("Should generate every variant under its deterministic key without upscaling")
+    void shouldGenerateVariants() throws Exception {
+        // Given
+        Path root = Files.createTempDirectory("media");
+        LocalFileStorageService storage = new LocalFileStorageService(root.toString(), 0, 16);
+        ImageDerivativeService derivatives = new ImageDerivativeService(storage, Runnable::run, 0.8f);
+        ByteArrayOutputStream jpeg = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB), "jpeg", jpeg);
+        LocalFileStorageService.StoredFile original =
+                storage.store(new ByteArrayInputStream(jpeg.toByteArray()), "photo.JPEG");
+
+        // When
+        derivatives.schedule(original.getKey());
+        Map<String, String> urls = derivatives.variantUrls(original.getUrl());
+
+        // Then
+        assertEquals(4, urls.size());
+        assertTrue(urls.get("thumbnail").endsWith("-w160.jpg"));
+        BufferedImage small = ImageIO.read(storage.find(key(urls.get("small"))).orElseThrow().getPath().toFile());
+        assertEquals(320, small.getWidth());
+        assertEquals(160, small.getHeight());
+        BufferedImage large = ImageIO.read(storage.find(key(urls.get("large"))).orElseThrow().getPath().toFile());
+        assertEquals(800, large.getWidth());
+    }
+
+    @Test
+    @DisplayName("Should resolve a variant key back to its stored original")
+    void shouldFindOriginalOfVariant() throws Exception {
+        // Given
+        Path root = Files.createTempDirectory("media");
+        LocalFileStorageService storage = new LocalFileStorageService(root.toString(), 0, 16);
+        ImageDerivativeService derivatives = new ImageDerivativeService(storage, task -> { }, 0.8f);
+        ByteArrayOutputStream gif = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(10, 10, BufferedImage.TYPE_INT_ARGB), "gif", gif);
+        LocalFileStorageService.StoredFile original =
+                storage.store(new ByteArrayInputStream(gif.toByteArray()), "logo.gif");
+
+        // When
+        String variantUrl = derivatives.variantUrls(original.getUrl()).get("medium");
+
+        // Then
+        assertTrue(variantUrl.endsWith("-w640.png"));
+        assertEquals(original.getKey(), derivatives.findOriginalOf(key(variantUrl)).orElseThrow().getKey());
+        String hash = original.getKey().substring(0, original.getKey().indexOf('.'));
+        assertTrue(derivatives.findOriginalOf(hash + "-w1.png").isEmpty());
+        assertTrue(derivatives.findOriginalOf(hash + "-w640.jpg").isEmpty());
+        assertTrue(derivatives.variantUrls("https://cdn.example.com/a.jpg").isEmpty());
+    }
+
+    private static String key(String url) {
+        return url.substring(LocalFileStorageService.URL_PREFIX.length());
+    }
+}
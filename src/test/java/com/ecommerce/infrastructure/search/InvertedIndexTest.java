@@ -0,0 +1,99 @@
+package com.ecommerce.infrastructure.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InvertedIndexTest {
+
+    @Test
+    @DisplayName("Should rank name matches above description matches and require all query terms")
+    void shouldRankByBm25() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        index.upsert(product(1L, "Gaming Laptop", "RTX graphics for gaming", 1L, "1299.99", 5));
+        index.upsert(product(2L, "Business Laptop", "Thin and light, fine for casual gaming", 1L, "899.99", 5));
+        index.upsert(product(3L, "Gaming Mouse", "High DPI sensor", 2L, "79.99", 5));
+
+        // When
+        List<Long> laptops = ids(index.search(query("gaming laptops").build()));
+        List<Long> fallback = ids(index.search(query("mouse keyboard").build()));
+
+        // Then
+        assertEquals(List.of(1L, 2L), laptops);
+        assertEquals(List.of(3L), fallback);
+        assertEquals(List.of("gaming", "laptop", "battery"), TextAnalyzer.analyze("Gaming LAPTOPS with batteries"));
+    }
+
+    @Test
+    @DisplayName("Should apply category, stock and price filters and report the total before paging")
+    void shouldFilter() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        for (long id = 1; id <= 10; id++) {
+            index.upsert(product(id, "Headphones " + id, "Wireless", id % 2 == 0 ? 1L : 2L, id + "0.00", id == 4 ? 0 : 3));
+        }
+
+        // When
+        IndexHits hits = index.search(query("headphones")
+                .categoryIds(Set.of(1L))
+                .inStockOnly(true)
+                .minPrice(new BigDecimal("30"))
+                .maxPrice(new BigDecimal("100"))
+                .sort(IndexQuery.Sort.PRICE_DESC)
+                .limit(2)
+                .build());
+
+        // Then
+        assertEquals(3, hits.getTotalHits());
+        assertEquals(List.of(10L, 8L), ids(hits));
+    }
+
+    @Test
+    @DisplayName("Should replace updated products, drop deleted ones and keep results after compaction")
+    void shouldApplyIncrementalUpdates() {
+        // Given
+        InvertedIndex index = new InvertedIndex();
+        index.upsert(product(1L, "Red Kettle", "Steel", 1L, "30.00", 1));
+        index.upsert(product(2L, "Blue Kettle", "Steel", 1L, "35.00", 1));
+
+        // When
+        index.upsert(product(1L, "Green Kettle", "Steel", 1L, "30.00", 1));
+        index.delete(2L);
+        InvertedIndex compacted = index.compact();
+
+        // Then
+        assertTrue(index.search(query("red").build()).getHits().isEmpty());
+        assertEquals(List.of(1L), ids(index.search(query("kettle").build())));
+        assertEquals(1, compacted.maxDoc());
+        assertEquals(List.of(1L), ids(compacted.search(query("green kettle").build())));
+    }
+
+    private static IndexQuery.IndexQueryBuilder query(String text) {
+        return IndexQuery.builder().text(text).limit(20);
+    }
+
+    private static List<Long> ids(IndexHits hits) {
+        return hits.getHits().stream().map(hit -> hit.getProduct().getProductId()).collect(Collectors.toList());
+    }
+
+    private static IndexedProduct product(Long id, String name, String description, Long categoryId,
+                                          String price, int stock) {
+        return IndexedProduct.builder()
+                .productId(id)
+                .name(name)
+                .description(description)
+                .sku("SKU-" + id)
+                .categoryId(categoryId)
+                .price(new BigDecimal(price))
+                .stockQuantity(stock)
+                .averageRating(BigDecimal.ZERO)
+                .build();
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecommerce.infrastructure.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchAnalyticsRecorderTest {
+
+    @Test
+    @DisplayName("Should write buffered records in batches on flush")
+    void shouldFlushInBatches() {
+        // Given
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        SearchAnalyticsRecorder recorder = new SearchAnalyticsRecorder(jdbc, 10, 2);
+        recorder.recordSearch("laptop", null, "s1", 12, null);
+        recorder.recordSearch("mouse", "jane@example.com", "s2", 3, "category=electronics");
+        recorder.recordClick("laptop", null, "s1", 0, 42L);
+
+        // When
+        recorder.flush();
+
+        // Then
+        assertEquals(List.of(2, 1), jdbc.analyticsBatchSizes);
+        assertEquals(List.of(1), jdbc.historyBatchSizes);
+        assertEquals(7L, jdbc.historyRows.get(0)[0]);
+        assertEquals(3, recorder.recordedCount());
+        assertEquals(0, recorder.buffered());
+    }
+
+    @Test
+    @DisplayName("Should drop and count records once the buffer is full")
+    void shouldDropWhenFull() {
+        // Given
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        SearchAnalyticsRecorder recorder = new SearchAnalyticsRecorder(jdbc, 2, 10);
+
+        // When
+        recorder.recordSearch("a", null, null, 1, null);
+        recorder.recordSearch("b", null, null, 1, null);
+        recorder.recordSearch("c", null, null, 1, null);
+
+        // Then
+        assertEquals(2, recorder.buffered());
+        assertEquals(1, recorder.droppedCount());
+        assertTrue(jdbc.analyticsBatchSizes.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should drop clicks on unknown products without failing the rest of the batch")
+    void shouldDropClicksOnUnknownProducts() {
+        // Given
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        jdbc.missingProducts.add(99L);
+        SearchAnalyticsRecorder recorder = new SearchAnalyticsRecorder(jdbc, 10, 10);
+        recorder.recordSearch("laptop", null, "s1", 12, null);
+        recorder.recordClick("laptop", null, "s1", 0, 42L);
+        recorder.recordClick("laptop", null, "s1", 1, 99L);
+
+        // When
+        recorder.flush();
+
+        // Then
+        assertEquals(List.of(2), jdbc.analyticsBatchSizes);
+        assertEquals(2, recorder.recordedCount());
+        assertEquals(1, recorder.failedCount());
+    }
+
+    @Test
+    @DisplayName("Should record unknown users anonymously and keep them out of search history")
+    void shouldRecordUnknownUsersAnonymously() {
+        // Given
+        RecordingJdbcTemplate jdbc = new RecordingJdbcTemplate();
+        SearchAnalyticsRecorder recorder = new SearchAnalyticsRecorder(jdbc, 10, 10);
+        recorder.recordSearch("laptop", "gone@example.com", "s1", 12, null);
+
+        // When
+        recorder.flush();
+
+        // Then
+        assertEquals(List.of(1), jdbc.analyticsBatchSizes);
+        assertNull(jdbc.analyticsRows.get(0)[1]);
+        assertTrue(jdbc.historyBatchSizes.isEmpty());
+    }
+
+    private static final class RecordingJdbcTemplate extends JdbcTemplate {
+        private final List<Integer> analyticsBatchSizes = new ArrayList<>();
+        private final List<Integer> historyBatchSizes = new ArrayList<>();
+        private final Set<Long> missingProducts = new HashSet<>();
+        private final Map<String, Long> users = Map.of("jane@example.com", 7L);
+        private final List<Object[]> analyticsRows = new ArrayList<>();
+        private final List<Object[]> historyRows = new ArrayList<>();
+
+        @Override
+        public List<Map<String, Object>> queryForList(String sql, Object... args) {
+            return Arrays.stream(args)
+                    .filter(users::containsKey)
+                    .map(email -> Map.<String, Object>of("email", email, "user_id", users.get(email)))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> List<T> queryForList(String sql, Class<T> elementType, Object... args) {
+            return (List<T>) Arrays.stream(args)
+                    .filter(id -> !missingProducts.contains(id))
+                    .collect(Collectors.toList());
+        }
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            boolean history = sql.contains("user_search_history");
+            (history ? historyBatchSizes : analyticsBatchSizes).add(batchArgs.size());
+            (history ? historyRows : analyticsRows).addAll(batchArgs);
+            return new int[batchArgs.size()];
+        }
+    }
+}
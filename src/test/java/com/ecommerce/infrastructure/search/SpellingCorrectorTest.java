@@ -0,0 +1,56 @@
+package com.ecommerce.infrastructure.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpellingCorrectorTest {
+
+    private final SpellingCorrector corrector = SpellingCorrector.builder()
+            .add("Gaming Laptop Pro", 5)
+            .add("Mechanical Keyboard", 3)
+            .add("Wireless Mouse", 2)
+            .build();
+
+    @Test
+    @DisplayName("Should correct substitutions and transpositions within a query")
+    void shouldCorrectMisspelledWords() {
+        // When / Then
+        assertEquals(Optional.of("laptop"), corrector.correct("labtop"));
+        assertEquals(Optional.of("mechanical keyboard"), corrector.correct("mechanical keybaord"));
+    }
+
+    @Test
+    @DisplayName("Should prefer the heavier word among equally close candidates")
+    void shouldBreakTiesByWeight() {
+        // Given
+        SpellingCorrector weighted = SpellingCorrector.builder()
+                .add("cable", 1)
+                .add("table", 10)
+                .build();
+
+        // When / Then
+        assertEquals("table", weighted.correctWord("xable"));
+    }
+
+    @Test
+    @DisplayName("Should only replace words with dictionary words of at least the minimum weight")
+    void shouldRespectMinimumWeight() {
+        // When / Then
+        assertEquals(Optional.of("laptop"), corrector.correct("labtop", 5));
+        assertEquals(Optional.empty(), corrector.correct("mechanical keybaord", 5));
+    }
+
+    @Test
+    @DisplayName("Should leave known, short, numeric and unmatched words alone")
+    void shouldNotCorrectKnownOrUnmatchedWords() {
+        // When / Then
+        assertEquals(Optional.empty(), corrector.correct("Wireless MOUSE"));
+        assertEquals(Optional.empty(), corrector.correct("pc 4090"));
+        assertEquals(Optional.empty(), corrector.correct("refrigerator"));
+        assertEquals(Optional.empty(), SpellingCorrector.EMPTY.correct("labtop"));
+    }
+}
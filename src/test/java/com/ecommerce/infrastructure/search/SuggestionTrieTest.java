@@ -0,0 +1,59 @@
+package com.ecommerce.infrastructure.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestionTrieTest {
+
+    @Test
+    @DisplayName("Should return the heaviest completions for a prefix, ignoring case and accents")
+    void shouldSuggestByWeight() {
+        // Given
+        SuggestionTrie trie = SuggestionTrie.builder(3)
+                .add("laptop stand", null, 5)
+                .add("Laptop", "Electronics", 40)
+                .add("lamp", null, 12)
+                .add("Caf\u00e9 table", "Furniture", 7)
+                .add("laptop bag", null, 9)
+                .build();
+
+        // When
+        List<String> la = texts(trie.suggest("LA", 10));
+        List<String> cafe = texts(trie.suggest("cafe", 10));
+
+        // Then
+        assertEquals(List.of("Laptop", "lamp", "laptop bag"), la);
+        assertEquals(List.of("Caf\u00e9 table"), cafe);
+        assertTrue(trie.suggest("xyz", 10).isEmpty());
+        assertEquals(1, trie.suggest("lap", 1).size());
+    }
+
+    @Test
+    @DisplayName("Should match later words of a suggestion and merge repeated suggestions")
+    void shouldMatchInnerWordsAndMergeDuplicates() {
+        // Given
+        SuggestionTrie trie = SuggestionTrie.builder(5)
+                .add("Gaming Laptop", "Electronics", 3)
+                .add("gaming  laptop", null, 4)
+                .add("Laptop Sleeve", null, 5)
+                .build();
+
+        // When
+        List<SuggestionTrie.Suggestion> suggestions = trie.suggest("lapt", 5);
+
+        // Then
+        assertEquals(2, trie.size());
+        assertEquals(List.of("Gaming Laptop", "Laptop Sleeve"), texts(suggestions));
+        assertEquals(7, suggestions.get(0).getWeight());
+        assertEquals("Electronics", suggestions.get(0).getCategory());
+    }
+
+    private static List<String> texts(List<SuggestionTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(SuggestionTrie.Suggestion::getText).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecommerce.infrastructure.service;
+
+import com.ecommerce.core.domain.product.entity.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductChangeCoalescerTest {
+
+    @Test
+    @DisplayName("Should collapse many changes to one write per product from its current state")
+    void shouldCoalesceChanges() {
+        // Given
+        List<long[]> changes = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            changes.add(new long[] {1L, i});
+        }
+        changes.add(new long[] {2L, 50});
+        changes.add(new long[] {3L, 51});
+        changes.add(new long[] {2L, 52});
+        changes.add(new long[] {4L, 53});
+
+        // When
+        ProductChangeCoalescer<long[]> coalescer = ProductChangeCoalescer.of(changes, change -> change[0]);
+        ProductChangeCoalescer.Writes writes = coalescer.writesFor(List.of(
+                product(1L, 7, true),
+                product(2L, 3, true),
+                product(3L, 9, false)));
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L), List.copyOf(coalescer.getProductIds()));
+        assertEquals(50, coalescer.changesOf(1L).size());
+        assertEquals(List.of(50L, 52L), coalescer.changesOf(2L).stream().map(c -> c[1]).collect(Collectors.toList()));
+        assertEquals(List.of(1L, 2L), writes.getUpserts().stream().map(Product::getId).collect(Collectors.toList()));
+        assertEquals(7, writes.getUpserts().get(0).getStockQuantity());
+        // Product 3 is inactive and product 4 no longer exists
+        assertEquals(Set.of(3L, 4L), writes.getRemovals());
+    }
+
+    @Test
+    @DisplayName("Should ignore current rows of products that did not change")
+    void shouldIgnoreUnchangedProducts() {
+        // Given
+        ProductChangeCoalescer<Long> coalescer = ProductChangeCoalescer.of(List.of(1L), id -> id);
+
+        // When
+        ProductChangeCoalescer.Writes writes = coalescer.writesFor(List.of(product(1L, 1, true), product(9L, 1, true)));
+
+        // Then
+        assertEquals(List.of(1L), writes.getUpserts().stream().map(Product::getId).collect(Collectors.toList()));
+        assertTrue(writes.getRemovals().isEmpty());
+        assertTrue(coalescer.changesOf(9L).isEmpty());
+    }
+
+    private static Product product(Long id, int stock, boolean active) {
+        Product product = new Product();
+        product.setId(id);
+        product.setName("Product " + id);
+        product.setStockQuantity(stock);
+        product.setActive(active);
+        return product;
+    }
+}
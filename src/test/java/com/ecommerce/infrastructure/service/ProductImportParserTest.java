@@ -0,0 +1,76 @@
+package com.ecommerce.infrastructure.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProductImportParserTest {
+
+    @Test
+    @DisplayName("Should parse CSV rows with quoted fields and default optional columns")
+    void shouldParseCsvRow() {
+        // Given
+        ProductImportParser parser = ProductImportParser.csv("sku,name,base_price,description,category_id");
+
+        // When
+        ProductImportParser.Result result = parser.parse(2, "ABC-1,\"Desk, Oak\",149.90,\"The \"\"best\"\" desk\",7");
+
+        // Then
+        assertTrue(result.isValid());
+        assertEquals("Desk, Oak", result.getRow().getName());
+        assertEquals("The \"best\" desk", result.getRow().getDescription());
+        assertEquals(new BigDecimal("149.90"), result.getRow().getPrice());
+        assertEquals(7L, result.getRow().getCategoryId());
+        assertEquals("desk-oak-abc-1", result.getRow().getSlug());
+        assertEquals("USD", result.getRow().getCurrency());
+        assertTrue(result.getRow().isActive());
+    }
+
+    @Test
+    @DisplayName("Should parse JSONL rows")
+    void shouldParseJsonlRow() {
+        // Given
+        ProductImportParser parser = ProductImportParser.jsonl(new ObjectMapper());
+
+        // When
+        ProductImportParser.Result result = parser.parse(1,
+                "{\"sku\":\"X1\",\"name\":\"Lamp\",\"description\":\"Desk lamp\",\"price\":20,\"stockQuantity\":5,\"featured\":true,\"currency\":\"eur\"}");
+
+        // Then
+        assertTrue(result.isValid());
+        assertEquals(5, result.getRow().getStockQuantity());
+        assertTrue(result.getRow().isFeatured());
+        assertEquals("EUR", result.getRow().getCurrency());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid rows with a line-specific message")
+    void shouldRejectInvalidRows() {
+        // Given
+        ProductImportParser parser = ProductImportParser.csv("sku,name,price,description");
+
+        // When
+        List<ProductImportParser.Result> results = List.of(
+                parser.parse(2, ",Lamp,10,Desk lamp"),
+                parser.parse(3, "X1,Lamp,-1,Desk lamp"),
+                parser.parse(4, "X1,Lamp,10"),
+                ProductImportParser.jsonl(new ObjectMapper()).parse(5, "{not json"),
+                parser.parse(6, "x-1,Lamp,10,Desk lamp"),
+                parser.parse(7, "X1,Lamp,10,"),
+                parser.parse(8, "X1,Lamp,10," + "d".repeat(1001)));
+
+        // Then
+        assertTrue(results.stream().noneMatch(ProductImportParser.Result::isValid));
+        assertEquals("sku is required", results.get(0).getError());
+        assertEquals("Expected 4 columns but found 3", results.get(2).getError());
+        assertEquals("Malformed JSONL line", results.get(3).getError());
+        assertTrue(results.get(4).getError().startsWith("sku can only contain"));
+        assertEquals("description is required", results.get(5).getError());
+        assertEquals("description must be at most 1000 characters", results.get(6).getError());
+    }
+}
@@ -0,0 +1,134 @@
+package com.ecommerce.infrastructure.service;
+
+import com.ecommerce.adapter.persistence.cache.CatalogVersion;
+import com.ecommerce.adapter.persistence.implementation.SimpleProductRepositoryImpl;
+import com.ecommerce.core.domain.product.entity.Product;
+import com.ecommerce.infrastructure.event.SearchOutbox;
+import com.ecommerce.infrastructure.external.search.BulkIndexResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchOutboxRelayTest {
+
+    @Test
+    @DisplayName("Should write each product once per batch from its current state and acknowledge applied rows")
+    void shouldRelayCurrentState() {
+        // Given
+        SimpleProductRepositoryImpl products = new SimpleProductRepositoryImpl();
+        Long active = products.save(product("Desk Lamp", true)).getId();
+        Long inactive = products.save(product("Old Lamp", false)).getId();
+        Long missing = 999_999L;
+        FakeOutbox outbox = new FakeOutbox(List.of(
+                new SearchOutbox.Entry(1, active, 0),
+                new SearchOutbox.Entry(2, inactive, 0),
+                new SearchOutbox.Entry(3, active, 0),
+                new SearchOutbox.Entry(4, missing, 0)));
+        RecordingSyncService sync = new RecordingSyncService(null);
+        SearchOutboxRelay relay = relay(outbox, products, sync);
+
+        // When
+        int relayed = relay.relayBatch();
+
+        // Then
+        assertEquals(4, relayed);
+        assertEquals(List.of(List.of(active)), sync.upsertedIds);
+        assertTrue(sync.deleted.containsAll(List.of(inactive.toString(), missing.toString())));
+        assertEquals(List.of(1L, 2L, 3L, 4L), outbox.deleted.stream().sorted().collect(Collectors.toList()));
+        assertTrue(outbox.rescheduled.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep rows of products the index rejected for a later retry")
+    void shouldRescheduleFailures() {
+        // Given
+        SimpleProductRepositoryImpl products = new SimpleProductRepositoryImpl();
+        Long active = products.save(product("Desk Lamp", true)).getId();
+        Long inactive = products.save(product("Old Lamp", false)).getId();
+        FakeOutbox outbox = new FakeOutbox(List.of(
+                new SearchOutbox.Entry(1, active, 2),
+                new SearchOutbox.Entry(2, inactive, 0)));
+        SearchOutboxRelay relay = relay(outbox, products, new RecordingSyncService(new IllegalStateException("ES down")));
+
+        // When
+        relay.relayBatch();
+
+        // Then
+        assertEquals(List.of(2L), outbox.deleted);
+        assertEquals(List.of(1L), outbox.rescheduled);
+    }
+
+    private static SearchOutboxRelay relay(FakeOutbox outbox, SimpleProductRepositoryImpl products,
+                                           RecordingSyncService sync) {
+        return new SearchOutboxRelay(outbox, products, sync, new CatalogVersion(Duration.ofHours(1)), null,
+                10, Duration.ofSeconds(1), Duration.ofMinutes(5));
+    }
+
+    private static Product product(String name, boolean active) {
+        Product product = new Product();
+        product.setName(name);
+        product.setSku(name.toUpperCase().replace(' ', '-'));
+        product.setPrice(new BigDecimal("19.99"));
+        product.setActive(active);
+        return product;
+    }
+
+    private static final class FakeOutbox extends SearchOutbox {
+        private final List<Entry> due;
+        private final List<Long> deleted = new ArrayList<>();
+        private final List<Long> rescheduled = new ArrayList<>();
+
+        FakeOutbox(List<Entry> due) {
+            super(null);
+            this.due = due;
+        }
+
+        @Override
+        public List<Entry> claim(int limit) {
+            return due;
+        }
+
+        @Override
+        public void delete(Collection<Entry> entries) {
+            entries.forEach(entry -> deleted.add(entry.getId()));
+        }
+
+        @Override
+        public void reschedule(Collection<Entry> entries, String error, Duration initialBackoff, Duration maxBackoff) {
+            entries.forEach(entry -> rescheduled.add(entry.getId()));
+        }
+    }
+
+    private static final class RecordingSyncService extends ProductSyncService {
+        private final RuntimeException failure;
+        private final List<List<Long>> upsertedIds = new ArrayList<>();
+        private final List<String> deleted = new ArrayList<>();
+
+        RecordingSyncService(RuntimeException failure) {
+            super(null, null, null, null, null, null, 1);
+            this.failure = failure;
+        }
+
+        @Override
+        public BulkIndexResult syncProductsToElasticsearch(Collection<Product> products) {
+            if (failure != null) {
+                throw failure;
+            }
+            upsertedIds.add(products.stream().map(Product::getId).collect(Collectors.toList()));
+            return new BulkIndexResult();
+        }
+
+        @Override
+        public void deleteProductFromIndex(String productId) {
+            deleted.add(productId);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.ecommerce.shared.pagination;
+
+import com.ecommerce.shared.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CursorTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 30, 15);
+
+    @Test
+    @DisplayName("Should round-trip through its opaque token")
+    void shouldRoundTripThroughToken() {
+        // Given
+        Cursor cursor = Cursor.of(NOW, 42L);
+
+        // When
+        Cursor decoded = Cursor.decode(cursor.encode());
+
+        // Then
+        assertEquals(cursor, decoded);
+    }
+
+    @Test
+    @DisplayName("Should treat a missing token as the first page and reject garbage")
+    void shouldHandleMissingAndInvalidTokens() {
+        assertNull(Cursor.decode(null));
+        assertNull(Cursor.decode(" "));
+        assertThrows(ValidationException.class, () -> Cursor.decode("not-a-cursor"));
+    }
+
+    @Test
+    @DisplayName("Should order rows newest first with id as tie-breaker")
+    void shouldOrderNewestFirst() {
+        // Given
+        Cursor cursor = Cursor.of(NOW, 10L);
+
+        // Then
+        assertTrue(cursor.isFollowedBy(NOW.minusSeconds(1), 99L));
+        assertTrue(cursor.isFollowedBy(NOW, 9L));
+        assertFalse(cursor.isFollowedBy(NOW, 10L));
+        assertFalse(cursor.isFollowedBy(NOW.plusSeconds(1), 1L));
+    }
+
+    @Test
+    @DisplayName("Should use the look-ahead row only to signal a next page")
+    void shouldBuildPageFromLookahead() {
+        // When
+        CursorPage<Long> page = CursorPage.fromLookahead(List.of(3L, 2L, 1L), 2, id -> Cursor.of(NOW, id));
+        CursorPage<Long> last = CursorPage.fromLookahead(List.of(1L), 2, id -> Cursor.of(NOW, id));
+
+        // Then
+        assertIterableEquals(List.of(3L, 2L), page.getContent());
+        assertTrue(page.isHasNext());
+        assertEquals(Cursor.of(NOW, 2L), Cursor.decode(page.getNextCursor()));
+        assertFalse(last.isHasNext());
+        assertNull(last.getNextCursor());
+    }
+}